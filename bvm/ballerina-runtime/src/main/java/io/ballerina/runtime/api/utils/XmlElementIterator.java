@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.api.utils;
+
+import io.ballerina.runtime.api.values.BXml;
+
+import java.util.Iterator;
+
+/**
+ * An iterator over the elements of an XML document which are read one at a time, as the iterator is advanced.
+ * <p>
+ * The iterator holds a parser over the document until the end of the document is reached. It should be closed when
+ * the iteration is stopped early, e.g. by using it in a try-with-resources statement.
+ *
+ * @since 2.0.0
+ */
+public interface XmlElementIterator extends Iterator<BXml>, AutoCloseable {
+
+    /**
+     * Closes the parser over the document. The reader or input stream the document is read from is not closed.
+     */
+    @Override
+    void close();
+}
@@ -28,6 +28,7 @@ import io.ballerina.runtime.internal.values.TableValueImpl;
 import io.ballerina.runtime.internal.values.XmlQName;
 
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
 
 /**
@@ -88,6 +89,48 @@ public class XmlUtils {
         return XmlFactory.parse(reader);
     }
 
+    /**
+     * Create an iterator over the elements of a XML inputstream which match the given path. Only the matching
+     * elements are built as XML values, as the iterator is advanced, hence a large document can be processed one
+     * element at a time.
+     * <p>
+     * The path is a sequence of element names separated by {@code /}, starting from the root element, e.g.
+     * {@code Envelope/Body/*}. A name is either a local name, an expanded name of the form
+     * <code>{namespace-uri}local-name</code> or {@code *}, which matches any element.
+     *
+     * @param xmlStream   XML input stream
+     * @param elementPath Path of the elements to read
+     * @return Iterator over the matching elements, which should be closed if it is not read to the end
+     */
+    public static XmlElementIterator parseElements(InputStream xmlStream, String elementPath) {
+        return XmlFactory.parseElements(new InputStreamReader(xmlStream), elementPath);
+    }
+
+    /**
+     * Create an iterator over the elements of a XML inputstream with a given charset which match the given path.
+     *
+     * @param xmlStream   XML input stream
+     * @param charset     Charset to be used for parsing
+     * @param elementPath Path of the elements to read
+     * @return Iterator over the matching elements, which should be closed if it is not read to the end
+     * @see #parseElements(InputStream, String)
+     */
+    public static XmlElementIterator parseElements(InputStream xmlStream, String charset, String elementPath) {
+        return XmlFactory.parseElements(xmlStream, charset, elementPath);
+    }
+
+    /**
+     * Create an iterator over the elements of a XML reader which match the given path.
+     *
+     * @param reader      XML reader
+     * @param elementPath Path of the elements to read
+     * @return Iterator over the matching elements, which should be closed if it is not read to the end
+     * @see #parseElements(InputStream, String)
+     */
+    public static XmlElementIterator parseElements(Reader reader, String elementPath) {
+        return XmlFactory.parseElements(reader, elementPath);
+    }
+
     /**
      * Converts a {@link io.ballerina.runtime.internal.values.TableValue} to {@link BXml}.
      *
@@ -21,9 +21,15 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The lock can be held by a single writer, or shared by any number of readers. Lock statements which only read the
+ * locked variables acquire it as readers. Both kinds of holds are reentrant, and a strand holding the write lock may
+ * also acquire it as a reader. Waiting writers are preferred over new readers so that writers are not starved.
  *
  * @since 1.0.0
  */
@@ -33,39 +39,125 @@ public class BLock {
 
     private ArrayDeque<Strand> waitingForLock;
 
+    // Strands which hold the lock as readers, with the number of times each of them has acquired it
+    private Map<Strand, Integer> readers;
+
+    private ArrayDeque<Strand> waitingForReadLock;
+
+    // Store of the module the lock belongs to, if any
+    private final BLockStore lockStore;
+
     public BLock() {
+        this(null);
+    }
+
+    public BLock(BLockStore lockStore) {
+        this.lockStore = lockStore;
         this.current = new ArrayDeque<>();
         this.waitingForLock = new ArrayDeque<>();
+        this.readers = new HashMap<>();
+        this.waitingForReadLock = new ArrayDeque<>();
     }
 
     public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
+        if (isLockFree() || isWriteLockedBy(strand)) {
             this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
             return true;
         }
 
         this.waitingForLock.offerLast(strand);
+        block(strand);
+        return false;
+    }
 
-        // Strand state change
-        strand.setState(State.BLOCK_AND_YIELD);
-        strand.blockedOnExtern = false;
+    public synchronized boolean lockRead(Strand strand) {
+        if (isWriteLockedBy(strand)) {
+            // Released through unlockRead, which removes it from the write holds
+            this.current.offerLast(strand);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        Integer holdCount = this.readers.get(strand);
+        if (holdCount != null) {
+            this.readers.put(strand, holdCount + 1);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        if (this.current.isEmpty() && this.waitingForLock.isEmpty()) {
+            this.readers.put(strand, 1);
+            strand.addAcquiredLock(this);
+            return true;
+        }
+
+        this.waitingForReadLock.offerLast(strand);
+        block(strand);
         return false;
     }
 
     public synchronized void unlock() {
         //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        Strand strand = this.current.removeLast();
+        strand.removeAcquiredLock(this);
+        if (isLockFree()) {
+            unblockWaitingStrands();
         }
     }
 
-    public boolean isLockFree() {
-        return this.current.isEmpty();
+    public synchronized void unlockRead(Strand strand) {
+        if (isWriteLockedBy(strand)) {
+            unlock();
+            return;
+        }
+
+        //strand holds the lock as a reader as unlockRead cannot be called without lockRead being called first.
+        int holdCount = this.readers.get(strand);
+        strand.removeAcquiredLock(this);
+        if (holdCount > 1) {
+            this.readers.put(strand, holdCount - 1);
+            return;
+        }
+        this.readers.remove(strand);
+        if (isLockFree()) {
+            unblockWaitingStrands();
+        }
+    }
+
+    BLockStore getLockStore() {
+        return lockStore;
+    }
+
+    public synchronized boolean isLockFree() {
+        return this.current.isEmpty() && this.readers.isEmpty();
+    }
+
+    public synchronized boolean lockedBySameContext(Strand ctx) {
+        return isWriteLockedBy(ctx) || this.readers.containsKey(ctx);
+    }
+
+    private boolean isWriteLockedBy(Strand strand) {
+        return !this.current.isEmpty() && this.current.getLast() == strand;
     }
 
-    public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+    private void block(Strand strand) {
+        // Strand state change
+        strand.setState(State.BLOCK_AND_YIELD);
+        strand.blockedOnExtern = false;
+    }
+
+    // Unblocked strands retry acquiring the lock when they are resumed
+    private void unblockWaitingStrands() {
+        if (!this.waitingForLock.isEmpty()) {
+            Strand strand = this.waitingForLock.removeFirst();
+            strand.scheduler.unblockStrand(strand);
+            return;
+        }
+
+        while (!this.waitingForReadLock.isEmpty()) {
+            Strand strand = this.waitingForReadLock.removeFirst();
+            strand.scheduler.unblockStrand(strand);
+        }
     }
 }
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.internal;
 
 import com.ctc.wstx.api.WstxOutputProperties;
+import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
@@ -65,6 +66,7 @@ public class BallerinaXmlSerializer extends OutputStream {
     private Deque<Set<String>> parentNSSet;
     private int nsNumber;
     private boolean withinElement;
+    private int openStartTags;
     private static boolean isDefaultFactory = false;
 
     static {
@@ -186,7 +188,55 @@ public class BallerinaXmlSerializer extends OutputStream {
         return writer.toCharArray();
     }
 
+    /**
+     * Writes the start tag of the given element, along with its namespace declarations and attributes, but not its
+     * children. Content written after this, up to the matching {@link #writeEndTag()}, is written as the children of
+     * the element. This allows a large xml document to be written one child at a time.
+     *
+     * @param xmlValue xml element whose start tag is written
+     */
+    public void writeStartTag(BXml xmlValue) {
+        if (xmlValue.getNodeType() != XmlNodeType.ELEMENT) {
+            throw new IllegalStateException("Unexpected value: " + xmlValue.getNodeType());
+        }
+        try {
+            writeStartTag((XmlItem) xmlValue);
+        } catch (XMLStreamException e) {
+            BLangExceptionHelper.handleXMLException(PARSE_XML_OP, e);
+        }
+        this.openStartTags++;
+        this.withinElement = true;
+    }
+
+    /**
+     * Writes the end tag of the element whose start tag was last written using {@link #writeStartTag(BXml)}.
+     */
+    public void writeEndTag() {
+        if (this.openStartTags == 0) {
+            throw new IllegalStateException("No open start tag to end");
+        }
+        try {
+            writeEndTagInternal();
+        } catch (XMLStreamException e) {
+            BLangExceptionHelper.handleXMLException(PARSE_XML_OP, e);
+        }
+        this.openStartTags--;
+        this.withinElement = this.openStartTags > 0;
+    }
+
     private void writeElement(XmlItem xmlValue) throws XMLStreamException {
+        writeStartTag(xmlValue);
+
+        // Track and override xml text escape when xml text is within an element.
+        boolean prevWithinElementFlag = this.withinElement;
+        this.withinElement = true;
+        xmlValue.getChildrenSeq().serialize(this);
+        this.withinElement = prevWithinElementFlag;
+
+        writeEndTagInternal();
+    }
+
+    private void writeStartTag(XmlItem xmlValue) throws XMLStreamException {
         // Setup namespace hierarchy
         Set<String> prevNSSet = this.parentNSSet.peek();
         HashSet<String> currentNSLevel = prevNSSet == null ? new HashSet<>() : new HashSet<>(prevNSSet);
@@ -205,13 +255,9 @@ public class BallerinaXmlSerializer extends OutputStream {
 
         // Write attributes
         writeAttributes(currentNSLevel, attributeMap);
+    }
 
-        // Track and override xml text escape when xml text is within an element.
-        boolean prevWithinElementFlag = this.withinElement;
-        this.withinElement = true;
-        xmlValue.getChildrenSeq().serialize(this);
-        this.withinElement = prevWithinElementFlag;
-
+    private void writeEndTagInternal() throws XMLStreamException {
         xmlStreamWriter.writeEndElement();
         // Reset namespace decl hierarchy for this node.
         this.parentNSSet.pop();
@@ -388,6 +434,9 @@ public class BallerinaXmlSerializer extends OutputStream {
     private void splitAttributesAndNSPrefixes(XmlItem xmlValue,
                                               Map<String, String> nsPrefixMap,
                                               Map<String, String> attributeMap) {
+        if (!xmlValue.hasAttributes()) {
+            return;
+        }
         // Extract namespace entries
         for (Map.Entry<BString, BString> attributeEntry : xmlValue.getAttributesMap().entrySet()) {
             String key = attributeEntry.getKey().getValue();
@@ -32,6 +32,7 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
@@ -68,7 +69,9 @@ public class JsonGenerator {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        // UTF-8 is encoded by the generator itself, which avoids the charset encoder and the copies in between
+        this(StandardCharsets.UTF_8.equals(charset) ? new Utf8ByteWriter(out) :
+                new BufferedWriter(new OutputStreamWriter(out, charset)));
     }
 
     public JsonGenerator(Writer writer) {
@@ -150,24 +153,23 @@ public class JsonGenerator {
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        this.writer.write('"');
         int count = value.length();
         char ch;
         boolean escaped = false;
-        char[] chs = value.toCharArray();
         for (int i = 0; i < count; i++) {
-            ch = chs[i];
+            ch = value.charAt(i);
             if (ch < escChars.length && escChars[ch]) {
                 escaped = true;
                 break;
             }
         }
         if (escaped) {
-            this.writeStringEsc(chs);
+            this.writeStringEsc(value.toCharArray());
         } else {
-            this.writer.write(chs);
+            this.writer.write(value);
         }
-        this.writer.write("\"");
+        this.writer.write('"');
     }
 
     public void writeString(String value) throws IOException {
@@ -272,6 +274,20 @@ public class JsonGenerator {
         this.writer.flush();
     }
 
+    /**
+     * Serializes the given JSON construct to a string. The characters are appended to the string as they are
+     * generated, without encoding them to bytes in between.
+     *
+     * @param json JSON construct
+     * @return the JSON string
+     * @throws IOException If an error occurs while serializing the JSON construct.
+     */
+    public static String toJsonString(Object json) throws IOException {
+        StringBuilderWriter writer = new StringBuilderWriter();
+        new JsonGenerator(writer).serialize(json);
+        return writer.toString();
+    }
+
     @SuppressWarnings("unchecked")
     public void serialize(Object json) throws IOException {
         if (json == null) {
@@ -323,4 +339,45 @@ public class JsonGenerator {
                 break;
         }
     }
+
+    /**
+     * An unsynchronized {@link Writer} which appends to a {@link StringBuilder}.
+     */
+    private static class StringBuilderWriter extends Writer {
+
+        private final StringBuilder builder = new StringBuilder();
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            builder.append(chars, offset, length);
+        }
+
+        @Override
+        public void write(String str) {
+            builder.append(str);
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            builder.append(str, offset, offset + length);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public String toString() {
+            return builder.toString();
+        }
+    }
 }
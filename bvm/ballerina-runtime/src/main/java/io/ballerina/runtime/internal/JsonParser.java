@@ -100,7 +100,7 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(String jsonStr) throws BError {
-        return parse(new StringReader(jsonStr), JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        return parse(jsonStr, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
     }
 
     /**
@@ -112,6 +112,12 @@ public class JsonParser {
      * @throws BError for any parsing error
      */
     public static Object parse(String jsonStr, JsonUtils.NonStringValueProcessingMode mode) throws BError {
+        if (LazyJsonParser.isEnabledFor(jsonStr)) {
+            Object jsonObj = LazyJsonParser.parse(jsonStr, mode);
+            if (jsonObj != null) {
+                return jsonObj;
+            }
+        }
         return parse(new StringReader(jsonStr), mode);
     }
 
@@ -142,10 +148,83 @@ public class JsonParser {
         }
     }
 
+    /**
+     * Returns the value of a non-string token, i.e. a number, a boolean or null.
+     *
+     * @param str  the token
+     * @param mode the mode to use when processing numeric values
+     * @return the value of the token
+     * @throws JsonParserException if the token is not a valid value
+     */
+    static Object parseNonStringValue(String str, JsonUtils.NonStringValueProcessingMode mode)
+            throws JsonParserException {
+        if (str.indexOf('.') >= 0) {
+            try {
+                switch (mode) {
+                    case FROM_JSON_FLOAT_STRING:
+                        return Double.parseDouble(str);
+                    case FROM_JSON_DECIMAL_STRING:
+                        return new DecimalValue(str);
+                    default:
+                        if (isNegativeZero(str)) {
+                            return Double.parseDouble(str);
+                        }
+                        return new DecimalValue(str);
+                }
+            } catch (NumberFormatException ignore) {
+                throw new JsonParserException("unrecognized token '" + str + "'");
+            }
+        }
+
+        char ch = str.charAt(0);
+        if (ch == 't' && StateMachine.TRUE.equals(str)) {
+            return Boolean.TRUE;
+        } else if (ch == 'f' && StateMachine.FALSE.equals(str)) {
+            return Boolean.FALSE;
+        } else if (ch == 'n' && StateMachine.NULL.equals(str)) {
+            return null;
+        }
+
+        try {
+            switch (mode) {
+                case FROM_JSON_FLOAT_STRING:
+                    return Double.parseDouble(str);
+                case FROM_JSON_DECIMAL_STRING:
+                    return new DecimalValue(str);
+                default:
+                    if (isNegativeZero(str)) {
+                        return Double.parseDouble(str);
+                    }
+                    return Long.parseLong(str);
+            }
+        } catch (NumberFormatException ignore) {
+            throw new JsonParserException("unrecognized token '" + str + "'");
+        }
+    }
+
+    private static boolean isNegativeZero(String str) {
+        return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
+    }
+
+    /**
+     * Returns the type of the JSON objects and arrays created in the given mode.
+     *
+     * @param mode the mode to use when processing numeric values
+     * @return the constraint type of the JSON objects and arrays
+     */
+    static Type getJsonType(JsonUtils.NonStringValueProcessingMode mode) {
+        if (mode == FROM_JSON_DECIMAL_STRING) {
+            return PredefinedTypes.TYPE_JSON_DECIMAL;
+        } else if (mode == FROM_JSON_FLOAT_STRING) {
+            return PredefinedTypes.TYPE_JSON_FLOAT;
+        }
+        return PredefinedTypes.TYPE_JSON;
+    }
+
     /**
      * Represents a JSON parser related exception.
      */
-    private static class JsonParserException extends Exception {
+    static class JsonParserException extends Exception {
 
         private static final long serialVersionUID = 6359022327525293320L;
 
@@ -237,13 +316,7 @@ public class JsonParser {
 
         private void setMode(JsonUtils.NonStringValueProcessingMode mode) {
             this.mode = mode;
-            if (this.mode == FROM_JSON_DECIMAL_STRING) {
-                definedJsonType = PredefinedTypes.TYPE_JSON_DECIMAL;
-            } else if (this.mode == FROM_JSON_FLOAT_STRING) {
-                definedJsonType = PredefinedTypes.TYPE_JSON_FLOAT;
-            } else {
-                definedJsonType = PredefinedTypes.TYPE_JSON;
-            }
+            this.definedJsonType = getJsonType(mode);
         }
 
         private static boolean isWhitespace(char ch) {
@@ -843,96 +916,7 @@ public class JsonParser {
         }
 
         private void processNonStringValue(ValueType type) throws JsonParserException {
-            String str = value();
-            if (str.indexOf('.') >= 0) {
-                try {
-                    switch (mode) {
-                        case FROM_JSON_FLOAT_STRING:
-                            setValueToJsonType(type, Double.parseDouble(str));
-                            break;
-                        case FROM_JSON_DECIMAL_STRING:
-                            setValueToJsonType(type, new DecimalValue(str));
-                            break;
-                        default:
-                            if (isNegativeZero(str)) {
-                                setValueToJsonType(type, Double.parseDouble(str));
-                            } else {
-                                setValueToJsonType(type, new DecimalValue(str));
-                            }
-                            break;
-                    }
-                } catch (NumberFormatException ignore) {
-                    throw new JsonParserException("unrecognized token '" + str + "'");
-                }
-            } else {
-                char ch = str.charAt(0);
-                if (ch == 't' && TRUE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.TRUE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.TRUE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.TRUE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'f' && FALSE.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(Boolean.FALSE);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), Boolean.FALSE);
-                            break;
-                        case VALUE:
-                            currentJsonNode = Boolean.FALSE;
-                            break;
-                        default:
-                            break;
-                    }
-                } else if (ch == 'n' && NULL.equals(str)) {
-                    switch (type) {
-                        case ARRAY_ELEMENT:
-                            ((ArrayValue) this.currentJsonNode).append(null);
-                            break;
-                        case FIELD:
-                            ((MapValueImpl<BString, Object>) this.currentJsonNode).put(
-                                    StringUtils.fromString(this.fieldNames.pop()), null);
-                            break;
-                        case VALUE:
-                            currentJsonNode = null;
-                            break;
-                        default:
-                            break;
-                    }
-                } else {
-                    try {
-                        switch (mode) {
-                            case FROM_JSON_FLOAT_STRING:
-                                setValueToJsonType(type, Double.parseDouble(str));
-                                break;
-                            case FROM_JSON_DECIMAL_STRING:
-                                setValueToJsonType(type, new DecimalValue(str));
-                                break;
-                            default:
-                                if (isNegativeZero(str)) {
-                                    setValueToJsonType(type, Double.parseDouble(str));
-                                } else {
-                                    setValueToJsonType(type, Long.parseLong(str));
-                                }
-                                break;
-                        }
-                    } catch (NumberFormatException ignore) {
-                        throw new JsonParserException("unrecognized token '" + str + "'");
-                    }
-                }
-            }
+            setValueToJsonType(type, parseNonStringValue(value(), mode));
         }
 
         private void setValueToJsonType(ValueType type, Object value) {
@@ -950,10 +934,6 @@ public class JsonParser {
             }
         }
 
-        private boolean isNegativeZero(String str) {
-            return '-' == str.charAt(0) && 0 == Double.parseDouble(str);
-        }
-
         /**
          * Represents the state during a non-string value is defined.
          */
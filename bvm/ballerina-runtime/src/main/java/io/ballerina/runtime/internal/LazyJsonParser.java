@@ -0,0 +1,428 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.LazyJsonMapValue;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Parses large JSON documents lazily.
+ * <p>
+ * The document is validated and the positions of its objects and arrays are indexed in a single pass, without
+ * creating any values. Objects are created as {@link LazyJsonMapValue}s, whose members are read from the document
+ * when they are first accessed. Hence only the parts of a document which are accessed are materialized.
+ * <p>
+ * Lazy parsing is enabled by setting the BALLERINA_LAZY_JSON_MIN_LENGTH system variable to the minimum length of the
+ * JSON strings to be parsed lazily. Documents which are neither objects nor arrays, which are nested too deeply or
+ * which are not strictly valid are left to {@link JsonParser}, which reports the errors.
+ *
+ * @since 2.0.0
+ */
+public class LazyJsonParser {
+
+    private static final PrintStream err = System.err;
+    private static final int MAX_DEPTH = 512;
+    private static final int minLength = readMinLength();
+
+    private LazyJsonParser() {
+    }
+
+    static boolean isEnabledFor(String jsonStr) {
+        return minLength > 0 && jsonStr.length() >= minLength;
+    }
+
+    private static int readMinLength() {
+        String minLengthConf = System.getenv(RuntimeConstants.BALLERINA_LAZY_JSON_MIN_LENGTH_ENV_VAR);
+        if (minLengthConf == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(minLengthConf);
+        } catch (NumberFormatException e) {
+            // Log and continue with lazy parsing disabled
+            err.println("ballerina: error occurred while reading system variable:" +
+                    RuntimeConstants.BALLERINA_LAZY_JSON_MIN_LENGTH_ENV_VAR + ", " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Parses the given JSON object or array lazily.
+     *
+     * @param jsonStr the string which contains the JSON content
+     * @param mode    the mode to use when processing numeric values
+     * @return the JSON value, or null if the document cannot be parsed lazily
+     */
+    public static Object parse(String jsonStr, JsonUtils.NonStringValueProcessingMode mode) {
+        Document document = new Document(jsonStr, mode);
+        int start = document.skipWhitespace(0);
+        if (start == jsonStr.length() || (jsonStr.charAt(start) != '{' && jsonStr.charAt(start) != '[')) {
+            return null;
+        }
+        int end;
+        try {
+            end = document.indexValue(start, 0);
+            if (end < 0 || document.skipWhitespace(end) != jsonStr.length()) {
+                return null;
+            }
+        } catch (JsonParser.JsonParserException e) {
+            return null;
+        }
+        return document.readValue(start, end);
+    }
+
+    /**
+     * An indexed JSON document.
+     * <p>
+     * The start positions of objects and arrays are recorded in the order they appear in the document, together with
+     * their end positions. Once indexed, a document is only read, hence it can be shared by the values created
+     * from it.
+     */
+    public static class Document {
+
+        private final String source;
+        private final JsonUtils.NonStringValueProcessingMode mode;
+        private final Type jsonType;
+        private int[] starts = new int[16];
+        private int[] ends = new int[16];
+        private int count;
+
+        private Document(String source, JsonUtils.NonStringValueProcessingMode mode) {
+            this.source = source;
+            this.mode = mode;
+            this.jsonType = JsonParser.getJsonType(mode);
+        }
+
+        /**
+         * Reads the members of the object which starts at the given position.
+         *
+         * @param start          start position of the object
+         * @param memberConsumer consumer of the member names and values
+         */
+        public void readObject(int start, BiConsumer<BString, Object> memberConsumer) {
+            int pos = skipWhitespace(start + 1);
+            if (source.charAt(pos) == '}') {
+                return;
+            }
+            while (true) {
+                int keyEnd = endOfString(pos);
+                BString key = StringUtils.fromString(readString(pos, keyEnd));
+                // Skip the ':'
+                pos = skipWhitespace(skipWhitespace(keyEnd) + 1);
+                int valueEnd = endOfValue(pos);
+                memberConsumer.accept(key, readValue(pos, valueEnd));
+                pos = skipWhitespace(valueEnd);
+                if (source.charAt(pos) == '}') {
+                    return;
+                }
+                // Skip the ','
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        private ArrayValueImpl readArray(int start) {
+            ArrayValueImpl array = new ArrayValueImpl(new BArrayType(jsonType));
+            int pos = skipWhitespace(start + 1);
+            if (source.charAt(pos) == ']') {
+                return array;
+            }
+            while (true) {
+                int valueEnd = endOfValue(pos);
+                array.append(readValue(pos, valueEnd));
+                pos = skipWhitespace(valueEnd);
+                if (source.charAt(pos) == ']') {
+                    return array;
+                }
+                // Skip the ','
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        private Object readValue(int start, int end) {
+            switch (source.charAt(start)) {
+                case '{':
+                    return new LazyJsonMapValue(new BMapType(jsonType), this, start);
+                case '[':
+                    return readArray(start);
+                case '"':
+                    return StringUtils.fromString(readString(start, end));
+                default:
+                    try {
+                        return JsonParser.parseNonStringValue(source.substring(start, end), mode);
+                    } catch (JsonParser.JsonParserException e) {
+                        // Tokens are validated when the document is indexed
+                        throw new IllegalStateException(e);
+                    }
+            }
+        }
+
+        private int endOfValue(int start) {
+            switch (source.charAt(start)) {
+                case '{':
+                case '[':
+                    return ends[Arrays.binarySearch(starts, 0, count, start)] + 1;
+                case '"':
+                    return endOfString(start);
+                default:
+                    return endOfToken(start);
+            }
+        }
+
+        // Returns the position after the closing quote of the string which starts at the given position
+        private int endOfString(int start) {
+            int pos = start + 1;
+            while (true) {
+                char ch = source.charAt(pos);
+                if (ch == '"') {
+                    return pos + 1;
+                }
+                pos += ch == '\\' ? 2 : 1;
+            }
+        }
+
+        private String readString(int start, int end) {
+            int contentEnd = end - 1;
+            int escape = start + 1;
+            while (escape < contentEnd && source.charAt(escape) != '\\') {
+                escape++;
+            }
+            if (escape == contentEnd) {
+                return source.substring(start + 1, contentEnd);
+            }
+
+            StringBuilder builder = new StringBuilder(contentEnd - start);
+            builder.append(source, start + 1, escape);
+            int pos = escape;
+            while (pos < contentEnd) {
+                char ch = source.charAt(pos);
+                if (ch != '\\') {
+                    builder.append(ch);
+                    pos++;
+                    continue;
+                }
+                char escaped = source.charAt(pos + 1);
+                switch (escaped) {
+                    case 'b':
+                        builder.append('\b');
+                        break;
+                    case 'f':
+                        builder.append('\f');
+                        break;
+                    case 'n':
+                        builder.append('\n');
+                        break;
+                    case 'r':
+                        builder.append('\r');
+                        break;
+                    case 't':
+                        builder.append('\t');
+                        break;
+                    case 'u':
+                        builder.append((char) Integer.parseInt(source.substring(pos + 2, pos + 6), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        // '"', '\\' and '/'
+                        builder.append(escaped);
+                        break;
+                }
+                pos += 2;
+            }
+            return builder.toString();
+        }
+
+        private int endOfToken(int start) {
+            int pos = start;
+            int length = source.length();
+            while (pos < length) {
+                char ch = source.charAt(pos);
+                if (isWhitespace(ch) || ch == ',' || ch == '}' || ch == ']' || ch == '{' || ch == '[' || ch == '"'
+                        || ch == ':') {
+                    break;
+                }
+                pos++;
+            }
+            return pos;
+        }
+
+        private int skipWhitespace(int pos) {
+            int length = source.length();
+            while (pos < length && isWhitespace(source.charAt(pos))) {
+                pos++;
+            }
+            return pos;
+        }
+
+        private static boolean isWhitespace(char ch) {
+            return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+        }
+
+        /*
+         * Below methods validate and index the document. Each returns the position after the value which starts at
+         * the given position, or -1 if the document is not strictly valid there.
+         */
+
+        private int indexValue(int start, int depth) throws JsonParser.JsonParserException {
+            if (start == source.length()) {
+                return -1;
+            }
+            switch (source.charAt(start)) {
+                case '{':
+                    return depth < MAX_DEPTH ? indexObject(start, depth + 1) : -1;
+                case '[':
+                    return depth < MAX_DEPTH ? indexArray(start, depth + 1) : -1;
+                case '"':
+                    return indexString(start);
+                default:
+                    int end = endOfToken(start);
+                    if (end == start) {
+                        return -1;
+                    }
+                    JsonParser.parseNonStringValue(source.substring(start, end), mode);
+                    return end;
+            }
+        }
+
+        private int indexObject(int start, int depth) throws JsonParser.JsonParserException {
+            int id = addContainer(start);
+            int pos = skipWhitespace(start + 1);
+            if (pos < source.length() && source.charAt(pos) == '}') {
+                ends[id] = pos;
+                return pos + 1;
+            }
+            while (true) {
+                if (pos == source.length() || source.charAt(pos) != '"') {
+                    return -1;
+                }
+                pos = skipWhitespace(indexString(pos));
+                if (pos < 0 || pos == source.length() || source.charAt(pos) != ':') {
+                    return -1;
+                }
+                pos = indexValue(skipWhitespace(pos + 1), depth);
+                if (pos < 0) {
+                    return -1;
+                }
+                pos = skipWhitespace(pos);
+                if (pos == source.length()) {
+                    return -1;
+                }
+                char ch = source.charAt(pos);
+                if (ch == '}') {
+                    ends[id] = pos;
+                    return pos + 1;
+                }
+                if (ch != ',') {
+                    return -1;
+                }
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        private int indexArray(int start, int depth) throws JsonParser.JsonParserException {
+            int id = addContainer(start);
+            int pos = skipWhitespace(start + 1);
+            if (pos < source.length() && source.charAt(pos) == ']') {
+                ends[id] = pos;
+                return pos + 1;
+            }
+            while (true) {
+                pos = indexValue(pos, depth);
+                if (pos < 0) {
+                    return -1;
+                }
+                pos = skipWhitespace(pos);
+                if (pos == source.length()) {
+                    return -1;
+                }
+                char ch = source.charAt(pos);
+                if (ch == ']') {
+                    ends[id] = pos;
+                    return pos + 1;
+                }
+                if (ch != ',') {
+                    return -1;
+                }
+                pos = skipWhitespace(pos + 1);
+            }
+        }
+
+        private int indexString(int start) {
+            int length = source.length();
+            int pos = start + 1;
+            while (pos < length) {
+                char ch = source.charAt(pos);
+                if (ch == '"') {
+                    return pos + 1;
+                }
+                if (ch != '\\') {
+                    pos++;
+                    continue;
+                }
+                if (pos + 1 == length) {
+                    return -1;
+                }
+                switch (source.charAt(pos + 1)) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                    case 'b':
+                    case 'f':
+                    case 'n':
+                    case 'r':
+                    case 't':
+                        pos += 2;
+                        break;
+                    case 'u':
+                        if (pos + 6 > length) {
+                            return -1;
+                        }
+                        for (int i = pos + 2; i < pos + 6; i++) {
+                            if (Character.digit(source.charAt(i), 16) < 0) {
+                                return -1;
+                            }
+                        }
+                        pos += 6;
+                        break;
+                    default:
+                        return -1;
+                }
+            }
+            return -1;
+        }
+
+        private int addContainer(int start) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = start;
+            return count++;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.types.Type;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of type-only {@link TypeChecker#checkIsType(Type, Type)} results, keyed by the identities of the
+ * source and the target types.
+ * <p>
+ * The maximum number of cached results can be changed by setting the BALLERINA_TYPE_CHECK_CACHE_SIZE system
+ * variable. Setting it to 0 disables the cache.
+ *
+ * @since 2.0.0
+ */
+public final class TypeCheckCache {
+
+    private static final PrintStream err = System.err;
+    private static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final int maxSize;
+    private final Map<TypePairKey, Boolean> results;
+
+    public TypeCheckCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.results = maxSize > 0 ? new ConcurrentHashMap<>() : null;
+    }
+
+    static TypeCheckCache create() {
+        String maxSizeConf = System.getenv(RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR);
+        int maxSize = DEFAULT_MAX_SIZE;
+        try {
+            if (maxSizeConf != null) {
+                maxSize = Integer.parseInt(maxSizeConf);
+            }
+        } catch (NumberFormatException e) {
+            // Log and continue with default
+            err.println("ballerina: error occurred while reading system variable:" +
+                    RuntimeConstants.BALLERINA_TYPE_CHECK_CACHE_SIZE_ENV_VAR + ", " + e.getMessage());
+        }
+        return new TypeCheckCache(maxSize);
+    }
+
+    public boolean isEnabled() {
+        return results != null;
+    }
+
+    public Boolean get(Type sourceType, Type targetType) {
+        return results.get(new TypePairKey(sourceType, targetType));
+    }
+
+    public void put(Type sourceType, Type targetType, boolean result) {
+        if (results.size() >= maxSize) {
+            // Types are rarely created dynamically, hence the cache is simply reset instead of tracking usage.
+            results.clear();
+        }
+        results.put(new TypePairKey(sourceType, targetType), result);
+    }
+
+    public int size() {
+        return results == null ? 0 : results.size();
+    }
+
+    /**
+     * Key of a cached result. Types are compared by identity, since the structural equality of some types does not
+     * cover all the properties that affect the result of a type check.
+     */
+    private static final class TypePairKey {
+
+        private final Type sourceType;
+        private final Type targetType;
+        private final int hashCode;
+
+        TypePairKey(Type sourceType, Type targetType) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.hashCode = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TypePairKey)) {
+                return false;
+            }
+            TypePairKey other = (TypePairKey) obj;
+            return this.sourceType == other.sourceType && this.targetType == other.targetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
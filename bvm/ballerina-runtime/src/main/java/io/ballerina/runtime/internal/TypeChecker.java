@@ -128,6 +128,7 @@ import static io.ballerina.runtime.api.utils.TypeUtils.isValueType;
 public class TypeChecker {
 
     private static final byte MAX_TYPECAST_ERROR_COUNT = 20;
+    private static final TypeCheckCache TYPE_CHECK_CACHE = TypeCheckCache.create();
 
     public static Object checkCast(Object sourceVal, Type targetType) {
 
@@ -604,6 +605,22 @@ public class TypeChecker {
             return true;
         }
 
+        // Results computed while resolving recursive types depend on the type pairs which are assumed to match at
+        // the moment, hence only the results of top level checks are cached.
+        if (unresolvedTypes != null || !TYPE_CHECK_CACHE.isEnabled()) {
+            return checkIsTypeUncached(sourceType, targetType, unresolvedTypes);
+        }
+
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        boolean result = checkIsTypeUncached(sourceType, targetType, null);
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result);
+        return result;
+    }
+
+    private static boolean checkIsTypeUncached(Type sourceType, Type targetType, List<TypePair> unresolvedTypes) {
         if (checkIsNeverTypeOrStructureTypeWithARequiredNeverMember(sourceType)) {
             return true;
         }
@@ -0,0 +1,449 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BListInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parses a JSON document directly into values of a given type.
+ * <p>
+ * Converting a JSON string to a user specified type otherwise parses the string to {@code json} values, which are
+ * then checked against the type and copied. This parser instead uses the type to create the final values while
+ * parsing, hence neither the intermediate values nor the second pass over them are required. The field types and
+ * required fields of record types are computed once per type.
+ * <p>
+ * The values created are the same as those created by the conversion. Types for which the conversion is not
+ * straightforward, such as unions other than optional types, tuples, tables, xml and readonly types, as well as
+ * documents which are not strictly valid or do not belong to the type, are not handled. In such cases the parser
+ * returns null, so that the conversion is done as before and reports the errors.
+ *
+ * @since 2.0.0
+ */
+public class TypedJsonParser {
+
+    private static final int MAX_DEPTH = 512;
+    private static final Map<Type, RecordLayout> recordLayouts = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final BTypedesc typedesc;
+    private int pos;
+
+    private TypedJsonParser(String source, BTypedesc typedesc) {
+        this.source = source;
+        this.typedesc = typedesc;
+    }
+
+    /**
+     * Parses the given JSON object or array to a value of the type described by the given typedesc.
+     *
+     * @param jsonStr  the string which contains the JSON content
+     * @param typedesc typedesc of the target type
+     * @return the value, or null if the document cannot be parsed directly to the type
+     */
+    public static Object parse(String jsonStr, BTypedesc typedesc) {
+        TypedJsonParser parser = new TypedJsonParser(jsonStr, typedesc);
+        try {
+            char ch = parser.skipWhitespaceAndPeek();
+            if (ch != '{' && ch != '[') {
+                return null;
+            }
+            Object value = parser.readValue(typedesc.getDescribingType(), 0);
+            parser.skipWhitespace();
+            return parser.pos == jsonStr.length() ? value : null;
+        } catch (UnsupportedInputException e) {
+            return null;
+        }
+    }
+
+    private Object readValue(Type type, int depth) {
+        if (depth == MAX_DEPTH) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        switch (type.getTag()) {
+            case TypeTags.RECORD_TYPE_TAG:
+                return readRecord((BRecordType) type, depth);
+            case TypeTags.MAP_TAG:
+                return readMap((BMapType) type, depth);
+            case TypeTags.ARRAY_TAG:
+                return readArray((BArrayType) type, depth);
+            case TypeTags.JSON_TAG:
+            case TypeTags.ANYDATA_TAG:
+                if (type.isReadOnly()) {
+                    throw UnsupportedInputException.INSTANCE;
+                }
+                return readAnyValue(type, depth);
+            case TypeTags.UNION_TAG:
+                Type memberType = getNonNilMemberType((BUnionType) type);
+                if (peek() == 'n') {
+                    Object value = readToken();
+                    if (value != null) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    return null;
+                }
+                return readValue(memberType, depth);
+            case TypeTags.INT_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.NULL_TAG:
+                return readSimpleValue(type);
+            default:
+                throw UnsupportedInputException.INSTANCE;
+        }
+    }
+
+    private Object readRecord(BRecordType type, int depth) {
+        if (type.isReadOnly()) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        RecordLayout layout = recordLayouts.computeIfAbsent(type,
+                                                            recordType -> new RecordLayout((BRecordType) recordType));
+        boolean instantiate = typedesc.getDescribingType() == type;
+        // Values are populated in the same order as the conversion does
+        Map<String, Object> fieldValues = instantiate ? new LinkedHashMap<>() : new HashMap<>();
+
+        expect('{');
+        if (skipWhitespaceAndPeek() == '}') {
+            pos++;
+        } else {
+            do {
+                skipWhitespaceAndPeek();
+                String fieldName = readString();
+                skipWhitespace();
+                expect(':');
+                Type fieldType = layout.fieldTypes.get(fieldName);
+                if (fieldType == null) {
+                    if (type.sealed || type.restFieldType == null) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    fieldType = type.restFieldType;
+                }
+                skipWhitespace();
+                fieldValues.put(fieldName, readValue(fieldType, depth + 1));
+            } while (readSeparator('}'));
+        }
+
+        for (String requiredField : layout.requiredFields) {
+            if (!fieldValues.containsKey(requiredField)) {
+                throw UnsupportedInputException.INSTANCE;
+            }
+        }
+
+        if (!instantiate) {
+            return ValueUtils.createRecordValue(type.getPackage(), type.getName(), fieldValues);
+        }
+        BMapInitialValueEntry[] initialValues = new BMapInitialValueEntry[fieldValues.size()];
+        int count = 0;
+        for (Map.Entry<String, Object> fieldValue : fieldValues.entrySet()) {
+            initialValues[count++] = ValueCreator.createKeyFieldEntry(StringUtils.fromString(fieldValue.getKey()),
+                                                                      fieldValue.getValue());
+        }
+        return typedesc.instantiate(Scheduler.getStrandNoException(), initialValues);
+    }
+
+    private Object readMap(BMapType type, int depth) {
+        if (type.isReadOnly()) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        return ValueCreator.createMapValue(type, readMembers(type.getConstrainedType(), depth));
+    }
+
+    private Object readArray(BArrayType type, int depth) {
+        if (type.isReadOnly() || type.getState() == ArrayType.ArrayState.CLOSED) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        List<Object> elements = readElements(type.getElementType(), depth);
+        BListInitialValueEntry[] initialValues = new BListInitialValueEntry[elements.size()];
+        for (int i = 0; i < initialValues.length; i++) {
+            initialValues[i] = ValueCreator.createListInitialValueEntry(elements.get(i));
+        }
+        return ValueCreator.createArrayValue(type, type.getSize(), initialValues);
+    }
+
+    // Reads a value of the json or anydata type, in which objects and arrays are constrained by the same type
+    private Object readAnyValue(Type type, int depth) {
+        switch (peek()) {
+            case '{':
+                return new MapValueImpl<>(new BMapType(type), readMembers(type, depth));
+            case '[':
+                return new ArrayValueImpl(readElements(type, depth).toArray(), new BArrayType(type));
+            case '"':
+                return StringUtils.fromString(readString());
+            default:
+                return readToken();
+        }
+    }
+
+    private BMapInitialValueEntry[] readMembers(Type memberType, int depth) {
+        List<BMapInitialValueEntry> members = new ArrayList<>();
+        expect('{');
+        if (skipWhitespaceAndPeek() == '}') {
+            pos++;
+            return new BMapInitialValueEntry[0];
+        }
+        do {
+            skipWhitespaceAndPeek();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+            members.add(ValueCreator.createKeyFieldEntry(StringUtils.fromString(key),
+                                                         readValue(memberType, depth + 1)));
+        } while (readSeparator('}'));
+        return members.toArray(new BMapInitialValueEntry[0]);
+    }
+
+    private List<Object> readElements(Type elementType, int depth) {
+        List<Object> elements = new ArrayList<>();
+        expect('[');
+        if (skipWhitespaceAndPeek() == ']') {
+            pos++;
+            return elements;
+        }
+        do {
+            skipWhitespace();
+            elements.add(readValue(elementType, depth + 1));
+        } while (readSeparator(']'));
+        return elements;
+    }
+
+    private Object readSimpleValue(Type type) {
+        Object value = peek() == '"' ? StringUtils.fromString(readString()) : readToken();
+        if (value == null) {
+            if (type.isNilable()) {
+                return null;
+            }
+            throw UnsupportedInputException.INSTANCE;
+        }
+        if (TypeChecker.getType(value).getTag() == type.getTag()) {
+            return value;
+        }
+        if (TypeChecker.checkIsLikeType(value, type, true)) {
+            return TypeConverter.convertValues(type, value);
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private static Type getNonNilMemberType(BUnionType type) {
+        List<Type> memberTypes = type.getMemberTypes();
+        if (memberTypes.size() != 2) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        if (memberTypes.get(0).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(1);
+        }
+        if (memberTypes.get(1).getTag() == TypeTags.NULL_TAG) {
+            return memberTypes.get(0);
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    // Reads the ',' or the given closing character after a member, and returns whether there are more members
+    private boolean readSeparator(char closingChar) {
+        char ch = skipWhitespaceAndPeek();
+        pos++;
+        if (ch == ',') {
+            return true;
+        }
+        if (ch == closingChar) {
+            return false;
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private String readString() {
+        expect('"');
+        int start = pos;
+        int length = source.length();
+        while (pos < length) {
+            char ch = source.charAt(pos);
+            if (ch == '"') {
+                return source.substring(start, pos++);
+            }
+            if (ch == '\\') {
+                return readEscapedString(start);
+            }
+            pos++;
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder builder = new StringBuilder(source.substring(start, pos));
+        int length = source.length();
+        while (pos < length) {
+            char ch = source.charAt(pos++);
+            if (ch == '"') {
+                return builder.toString();
+            }
+            if (ch != '\\') {
+                builder.append(ch);
+                continue;
+            }
+            switch (peek()) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(source.charAt(pos));
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    if (pos + 5 > length) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    try {
+                        builder.append((char) Integer.parseInt(source.substring(pos + 1, pos + 5), 16));
+                    } catch (NumberFormatException e) {
+                        throw UnsupportedInputException.INSTANCE;
+                    }
+                    pos += 4;
+                    break;
+                default:
+                    throw UnsupportedInputException.INSTANCE;
+            }
+            pos++;
+        }
+        throw UnsupportedInputException.INSTANCE;
+    }
+
+    private Object readToken() {
+        int start = pos;
+        int length = source.length();
+        while (pos < length) {
+            char ch = source.charAt(pos);
+            if (isWhitespace(ch) || ch == ',' || ch == '}' || ch == ']' || ch == '{' || ch == '[' || ch == '"'
+                    || ch == ':') {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        try {
+            return JsonParser.parseNonStringValue(source.substring(start, pos),
+                                                  JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        } catch (JsonParser.JsonParserException e) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+    }
+
+    private void expect(char expected) {
+        if (peek() != expected) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        pos++;
+    }
+
+    private char peek() {
+        if (pos == source.length()) {
+            throw UnsupportedInputException.INSTANCE;
+        }
+        return source.charAt(pos);
+    }
+
+    private char skipWhitespaceAndPeek() {
+        skipWhitespace();
+        return peek();
+    }
+
+    private void skipWhitespace() {
+        int length = source.length();
+        while (pos < length && isWhitespace(source.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    /**
+     * Field types and required fields of a record type.
+     */
+    private static class RecordLayout {
+
+        private final Map<String, Type> fieldTypes;
+        private final List<String> requiredFields = new ArrayList<>();
+
+        private RecordLayout(BRecordType recordType) {
+            Map<String, Field> fields = recordType.getFields();
+            this.fieldTypes = new HashMap<>(fields.size() * 2);
+            for (Field field : fields.values()) {
+                fieldTypes.put(field.getFieldName(), field.getFieldType());
+                if (SymbolFlags.isFlagOn(field.getFlags(), SymbolFlags.REQUIRED)) {
+                    requiredFields.add(field.getFieldName());
+                }
+            }
+        }
+    }
+
+    /**
+     * Thrown when the document cannot be parsed directly to the target type.
+     */
+    private static class UnsupportedInputException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        private static final UnsupportedInputException INSTANCE = new UnsupportedInputException();
+
+        private UnsupportedInputException() {
+            // Stack traces are not required, since the exception is only used to fall back to the conversion
+            super(null, null, false, false);
+        }
+    }
+}
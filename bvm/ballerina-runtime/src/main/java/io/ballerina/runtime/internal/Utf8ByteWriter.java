@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A {@link Writer} which encodes characters to UTF-8 directly into a byte buffer, which is written to the given
+ * {@link OutputStream} when it is full or flushed.
+ * <p>
+ * Unlike {@code OutputStreamWriter}, this neither synchronizes nor goes through a {@code CharsetEncoder}. The buffer
+ * is borrowed from a per thread pool on the first write and returned on flush, hence a writer which is used from a
+ * single thread and flushed at the end does not allocate a buffer. Unpaired surrogates are written as {@code '?'},
+ * similar to {@code OutputStreamWriter}.
+ *
+ * @since 2.0.0
+ */
+class Utf8ByteWriter extends Writer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Holds a free buffer of the thread, or null while the buffer is borrowed by a writer
+    private static final ThreadLocal<byte[]> bufferPool = new ThreadLocal<>();
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int count;
+    private char pendingHighSurrogate;
+
+    Utf8ByteWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        ensureCapacity(4);
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            ensureCapacity(4);
+            char c = chars[i];
+            if (c < 0x80 && pendingHighSurrogate == 0) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        for (int i = offset; i < offset + length; i++) {
+            ensureCapacity(4);
+            char c = str.charAt(i);
+            if (c < 0x80 && pendingHighSurrogate == 0) {
+                buffer[count++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer != null) {
+            out.write(buffer, 0, count);
+            count = 0;
+            bufferPool.set(buffer);
+            buffer = null;
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (pendingHighSurrogate != 0) {
+            pendingHighSurrogate = 0;
+            ensureCapacity(1);
+            buffer[count++] = '?';
+        }
+        flush();
+        out.close();
+    }
+
+    private void encode(char c) {
+        if (pendingHighSurrogate != 0) {
+            char highSurrogate = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(highSurrogate, c);
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            // Four bytes are reserved for each character, hence there is room for the current one as well
+            buffer[count++] = '?';
+        }
+
+        if (c < 0x80) {
+            buffer[count++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[count++] = (byte) (0xC0 | (c >> 6));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer[count++] = '?';
+        } else {
+            buffer[count++] = (byte) (0xE0 | (c >> 12));
+            buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer == null) {
+            buffer = bufferPool.get();
+            if (buffer == null) {
+                buffer = new byte[BUFFER_SIZE];
+            } else {
+                bufferPool.set(null);
+            }
+        } else if (count > buffer.length - length) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
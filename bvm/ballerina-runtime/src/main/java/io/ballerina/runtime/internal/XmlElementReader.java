@@ -0,0 +1,173 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlElementIterator;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Reads the elements of an XML document which match a given path, one at a time.
+ * <p>
+ * Only the matching elements are built as xml values. The rest of the document is skipped as it is read, hence the
+ * memory used is bounded by the size of the largest matching element rather than the size of the document.
+ * <p>
+ * The path is a sequence of element names separated by {@code /}, starting from the root element of the document,
+ * e.g. {@code Envelope/Body/*}. A name is either a local name, an expanded name of the form
+ * <code>{namespace-uri}local-name</code> or {@code *}, which matches any element.
+ *
+ * @since 2.0.0
+ */
+public class XmlElementReader implements XmlElementIterator {
+
+    private static final String ANY_ELEMENT = "*";
+
+    private final XMLStreamReader xmlStreamReader;
+    private final XmlTreeBuilder treeBuilder;
+    private final String[] path;
+    // Depth of the element being read and the number of its ancestors which match the path
+    private int depth;
+    private int matchedDepth;
+    private BXml nextElement;
+    private boolean endOfDocument;
+
+    public XmlElementReader(Reader reader, String elementPath) {
+        this.path = splitPath(elementPath);
+        try {
+            this.xmlStreamReader = XmlTreeBuilder.createXMLStreamReader(reader);
+        } catch (XMLStreamException e) {
+            throw createError(e);
+        }
+        this.treeBuilder = new XmlTreeBuilder(xmlStreamReader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextElement == null && !endOfDocument) {
+            nextElement = readNextElement();
+        }
+        return nextElement != null;
+    }
+
+    @Override
+    public BXml next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        BXml element = nextElement;
+        nextElement = null;
+        return element;
+    }
+
+    @Override
+    public void close() {
+        endOfDocument = true;
+        nextElement = null;
+        try {
+            xmlStreamReader.close();
+        } catch (XMLStreamException e) {
+            throw createError(e);
+        }
+    }
+
+    private BXml readNextElement() {
+        try {
+            while (xmlStreamReader.hasNext()) {
+                switch (xmlStreamReader.next()) {
+                    case START_ELEMENT:
+                        if (depth == matchedDepth && matches(path[depth], xmlStreamReader.getName())) {
+                            if (depth == path.length - 1) {
+                                // The builder consumes the events up to the end of the element
+                                return treeBuilder.parseElement();
+                            }
+                            matchedDepth++;
+                        }
+                        depth++;
+                        break;
+                    case END_ELEMENT:
+                        depth--;
+                        if (matchedDepth > depth) {
+                            matchedDepth = depth;
+                        }
+                        break;
+                    case END_DOCUMENT:
+                        close();
+                        return null;
+                    default:
+                        // Content outside the matching elements is skipped
+                        break;
+                }
+            }
+        } catch (BError e) {
+            throw e;
+        } catch (Throwable e) {
+            throw createError(e);
+        }
+        close();
+        return null;
+    }
+
+    // Splits the path at the separators which are not within the namespace URI of an expanded name
+    private static String[] splitPath(String elementPath) {
+        List<String> names = new ArrayList<>();
+        int start = 0;
+        boolean withinNamespaceUri = false;
+        for (int i = 0; i < elementPath.length(); i++) {
+            char ch = elementPath.charAt(i);
+            if (ch == '{') {
+                withinNamespaceUri = true;
+            } else if (ch == '}') {
+                withinNamespaceUri = false;
+            } else if (ch == '/' && !withinNamespaceUri) {
+                names.add(elementPath.substring(start, i));
+                start = i + 1;
+            }
+        }
+        names.add(elementPath.substring(start));
+        return names.toArray(new String[0]);
+    }
+
+    private static boolean matches(String name, QName elementName) {
+        if (name.equals(ANY_ELEMENT)) {
+            return true;
+        }
+        if (name.startsWith("{")) {
+            return name.equals("{" + elementName.getNamespaceURI() + "}" + elementName.getLocalPart());
+        }
+        return name.equals(elementName.getLocalPart());
+    }
+
+    private static BError createError(Throwable e) {
+        return ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.runtime.internal;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.types.XmlNodeType;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlElementIterator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
@@ -47,6 +48,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -139,6 +141,35 @@ public class XmlFactory {
         }
     }
 
+    /**
+     * Create an iterator over the elements of a XML document which match the given path. The elements are read from
+     * the reader as the iterator is advanced.
+     *
+     * @param reader XML reader
+     * @param elementPath Path of the elements to read, starting from the root element, e.g. {@code Envelope/Body/*}
+     * @return Iterator over the matching elements
+     */
+    public static XmlElementIterator parseElements(Reader reader, String elementPath) {
+        return new XmlElementReader(reader, elementPath);
+    }
+
+    /**
+     * Create an iterator over the elements of a XML document which match the given path, reading the document from
+     * an inputstream with a given charset.
+     *
+     * @param xmlStream XML input stream
+     * @param charset Charset to be used for parsing
+     * @param elementPath Path of the elements to read, starting from the root element, e.g. {@code Envelope/Body/*}
+     * @return Iterator over the matching elements
+     */
+    public static XmlElementIterator parseElements(InputStream xmlStream, String charset, String elementPath) {
+        try {
+            return new XmlElementReader(new InputStreamReader(xmlStream, charset), elementPath);
+        } catch (UnsupportedEncodingException e) {
+            throw ErrorCreator.createError(StringUtils.fromString("failed to create xml: " + e.getMessage()));
+        }
+    }
+
     /**
      * Concatenate two XML sequences and produce a single sequence.
      *
@@ -26,7 +26,6 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.internal.values.XmlComment;
 import io.ballerina.runtime.internal.values.XmlItem;
 import io.ballerina.runtime.internal.values.XmlPi;
-import io.ballerina.runtime.internal.values.XmlQName;
 import io.ballerina.runtime.internal.values.XmlSequence;
 
 import java.io.Reader;
@@ -73,6 +72,8 @@ public class XmlTreeBuilder {
     private Map<String, String> namespaces; // xml ns declarations from Bal source [xmlns "http://ns.com" as ns]
     private Deque<BXmlSequence> seqDeque;
     private Deque<List<BXml>> siblingDeque;
+    // Element names read so far, shared by the elements of the same name instead of each holding its own copy
+    private Map<QName, QName> elementNames;
 
     public XmlTreeBuilder(String str) {
         this(new StringReader(str));
@@ -82,6 +83,7 @@ public class XmlTreeBuilder {
         namespaces = new HashMap<>();
         seqDeque = new ArrayDeque<>();
         siblingDeque = new ArrayDeque<>();
+        elementNames = new HashMap<>();
 
         ArrayList<BXml> siblings = new ArrayList<>();
         siblingDeque.push(siblings);
@@ -94,6 +96,24 @@ public class XmlTreeBuilder {
         }
     }
 
+    /**
+     * Creates a tree builder which builds elements read from the given {@code XMLStreamReader}, using
+     * {@link #parseElement()}.
+     *
+     * @param xmlStreamReader reader positioned at the elements to build
+     */
+    XmlTreeBuilder(XMLStreamReader xmlStreamReader) {
+        this.namespaces = new HashMap<>();
+        this.seqDeque = new ArrayDeque<>();
+        this.siblingDeque = new ArrayDeque<>();
+        this.elementNames = new HashMap<>();
+        this.xmlStreamReader = xmlStreamReader;
+    }
+
+    static XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+        return xmlInputFactory.createXMLStreamReader(reader);
+    }
+
     private void handleXMLStreamException(Exception e) {
         // todo: do e.getMessage contain all the information? verify
         throw new BallerinaException(e.getMessage(), e);
@@ -103,31 +123,10 @@ public class XmlTreeBuilder {
         try {
             while (xmlStreamReader.hasNext()) {
                 int next = xmlStreamReader.next();
-                switch (next) {
-                    case START_ELEMENT:
-                        readElement(xmlStreamReader);
-                        break;
-                    case END_ELEMENT:
-                        endElement();
-                        break;
-                    case PROCESSING_INSTRUCTION:
-                        readPI(xmlStreamReader);
-                        break;
-                    case COMMENT:
-                        readComment(xmlStreamReader);
-                        break;
-                    case CDATA:
-                    case CHARACTERS:
-                        readText(xmlStreamReader);
-                        break;
-                    case END_DOCUMENT:
-                        return buildDocument();
-                    case DTD:
-                        handleDTD(xmlStreamReader);
-                        break;
-                    default:
-                        assert false;
+                if (next == END_DOCUMENT) {
+                    return buildDocument();
                 }
+                readEvent(next);
             }
         } catch (Exception e) {
             handleXMLStreamException(e);
@@ -136,6 +135,62 @@ public class XmlTreeBuilder {
         return null;
     }
 
+    /**
+     * Builds the element at which the reader is positioned, i.e. the element of the last {@code START_ELEMENT}
+     * event read. The reader is left at the {@code END_ELEMENT} event of the element.
+     *
+     * @return the element
+     */
+    BXml parseElement() {
+        List<BXml> siblings = new ArrayList<>(1);
+        siblingDeque.push(siblings);
+        try {
+            readElement(xmlStreamReader);
+            int depth = 1;
+            while (depth > 0) {
+                int next = xmlStreamReader.next();
+                if (next == START_ELEMENT) {
+                    depth++;
+                } else if (next == END_ELEMENT) {
+                    depth--;
+                }
+                readEvent(next);
+            }
+        } catch (Exception e) {
+            handleXMLStreamException(e);
+        } finally {
+            siblingDeque.clear();
+            seqDeque.clear();
+        }
+        return siblings.get(0);
+    }
+
+    private void readEvent(int event) {
+        switch (event) {
+            case START_ELEMENT:
+                readElement(xmlStreamReader);
+                break;
+            case END_ELEMENT:
+                endElement();
+                break;
+            case PROCESSING_INSTRUCTION:
+                readPI(xmlStreamReader);
+                break;
+            case COMMENT:
+                readComment(xmlStreamReader);
+                break;
+            case CDATA:
+            case CHARACTERS:
+                readText(xmlStreamReader);
+                break;
+            case DTD:
+                handleDTD(xmlStreamReader);
+                break;
+            default:
+                assert false;
+        }
+    }
+
     private void handleDTD(XMLStreamReader xmlStreamReader) {
         // ignore
     }
@@ -161,15 +216,18 @@ public class XmlTreeBuilder {
     }
 
     private void endElement() {
-        this.siblingDeque.pop();
+        List<BXml> children = this.siblingDeque.pop();
+        if (children instanceof ArrayList) {
+            // No more children are added to the element, hence release the spare capacity of the list
+            ((ArrayList<BXml>) children).trimToSize();
+        }
         this.seqDeque.pop();
     }
 
     private void readElement(XMLStreamReader xmlStreamReader) {
-        QName elemName = xmlStreamReader.getName();
-        XmlQName name = new XmlQName(elemName.getLocalPart(),
-                                     elemName.getNamespaceURI(), elemName.getPrefix());
-        XmlItem xmlItem = (XmlItem) XmlFactory.createXMLElement(name, name, null);
+        // The name is read from a well-formed document, hence it need not be validated as in an xml literal
+        QName elemName = getElementName(xmlStreamReader.getName());
+        XmlItem xmlItem = new XmlItem(elemName, false);
 
         seqDeque.push(xmlItem.getChildrenSeq());
 
@@ -177,14 +235,30 @@ public class XmlTreeBuilder {
         populateAttributeMap(xmlStreamReader, xmlItem, elemName);
         siblingDeque.push(xmlItem.getChildrenSeq().getChildrenList());
     }
+
+    private QName getElementName(QName name) {
+        QName elementName = elementNames.putIfAbsent(name, name);
+        // Names with the same namespace URI and local name are equal, even if their prefixes are different
+        if (elementName == null || !elementName.getPrefix().equals(name.getPrefix())) {
+            return name;
+        }
+        return elementName;
+    }
+
     // need to duplicate the same in xmlItem.setAttribute
 
     // todo: need to write a comment explaining each step
     private void populateAttributeMap(XMLStreamReader xmlStreamReader, XmlItem xmlItem, QName elemName) {
+        int count = xmlStreamReader.getAttributeCount();
+        int namespaceCount = xmlStreamReader.getNamespaceCount();
+        if (count == 0 && namespaceCount == 0 && elemName.getPrefix().isEmpty()) {
+            // Avoid creating an attribute map for an element which has none
+            return;
+        }
+
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
         Set<QName> usedNS = new HashSet<>(); // Track namespace prefixes found in this element.
 
-        int count = xmlStreamReader.getAttributeCount();
         for (int i = 0; i < count; i++) {
             QName attributeName = xmlStreamReader.getAttributeName(i);
             attributesMap.put(StringUtils.fromString(attributeName.toString()),
@@ -208,7 +282,6 @@ public class XmlTreeBuilder {
             attributesMap.put(xmlnsPrefix, StringUtils.fromString(namespaceURI));
         }
 
-        int namespaceCount = xmlStreamReader.getNamespaceCount();
         for (int i = 0; i < namespaceCount; i++) {
             String uri = xmlStreamReader.getNamespaceURI(i);
             String prefix = xmlStreamReader.getNamespacePrefix(i);
@@ -35,14 +35,13 @@ import java.io.PrintStream;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Semaphore;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -65,7 +64,7 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunnableQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
     private final Strand previousStrand;
@@ -73,6 +72,7 @@ public class Scheduler {
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
 
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
@@ -82,6 +82,12 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * Executor used to run strand groups in {@link SchedulerMode#VIRTUAL_THREADS} mode. The worker thread of the
+     * scheduler only dispatches the runnable groups to this executor in that mode.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
     private AtomicReference<ItemGroup> objectGroup = new AtomicReference<>();
@@ -91,10 +97,24 @@ public class Scheduler {
     }
 
     public Scheduler(int numThreads, boolean immortal) {
-        this.numThreads = numThreads;
+        this(numThreads, immortal, getSchedulerMode());
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulerMode mode) {
+        this.virtualThreadExecutor = mode == SchedulerMode.VIRTUAL_THREADS ?
+                createVirtualThreadExecutor() : null;
+        if (virtualThreadExecutor != null) {
+            // A single dispatcher is enough since strands are executed on virtual threads.
+            this.numThreads = 1;
+            this.previousStrand = null;
+        } else {
+            this.numThreads = numThreads;
+            this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
+        }
+        this.runnableList = mode == SchedulerMode.WORK_STEALING ? new WorkStealingRunnableQueue(numThreads) :
+                new GlobalRunnableQueue();
         this.immortal = immortal;
         this.listenerRegistry = new ListenerRegistry();
-        this.previousStrand = numThreads == 1 ? strandHolder.get().strand : null;
         ItemGroup group = new ItemGroup();
         objectGroup.set(group);
     }
@@ -231,7 +251,6 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
         runnableList.add(group);
         return future;
     }
@@ -257,7 +276,6 @@ public class Scheduler {
         totalStrands.incrementAndGet();
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
-        group.scheduled.set(true);
         runnableList.add(group);
         return future;
     }
@@ -265,22 +283,32 @@ public class Scheduler {
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerId = i;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
             RuntimeUtils.printCrashLog(e);
         }
+        if (virtualThreadExecutor != null) {
+            // Groups dispatched before the poison pill may still be running on virtual threads
+            virtualThreadExecutor.shutdown();
+            try {
+                virtualThreadExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                RuntimeUtils.printCrashLog(e);
+            }
+        }
     }
 
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
-            run();
+            run(workerId);
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
@@ -289,9 +317,9 @@ public class Scheduler {
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
-    private void run() {
+    private void run(int workerId) {
+        runnableList.registerWorker(workerId);
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
             try {
                 group = runnableList.take();
@@ -304,38 +332,60 @@ public class Scheduler {
                 break;
             }
 
-            boolean isItemsEmpty = group.items.isEmpty();
-            while (!isItemsEmpty) {
-                Object result = null;
-                Throwable panic = null;
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.execute(() -> runGroupSafely(group));
+            } else {
+                runGroup(group);
+            }
+        }
+    }
 
-                item = group.get();
+    private void runGroupSafely(ItemGroup group) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
+    }
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+    /**
+     * Executes the items of the given group until it does not have any runnable items left.
+     */
+    private void runGroup(ItemGroup group) {
+        while (true) {
+            Object result = null;
+            Throwable panic = null;
+
+            SchedulerItem item = group.get();
+            if (item == null) {
+                group.unschedule();
+                // An item may have been added after the group was found empty, but before it was unscheduled. In
+                // that case the thread which added the item may not have scheduled the group again.
+                if (group.isEmpty() || !group.trySchedule()) {
+                    return;
+                }
+                continue;
+            }
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = previousStrand;
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                group.lock();
-                if ((isItemsEmpty = group.items.empty())) {
-                    group.scheduled.set(false);
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                group.unlock();
+            } finally {
+                strandHolder.get().strand = previousStrand;
             }
+            postProcess(item, result, panic);
         }
     }
 
@@ -455,6 +505,7 @@ public class Scheduler {
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
         justCompleted.frames = null;
+        justCompleted.frameCount = 0;
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
     }
@@ -488,16 +539,14 @@ public class Scheduler {
     }
 
     private void addToRunnableList(SchedulerItem item, ItemGroup group) {
-        group.lock();
         group.add(item);
         // Group maybe not picked by any thread at the moment because,
         //  1) All items are blocked.
         //  2) All others have finished
         // In this case we need to put it back in the runnable list.
-        if (group.scheduled.compareAndSet(false, true)) {
+        if (group.trySchedule()) {
             runnableList.add(group);
         }
-        group.unlock();
     }
 
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
@@ -514,9 +563,7 @@ public class Scheduler {
     }
 
     private FutureValue createFuture(Strand parent, Callback callback, Type constraint, Strand newStrand) {
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Stack<>();
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
@@ -553,6 +600,28 @@ public class Scheduler {
         return poolSize;
     }
 
+    private static ExecutorService createVirtualThreadExecutor() {
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("jbal-strand-exec-");
+        if (executor == null) {
+            err.println("ballerina: virtual threads are not supported by the current JRE, scheduler mode '" +
+                    SchedulerMode.VIRTUAL_THREADS.getValue() + "' is ignored");
+        }
+        return executor;
+    }
+
+    private static SchedulerMode getSchedulerMode() {
+        try {
+            if (schedulerModeConf != null) {
+                return SchedulerMode.fromValue(schedulerModeConf);
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", " + t.getMessage());
+        }
+        return SchedulerMode.GLOBAL_QUEUE;
+    }
+
     /**
      * The registry for runtime dynamic listeners.
      */
@@ -590,6 +659,11 @@ class SchedulerItem {
     final FutureValue future;
     boolean parked;
 
+    /**
+     * Next item in the {@link ItemGroup} this item is queued in.
+     */
+    SchedulerItem next;
+
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
         this.function = function;
@@ -630,44 +704,84 @@ class SchedulerItem {
 
 /**
  * Represents a group of {@link SchedulerItem} that should run on same thread.
+ * <p>
+ * Items are kept in a lock-free stack which is linked through {@link SchedulerItem#next}, hence adding an item does
+ * not allocate. Any thread can add items to the group, but items are only taken by the thread which is executing the
+ * group at the moment.
  */
 class ItemGroup {
 
+    private static final AtomicReferenceFieldUpdater<ItemGroup, SchedulerItem> HEAD_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ItemGroup.class, SchedulerItem.class, "head");
+    private static final AtomicIntegerFieldUpdater<ItemGroup> SCHEDULED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ItemGroup.class, "scheduled");
+
     /**
-     * Keep the list of items that should run on same thread.
+     * Top of the stack of items that should run on same thread.
      * Using a stack to get advantage of the locality.
      */
-    Stack<SchedulerItem> items = new Stack<>();
+    private volatile SchedulerItem head;
 
     /**
      * Indicates this item is already in runnable list/executing or not.
      */
-    AtomicBoolean scheduled = new AtomicBoolean(false);
-
-    private final ReentrantLock groupLock = new ReentrantLock();
+    private volatile int scheduled;
 
     public static final ItemGroup POISON_PILL = new ItemGroup();
 
+    /**
+     * Creates a group with the given item, which is about to be added to the runnable list.
+     *
+     * @param item the first item of the group
+     */
     public ItemGroup(SchedulerItem item) {
-        items.push(item);
+        this.head = item;
+        this.scheduled = 1;
     }
 
     public ItemGroup() {
     }
 
     public void add(SchedulerItem item) {
-        items.push(item);
+        SchedulerItem top;
+        do {
+            top = head;
+            item.next = top;
+        } while (!HEAD_UPDATER.compareAndSet(this, top, item));
     }
 
+    /**
+     * Takes the most recently added item. Should only be called by the thread which is executing the group.
+     *
+     * @return the item, or {@code null} if the group is empty
+     */
     public SchedulerItem get() {
-        return items.pop();
+        SchedulerItem top;
+        do {
+            top = head;
+            if (top == null) {
+                return null;
+            }
+            // Only the executing thread removes items, hence `top` cannot be removed and re-added meanwhile.
+        } while (!HEAD_UPDATER.compareAndSet(this, top, top.next));
+        top.next = null;
+        return top;
+    }
+
+    public boolean isEmpty() {
+        return head == null;
     }
 
-    public void lock() {
-        this.groupLock.lock();
+    /**
+     * Marks the group as scheduled.
+     *
+     * @return true if the group was not already scheduled and needs to be added to the runnable list
+     */
+    public boolean trySchedule() {
+        return SCHEDULED_UPDATER.compareAndSet(this, 0, 1);
     }
 
-    public void unlock() {
-        this.groupLock.unlock();
+    public void unschedule() {
+        this.scheduled = 0;
     }
 }
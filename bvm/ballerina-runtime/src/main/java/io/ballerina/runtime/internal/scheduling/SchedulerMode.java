@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+/**
+ * Modes in which the {@link Scheduler} can distribute strands among its worker threads. The mode can be selected
+ * at startup by setting the BALLERINA_SCHEDULER_MODE environment variable.
+ *
+ * @since 2.0.0
+ */
+public enum SchedulerMode {
+
+    /**
+     * All the worker threads take runnable strands from a single shared queue.
+     */
+    GLOBAL_QUEUE("global"),
+
+    /**
+     * Each worker thread has its own queue and idle workers steal strands from the others.
+     */
+    WORK_STEALING("work-stealing"),
+
+    /**
+     * Runnable strand groups are executed on virtual threads, so that strands blocked on Java interop calls do not
+     * hold a platform thread. Requires a JRE which supports virtual threads.
+     */
+    VIRTUAL_THREADS("virtual-threads");
+
+    private final String value;
+
+    SchedulerMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static SchedulerMode fromValue(String value) {
+        for (SchedulerMode mode : SchedulerMode.values()) {
+            if (mode.value.equalsIgnoreCase(value.trim())) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("invalid scheduler mode '" + value + "'");
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.BLock;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -31,6 +32,7 @@ import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -58,12 +60,16 @@ import static io.ballerina.runtime.internal.scheduling.State.YIELD;
 public class Strand {
 
     private static AtomicInteger nextStrandId = new AtomicInteger(0);
+    private static final int INITIAL_FRAME_STACK_SIZE = 8;
 
     private int id;
     private String name;
     private StrandMetadata metadata;
 
-    public Stack<Object> frames;
+    // Frames of the functions suspended on this strand, with the innermost function at the bottom. Slots from
+    // frameCount onwards hold frames that were already resumed, which are reused when the strand yields again.
+    Object[] frames;
+    int frameCount;
     public int resumeIndex;
     public Object returnValue;
     public BError panic;
@@ -75,6 +81,9 @@ public class Strand {
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public boolean cancel;
+    // Locks of the lock statements the strand is currently within, in the order they were acquired. A lock acquired
+    // again by a nested lock statement is included once for each acquisition.
+    private List<BLock> acquiredLocks;
 
     SchedulerItem schedulerItem;
     List<WaitContext> waitingContexts;
@@ -381,10 +390,64 @@ public class Strand {
         return (this.state.getStatus() & YIELD.getStatus()) == YIELD.getStatus();
     }
 
+    /**
+     * Saves the frame of a function suspended on this strand.
+     *
+     * @param frame frame holding the local variables and the state of the function
+     */
+    public void pushFrame(Object frame) {
+        if (frames == null) {
+            frames = new Object[INITIAL_FRAME_STACK_SIZE];
+        } else if (frameCount == frames.length) {
+            frames = Arrays.copyOf(frames, frameCount * 2);
+        }
+        frames[frameCount++] = frame;
+    }
+
+    /**
+     * Removes the frame of the function being resumed. The frame is kept so that it can be reused by the next
+     * yield of the same function.
+     *
+     * @return frame of the function being resumed
+     */
+    public Object popFrame() {
+        return frames[--frameCount];
+    }
+
+    /**
+     * Returns a previously resumed frame that is free to be reused by the function yielding next.
+     *
+     * @return a reusable frame, or null if there is none
+     */
+    public Object getReusableFrame() {
+        return frames != null && frameCount < frames.length ? frames[frameCount] : null;
+    }
+
     public boolean isBlockedOnExtern() {
         return blockedOnExtern;
     }
 
+    public void addAcquiredLock(BLock lock) {
+        if (acquiredLocks == null) {
+            acquiredLocks = new ArrayList<>();
+        }
+        acquiredLocks.add(lock);
+    }
+
+    public void removeAcquiredLock(BLock lock) {
+        // Lock statements are nested, hence the lock is usually the last one acquired
+        for (int i = acquiredLocks.size() - 1; i >= 0; i--) {
+            if (acquiredLocks.get(i) == lock) {
+                acquiredLocks.remove(i);
+                return;
+            }
+        }
+    }
+
+    public List<BLock> getAcquiredLocks() {
+        return acquiredLocks == null ? Collections.emptyList() : acquiredLocks;
+    }
+
     public void lock() {
         this.strandLock.lock();
     }
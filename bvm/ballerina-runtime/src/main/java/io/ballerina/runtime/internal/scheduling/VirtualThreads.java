@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors backed by JDK virtual threads. The runtime is compiled against Java 11, hence the virtual thread
+ * APIs are looked up reflectively and are only available when running on a JRE which supports them.
+ *
+ * @since 2.0.0
+ */
+final class VirtualThreads {
+
+    private static final String THREAD_BUILDER_CLASS = "java.lang.Thread$Builder";
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Creates an executor which runs each submitted task on a new virtual thread.
+     *
+     * @param namePrefix prefix for the names of the virtual threads
+     * @return the executor, or {@code null} if virtual threads are not supported by the running JRE
+     */
+    static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName(THREAD_BUILDER_CLASS);
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (Throwable t) {
+            // Either the JRE is older than Java 21 or preview features are not enabled.
+            return null;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link RunnableQueue} which keeps a separate deque per scheduler worker thread. Groups scheduled from a worker
+ * thread are added to its own deque, and a worker with an empty deque steals from the others. Since the whole
+ * {@link ItemGroup} is the unit being queued, items of a group still run on one thread at a time.
+ * <p>
+ * A worker which does not find a group in any of the deques parks itself. Adding a group unparks one of the parked
+ * workers, if there are any, so that workers which are busy do not contend on shared state.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunnableQueue implements RunnableQueue {
+
+    private static final int NOT_A_WORKER = -1;
+
+    private final ConcurrentLinkedDeque<ItemGroup>[] workerQueues;
+
+    /**
+     * Workers which are parked, or about to park, as they did not find a group in any of the deques.
+     */
+    private final ConcurrentLinkedQueue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> worker = ThreadLocal.withInitial(() -> new Worker(NOT_A_WORKER));
+    private final AtomicInteger nextQueue = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    WorkStealingRunnableQueue(int numThreads) {
+        this.workerQueues = new ConcurrentLinkedDeque[Math.max(numThreads, 1)];
+        for (int i = 0; i < workerQueues.length; i++) {
+            workerQueues[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        worker.set(new Worker(workerId % workerQueues.length));
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        int index = worker.get().index;
+        if (index == NOT_A_WORKER) {
+            // Groups scheduled from non-worker threads (e.g. callbacks) are spread among the workers.
+            index = Math.floorMod(nextQueue.getAndIncrement(), workerQueues.length);
+        }
+        workerQueues[index].addLast(group);
+        unparkIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Worker current = worker.get();
+        while (true) {
+            ItemGroup group = poll(current.index);
+            if (group != null) {
+                return group;
+            }
+            // The worker is marked idle before looking for groups once more. Hence a group added concurrently is
+            // either found by the second look up, or the thread which added it finds this worker idle and unparks it.
+            current.idle = 1;
+            idleWorkers.offer(current);
+            group = poll(current.index);
+            if (group != null) {
+                cancelIdle(current);
+                return group;
+            }
+            LockSupport.park(this);
+            // Unparked by another thread, or woken up spuriously
+            cancelIdle(current);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private ItemGroup poll(int index) {
+        if (index == NOT_A_WORKER) {
+            index = 0;
+        }
+        ItemGroup group = workerQueues[index].pollFirst();
+        if (group != null) {
+            return group;
+        }
+        for (int i = 1; i < workerQueues.length; i++) {
+            group = workerQueues[(index + i) % workerQueues.length].pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void unparkIdleWorker() {
+        Worker idleWorker;
+        while ((idleWorker = idleWorkers.poll()) != null) {
+            // Skip the workers which found a group by themselves after they were marked idle
+            if (Worker.IDLE_UPDATER.compareAndSet(idleWorker, 1, 0)) {
+                LockSupport.unpark(idleWorker.thread);
+                return;
+            }
+        }
+    }
+
+    private void cancelIdle(Worker idleWorker) {
+        // If another thread has already cleared the flag, it has also removed the worker from the idle workers
+        if (Worker.IDLE_UPDATER.compareAndSet(idleWorker, 1, 0)) {
+            idleWorkers.remove(idleWorker);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (ConcurrentLinkedDeque<ItemGroup> queue : workerQueues) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A thread taking groups from the queue, which is parked and unparked individually.
+     */
+    private static class Worker {
+
+        private static final AtomicIntegerFieldUpdater<Worker> IDLE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(Worker.class, "idle");
+
+        private final int index;
+        private final Thread thread = Thread.currentThread();
+
+        /**
+         * Whether the worker is in the idle workers and waiting to be unparked.
+         */
+        private volatile int idle;
+
+        Worker(int index) {
+            this.index = index;
+        }
+    }
+}
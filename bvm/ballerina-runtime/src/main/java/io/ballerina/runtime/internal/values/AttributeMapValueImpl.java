@@ -40,12 +40,15 @@ import static io.ballerina.runtime.internal.values.XmlItem.XMLNS_NS_URI_PREFIX;
  */
 class AttributeMapValueImpl extends MapValueImpl<BString, BString> {
 
+    // Shared by all attribute maps, instead of creating a map type for the attributes of each element
+    private static final BMapType ATTRIBUTE_MAP_TYPE = new BMapType(PredefinedTypes.TYPE_STRING);
+
     public AttributeMapValueImpl() {
-        super(new BMapType(PredefinedTypes.TYPE_STRING));
+        super(ATTRIBUTE_MAP_TYPE);
     }
 
     public AttributeMapValueImpl(boolean readonly) {
-        super(new BMapType(PredefinedTypes.TYPE_STRING));
+        super(ATTRIBUTE_MAP_TYPE);
 
         if (readonly) {
             this.freezeDirect();
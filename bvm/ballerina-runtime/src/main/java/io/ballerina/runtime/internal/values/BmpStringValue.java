@@ -44,8 +44,11 @@ import io.ballerina.runtime.api.values.BString;
      @Override
      public BString concat(BString str) {
          StringValue stringValue = (StringValue) str;
+         if (length() + stringValue.length() >= ConcatStringValue.MIN_CONCAT_LENGTH) {
+             return ConcatStringValue.concat(this, str);
+         }
          if (stringValue.isNonBmp) {
-             int[] otherSurrogates = ((NonBmpStringValue) str).getSurrogates();
+             int[] otherSurrogates = ((NonBmpStringValue) stringValue.flatten()).getSurrogates();
              int[] newSurrogates = new int[otherSurrogates.length];
              int length = length();
              for (int i = 0; i < otherSurrogates.length; i++) {
@@ -47,7 +47,7 @@ public class CharIterator implements IteratorValue {
 
     private String getNonBmpCharWithSurrogates(long currentIndex) {
         int offset = (int) currentIndex;
-        for (int surrogate : ((NonBmpStringValue) value).getSurrogates()) {
+        for (int surrogate : ((NonBmpStringValue) value.flatten()).getSurrogates()) {
             if (surrogate < currentIndex) {
                 offset++;
             } else if (surrogate > currentIndex) {
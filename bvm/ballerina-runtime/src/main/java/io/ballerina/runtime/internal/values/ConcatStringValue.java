@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings created by concatenation. The characters are kept in a {@link StringBuilder} which is
+ * shared with the string this one was concatenated to, so that building a string by repeated concatenation appends
+ * to the same builder instead of copying the whole string each time. The string is flattened to a
+ * {@link BmpStringValue} or a {@link NonBmpStringValue} on the first access that needs its characters.
+ *
+ * @since 2.0.0
+ */
+public class ConcatStringValue extends StringValue {
+
+    // Concatenation results shorter than this are created as flat strings
+    static final int MIN_CONCAT_LENGTH = 64;
+
+    private final StringBuilder builder;
+    // Number of leading chars of the builder that belong to this string
+    private final int charLength;
+    private final int length;
+    private volatile StringValue flattened;
+
+    private ConcatStringValue(StringBuilder builder, int length, boolean isNonBmp) {
+        super(null, isNonBmp);
+        this.builder = builder;
+        this.charLength = builder.length();
+        this.length = length;
+    }
+
+    static BString concat(StringValue str1, BString str2) {
+        StringValue other = (StringValue) str2;
+        String otherValue = other.getValue();
+        int length = str1.length() + other.length();
+        boolean isNonBmp = str1.isNonBmp || other.isNonBmp;
+        if (str1 instanceof ConcatStringValue) {
+            ConcatStringValue concatValue = (ConcatStringValue) str1;
+            StringBuilder builder = concatValue.builder;
+            synchronized (builder) {
+                // Only the string ending at the end of the builder can append to it, others have to copy
+                if (builder.length() == concatValue.charLength) {
+                    builder.append(otherValue);
+                    return new ConcatStringValue(builder, length, isNonBmp);
+                }
+            }
+        }
+        String value = str1.getValue();
+        StringBuilder builder = new StringBuilder(value.length() + otherValue.length());
+        builder.append(value).append(otherValue);
+        return new ConcatStringValue(builder, length, isNonBmp);
+    }
+
+    @Override
+    StringValue flatten() {
+        StringValue flat = flattened;
+        if (flat == null) {
+            String value;
+            synchronized (builder) {
+                value = builder.substring(0, charLength);
+            }
+            flat = isNonBmp ? (StringValue) StringUtils.fromString(value) : new BmpStringValue(value);
+            flattened = flat;
+        }
+        return flat;
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().value;
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            return ((BString) str).getValue().equals(getValue());
+        }
+        return false;
+    }
+}
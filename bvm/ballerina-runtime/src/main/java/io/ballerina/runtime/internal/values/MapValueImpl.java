@@ -47,7 +47,6 @@ import io.ballerina.runtime.internal.util.exceptions.BLangExceptionHelper;
 import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
 import io.ballerina.runtime.internal.util.exceptions.RuntimeErrors;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -93,7 +92,8 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private BTypedesc typedesc;
     private Type type;
-    private final Map<String, Object> nativeData = new HashMap<>();
+    // Allocated on first use, since most map and record values never have native data.
+    private Map<String, Object> nativeData;
     private Type iteratorNextReturnType;
 
     public MapValueImpl(TypedescValue typedesc) {
@@ -342,7 +342,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return true;
         }
 
-        if (o == null || getClass() != o.getClass()) {
+        if (o == null || valueClass(this) != valueClass(o)) {
            return false;
         }
 
@@ -359,6 +359,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         return entrySet().equals(mapValue.entrySet());
     }
 
+    // A lazily parsed JSON object is equal to the same object parsed eagerly
+    private static Class<?> valueClass(Object value) {
+        return value instanceof LazyJsonMapValue ? MapValueImpl.class : value.getClass();
+    }
+
     /**
      * Returns the hash code value.
      *
@@ -531,15 +536,11 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     public String getJSONString() {
-        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
-        JsonGenerator gen = new JsonGenerator(byteOut);
         try {
-            gen.serialize(this);
-            gen.flush();
+            return JsonGenerator.toJsonString(this);
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
     }
 
     @Override
@@ -589,7 +590,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -598,7 +599,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     @Override
@@ -612,6 +613,9 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
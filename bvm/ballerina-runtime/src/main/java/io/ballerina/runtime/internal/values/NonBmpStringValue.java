@@ -63,8 +63,11 @@ import java.util.Arrays;
     @Override
     public BString concat(BString str) {
         StringValue stringValue = (StringValue) str;
+        if (length() + stringValue.length() >= ConcatStringValue.MIN_CONCAT_LENGTH) {
+            return ConcatStringValue.concat(this, str);
+        }
         if (stringValue.isNonBmp) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
+            NonBmpStringValue other = (NonBmpStringValue) stringValue.flatten();
             int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
             int length = length();
             for (int i = 0; i < other.surrogates.length; i++) {
@@ -39,6 +39,15 @@ public abstract class StringValue implements BString, SimpleValue {
         this.isNonBmp = isNonBmp;
     }
 
+    /**
+     * Returns a flat representation of this string, which has its characters in {@code value}.
+     *
+     * @return flat string value
+     */
+    StringValue flatten() {
+        return this;
+    }
+
     @Override
     public Type getType() {
         return PredefinedTypes.TYPE_STRING;
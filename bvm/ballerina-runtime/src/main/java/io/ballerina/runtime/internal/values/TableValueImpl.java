@@ -52,14 +52,12 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.ValueUtils.createSingletonTypedesc;
@@ -80,20 +78,32 @@ import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReason
  */
 public class TableValueImpl<K, V> implements TableValue<K, V> {
 
+    private static final int INITIAL_CAPACITY = 8;
+
+    // Markers of the open addressed key index. Other index slots hold the entry position + 1.
+    private static final int EMPTY_SLOT = 0;
+    private static final int DELETED_SLOT = -1;
+
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, List<Map.Entry<K, V>>> entries;
-    private LinkedHashMap<Long, List<V>> values;
-    private LinkedHashMap<Long, K> keys;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, K> indexToKeyMap;
-    private LinkedHashMap<K, Long> keyToIndexMap;
-    private LinkedHashMap<K, V> keyValues;
-    private long noOfAddedEntries = 0;
+    // Entries are stored in insertion order. A removed entry leaves a null value behind, which is
+    // reclaimed when the entry arrays run out of space. Each entry also gets an increasing sequence
+    // number, so that iterators can find their position again after the entries are compacted.
+    private Object[] entryKeys;
+    private Object[] entryValues;
+    private long[] entryHashes;
+    private long[] entrySequences;
+    private int entryCount = 0;
+    private int size = 0;
+    private long nextSequence = 0;
+    private int compactionCount = 0;
+
+    // Open addressed (linear probing) index from key hashes to entry positions. Only keyed tables have one.
+    private int[] keyIndex;
 
     private boolean nextKeySupported;
 
@@ -103,14 +113,13 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
-        this.keyValues = new LinkedHashMap<>();
+        this.entryKeys = new Object[INITIAL_CAPACITY];
+        this.entryValues = new Object[INITIAL_CAPACITY];
+        this.entryHashes = new long[INITIAL_CAPACITY];
+        this.entrySequences = new long[INITIAL_CAPACITY];
         if (type.getFieldNames() != null) {
+            this.keyIndex = new int[INITIAL_CAPACITY * 2];
             this.valueHolder = new KeyHashValueHolder();
         } else {
             this.valueHolder = new ValueHolder();
@@ -233,18 +242,21 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
         LinkedHashSet<Map.Entry<K, V>> entrySet = new LinkedHashSet<>();
-        for (List<Map.Entry<K, V>> entry: entries.values()) {
-            entrySet.addAll(entry);
+        for (int i = 0; i < entryCount; i++) {
+            if (entryValues[i] != null) {
+                entrySet.add(new AbstractMap.SimpleEntry<>((K) entryKeys[i], (V) entryValues[i]));
+            }
         }
-        return new LinkedHashSet(entries.values());
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        ArrayList<V> newValues = new ArrayList<>();
-        Set<Long> keys = values.keySet();
-        for (long key: keys) {
-            newValues.addAll(values.get(key));
+        ArrayList<V> newValues = new ArrayList<>(size);
+        for (int i = 0; i < entryCount; i++) {
+            if (entryValues[i] != null) {
+                newValues.add((V) entryValues[i]);
+            }
         }
         return newValues;
     }
@@ -252,12 +264,14 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        Arrays.fill(entryKeys, 0, entryCount, null);
+        Arrays.fill(entryValues, 0, entryCount, null);
+        if (keyIndex != null) {
+            Arrays.fill(keyIndex, EMPTY_SLOT);
+        }
+        entryCount = 0;
+        size = 0;
+        compactionCount++;
     }
 
     @Override
@@ -286,7 +300,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return size == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -314,23 +328,28 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        Object[] keyArr = new Object[keys.size()];
+        if (keyIndex == null) {
+            return (K[]) new Object[0];
+        }
+        Object[] keyArr = new Object[size];
         int i = 0;
-        for (K key : keys.values()) {
-            keyArr[i] = key;
-            i++;
+        for (int j = 0; j < entryCount; j++) {
+            if (entryValues[j] != null) {
+                keyArr[i] = entryKeys[j];
+                i++;
+            }
         }
         return (K[]) keyArr;
     }
 
     @Override
     public int size() {
-        return values().size();
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return size == 0;
     }
 
     @Override
@@ -356,8 +375,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -367,28 +385,18 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, List<V>>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "[" + sj + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, List<V>>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -398,16 +406,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, List<V>> struct = itr.next();
-            if (struct.getValue().size() > 1) {
-                for (V data: struct.getValue()) {
-                    sj.add(StringUtils.getExpressionStringValue(data,
-                            new CycleUtils.Node(this, parent)));
-                }
-            } else {
-                sj.add(StringUtils.getExpressionStringValue(struct.getValue().get(0),
-                        new CycleUtils.Node(this, parent)));
-            }
+            sj.add(StringUtils.getExpressionStringValue(itr.next(), new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner + ") [" + sj + "]";
     }
@@ -453,36 +452,46 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private class TableIterator<K, V> implements IteratorValue {
         private long cursor;
+        private int position;
+        private int knownCompactionCount;
 
         TableIterator() {
             this.cursor = 0;
+            this.position = 0;
+            this.knownCompactionCount = compactionCount;
         }
 
         @Override
         public Object next() {
-            K key = (K) indexToKeyMap.get(cursor);
-            if (key != null) {
-                V value = (V) keyValues.get(key);
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
             }
+            K key = (K) entryKeys[position];
+            V value = (V) entryValues[position];
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor = entrySequences[position] + 1;
+            position++;
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            if (knownCompactionCount != compactionCount) {
+                position = findEntryPosition(cursor);
+                knownCompactionCount = compactionCount;
+            }
+            while (position < entryCount && entryValues[position] == null) {
+                position++;
+            }
+            return position < entryCount;
         }
     }
 
@@ -504,18 +513,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entryList);
-            updateIndexKeyMappings((K) data);
-            values.put((long) uuid.hashCode(), newData);
-            keyValues.put((K) data, data);
+            appendEntry(data, data, 0);
             return data;
         }
 
@@ -537,6 +535,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     private class KeyHashValueHolder extends ValueHolder {
         private DefaultKeyWrapper keyWrapper;
         private Type keyType;
+        // Single int or string keys are hashed and compared directly instead of through the shape based helpers
+        private boolean simpleKey;
 
         public KeyHashValueHolder() {
             super();
@@ -545,139 +545,120 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             } else {
                 keyWrapper = new DefaultKeyWrapper();
             }
+            simpleKey = fieldNames.length == 1 && keyType != null &&
+                    (keyType.getTag() == TypeTags.INT_TAG || keyType.getTag() == TypeTags.STRING_TAG);
         }
 
         public void addData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
+            long hash = hash(key);
 
-            if (containsKey((K) key)) {
+            if (findEntry(key, hash) >= 0) {
                 throw ErrorCreator.createError(TABLE_HAS_A_VALUE_FOR_KEY_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.TABLE_HAS_A_VALUE_FOR_KEY, key));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (size == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Long hash = TableUtils.hash(key, null);
-
-            if (keys.containsKey(hash)) {
-                List<Map.Entry<K, V>> extEntries = entries.get(hash);
-                Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-                extEntries.add(entry);
-                List<V> extValues = values.get(hash);
-                extValues.add(data);
-                keyValues.put(key, data);
-                updateIndexKeyMappings(key);
-                return;
-            }
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            putData(key, data, newData, entry, hash);
+            appendEntry(key, data, hash);
         }
 
         public V getData(K key) {
-            List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-            if (entryList == null) {
+            int position = findEntry(key, hash(key));
+            if (position < 0) {
                 return null;
             }
-            for (Map.Entry<K, V> entry: entryList) {
-                if (TypeChecker.isEqual(key, entry.getKey())) {
-                    return entry.getValue();
-                }
-            }
-            return null;
+            return (V) entryValues[position];
         }
 
         public V putData(K key, V data) {
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
+            long actualHash = hash(actualKey);
+            long hash = hash(key);
 
-            if (!hash.equals(actualHash)) {
+            if (hash != actualHash) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR,
                         BLangExceptionHelper.getErrorDetails(RuntimeErrors.KEY_NOT_FOUND_IN_VALUE, key, data));
             }
 
-            return putData(key, data, newData, entry, hash);
+            return putData(key, data, hash);
         }
 
-        private V putData(K key, V value, List<V> data, Map.Entry<K, V> entry, Long hash) {
-
-            List<Map.Entry<K, V>> entryList = new ArrayList<>();
-            entryList.add(entry);
-            entries.put(hash, entryList);
-            keys.put(hash, key);
-            updateIndexKeyMappings(key);
-            values.put(hash, data);
-            keyValues.put(key, value);
-            return data.get(0);
+        private V putData(K key, V value, long hash) {
+            int position = findEntry(key, hash);
+            if (position >= 0) {
+                entryKeys[position] = key;
+                entryValues[position] = value;
+            } else {
+                appendEntry(key, value, hash);
+            }
+            return value;
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-
-            ArrayList<V> newData = new ArrayList<>();
-            newData.add(data);
-
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, newData, entry, hash);
+            return putData(key, data, hash(key));
         }
 
         public V remove(K key) {
-            keyValues.remove(key);
-            Long hash = TableUtils.hash(key, null);
-            List<Map.Entry<K, V>> entryList = entries.get(hash);
-            if (entryList != null && entryList.size() > 1) {
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(key, entry.getKey())) {
-                        List<V> valueList = values.get(hash);
-                        valueList.remove(entry.getValue());
-                        entryList.remove(entry);
-                        Long index = keyToIndexMap.remove(key);
-                        indexToKeyMap.remove(index);
-                        if (index != null && index == noOfAddedEntries - 1) {
-                            noOfAddedEntries--;
-                        }
-                        return entry.getValue();
-                    }
-                }
-            }
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(key);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            List<V> removedValue = values.remove(hash);
-            if (removedValue == null) {
+            int slot = findKeyIndexSlot(key, hash(key));
+            if (slot < 0) {
                 return null;
             }
-            return removedValue.get(0);
+            int position = keyIndex[slot] - 1;
+            V removedValue = (V) entryValues[position];
+            keyIndex[slot] = DELETED_SLOT;
+            entryKeys[position] = null;
+            entryValues[position] = null;
+            size--;
+            return removedValue;
         }
 
         public boolean containsKey(K key) {
-            if (keys.containsKey(TableUtils.hash(key, null))) {
-                List<Map.Entry<K, V>> entryList = entries.get(TableUtils.hash(key, null));
-                for (Map.Entry<K, V> entry: entryList) {
-                    if (TypeChecker.isEqual(entry.getKey(), key)) {
-                        return true;
+            return findEntry(key, hash(key)) >= 0;
+        }
+
+        private long hash(Object key) {
+            if (simpleKey) {
+                return key == null ? 0 : key.hashCode();
+            }
+            return TableUtils.hash(key, null);
+        }
+
+        private boolean isKeyEqual(Object key, Object existingKey) {
+            if (simpleKey) {
+                return key == null ? existingKey == null : key.equals(existingKey);
+            }
+            return TypeChecker.isEqual(key, existingKey);
+        }
+
+        private int findEntry(Object key, long hash) {
+            int slot = findKeyIndexSlot(key, hash);
+            return slot < 0 ? -1 : keyIndex[slot] - 1;
+        }
+
+        private int findKeyIndexSlot(Object key, long hash) {
+            int mask = keyIndex.length - 1;
+            int slot = spread(hash) & mask;
+            while (true) {
+                int indexEntry = keyIndex[slot];
+                if (indexEntry == EMPTY_SLOT) {
+                    return -1;
+                }
+                if (indexEntry != DELETED_SLOT) {
+                    int position = indexEntry - 1;
+                    if (entryHashes[position] == hash && isKeyEqual(key, entryKeys[position])) {
+                        return slot;
                     }
                 }
+                slot = (slot + 1) & mask;
             }
-            return false;
         }
 
         public Type getKeyType() {
@@ -728,13 +709,79 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(K key) {
-        if (!keyToIndexMap.containsKey(key)) {
-            keyToIndexMap.put(key, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, key);
-            noOfAddedEntries++;
+    // Appends an entry, making room by compacting removed entries or growing the storage when it is full
+    private void appendEntry(Object key, Object value, long hash) {
+        if (entryCount == entryValues.length) {
+            resizeEntries(size < entryValues.length / 2 ? entryValues.length : entryValues.length * 2);
+        }
+        int position = entryCount++;
+        entryKeys[position] = key;
+        entryValues[position] = value;
+        entryHashes[position] = hash;
+        entrySequences[position] = nextSequence++;
+        size++;
+        if (keyIndex != null) {
+            addToKeyIndex(hash, position);
+        }
+    }
+
+    private void resizeEntries(int capacity) {
+        Object[] newKeys = new Object[capacity];
+        Object[] newValues = new Object[capacity];
+        long[] newHashes = new long[capacity];
+        long[] newSequences = new long[capacity];
+        int newCount = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (entryValues[i] != null) {
+                newKeys[newCount] = entryKeys[i];
+                newValues[newCount] = entryValues[i];
+                newHashes[newCount] = entryHashes[i];
+                newSequences[newCount] = entrySequences[i];
+                newCount++;
+            }
+        }
+        entryKeys = newKeys;
+        entryValues = newValues;
+        entryHashes = newHashes;
+        entrySequences = newSequences;
+        entryCount = newCount;
+        compactionCount++;
+
+        if (keyIndex != null) {
+            keyIndex = new int[capacity * 2];
+            for (int i = 0; i < entryCount; i++) {
+                addToKeyIndex(entryHashes[i], i);
+            }
+        }
+    }
+
+    private void addToKeyIndex(long hash, int position) {
+        int mask = keyIndex.length - 1;
+        int slot = spread(hash) & mask;
+        while (keyIndex[slot] != EMPTY_SLOT && keyIndex[slot] != DELETED_SLOT) {
+            slot = (slot + 1) & mask;
         }
+        keyIndex[slot] = position + 1;
+    }
+
+    // Returns the position of the first entry whose sequence number is not less than the given one
+    private int findEntryPosition(long sequence) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entrySequences[mid] < sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int spread(long hash) {
+        int h = (int) (hash ^ (hash >>> 32));
+        return h ^ (h >>> 16);
     }
 
     // This method checks for inherent table type violation
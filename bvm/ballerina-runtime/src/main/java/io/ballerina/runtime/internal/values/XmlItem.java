@@ -36,12 +36,12 @@ import org.apache.axiom.om.OMException;
 import org.apache.axiom.om.OMNode;
 
 import java.io.ByteArrayOutputStream;
-import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -68,22 +68,15 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     private QName name;
     private XmlSequence children;
+    // Created when the first attribute is added, or when the attribute map is requested, since most elements in a
+    // document do not have attributes.
     private AttributeMapValueImpl attributes;
-    // Keep track of probable parents of xml element to detect probable cycles in xml.
-    private List<WeakReference<XmlItem>> probableParents;
 
     public XmlItem(QName name, XmlSequence children, boolean readonly) {
         this.name = name;
         this.children = children;
-        for (BXml child : children.children) {
-            addParent(child, this);
-        }
-        attributes = new AttributeMapValueImpl(false);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
-        this.type = PredefinedTypes.TYPE_ELEMENT;
+        addDefaultNamespaceAttribute(name, false);
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
-        setTypedescValue(type);
     }
 
     public XmlItem(QName name, XmlSequence children) {
@@ -97,25 +90,16 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     public XmlItem(QName name) {
         this(name, new XmlSequence(new ArrayList<>()));
-        this.type = PredefinedTypes.TYPE_ELEMENT;
-        setTypedescValue(type);
     }
 
     public XmlItem(QName name, boolean readonly) {
-        XmlSequence children = new XmlSequence(new ArrayList<>());
         this.name = name;
-        this.children = children;
-        for (BXml child : children.children) {
-            addParent(child, this);
-        }
-        attributes = new AttributeMapValueImpl(readonly);
-        addDefaultNamespaceAttribute(name, attributes);
-        probableParents = new ArrayList<>();
-
+        this.children = new XmlSequence(new ArrayList<>());
+        addDefaultNamespaceAttribute(name, readonly);
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_ELEMENT : PredefinedTypes.TYPE_ELEMENT;
-        setTypedescValue(type);
     }
-    private void addDefaultNamespaceAttribute(QName name, AttributeMapValueImpl attributes) {
+
+    private void addDefaultNamespaceAttribute(QName name, boolean readonly) {
         String namespace = name.getNamespaceURI();
         if (namespace == null || namespace.isEmpty()) {
             return;
@@ -126,6 +110,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             prefix = XMLNS;
         }
 
+        attributes = new AttributeMapValueImpl(readonly);
         attributes.populateInitialValue(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix),
                                         StringUtils.fromString(namespace));
     }
@@ -199,6 +184,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public BString getAttribute(String localName, String namespace, String prefix) {
+        if (attributes == null) {
+            return null;
+        }
         if (prefix != null && !prefix.isEmpty()) {
             String ns = attributes.get(StringUtils.fromString(XMLNS_NS_URI_PREFIX + prefix)).getValue();
             BString attrVal = attributes.get(StringUtils.fromString("{" + ns + "}" + localName));
@@ -221,7 +209,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.setAttribute(localName, namespaceUri, prefix, value, false);
+        getOrCreateAttributes().setAttribute(localName, namespaceUri, prefix, value, false);
     }
 
     /**
@@ -229,7 +217,24 @@ public final class XmlItem extends XmlValue implements BXmlItem {
      */
     @Override
     public MapValue<BString, BString> getAttributesMap() {
-        return this.attributes;
+        return getOrCreateAttributes();
+    }
+
+    /**
+     * Returns whether this element has any attributes, including namespace declarations, without creating the
+     * attribute map of an element which has none.
+     *
+     * @return true if the element has attributes
+     */
+    public boolean hasAttributes() {
+        return attributes != null && !attributes.isEmpty();
+    }
+
+    private AttributeMapValueImpl getOrCreateAttributes() {
+        if (attributes == null) {
+            attributes = new AttributeMapValueImpl(this.type.isReadOnly());
+        }
+        return attributes;
     }
 
     /**
@@ -297,12 +302,12 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
 
         if (seq.getNodeType() == XmlNodeType.SEQUENCE) {
-            children = (XmlSequence) seq;
-            for (BXml child : children.children) {
-                addParent(child);
+            for (BXml child : ((XmlSequence) seq).children) {
+                ensureAcyclicGraph(child);
             }
+            children = (XmlSequence) seq;
         } else {
-            addParent(seq);
+            ensureAcyclicGraph(seq);
             children = new XmlSequence(seq);
         }
     }
@@ -330,43 +335,29 @@ public final class XmlItem extends XmlValue implements BXmlItem {
                     && appendingList.get(0).getNodeType() == TEXT) {
                 mergeAdjoiningTextNodesIntoList(leftList, appendingList);
             } else {
-                for (BXml bxml : appendingList) {
-                    addParent(bxml, this);
-                }
                 leftList.addAll(appendingList);
             }
         } else {
-            addParent(seq, this);
             leftList.add(seq);
         }
         this.children = new XmlSequence(leftList);
     }
 
-
-    private void addParent(BXml child) {
-        ensureAcyclicGraph(child, this);
-        addParent(child, this);
-    }
-
-    // This method does not ensure acyclicness of tree after adding the children. Hence this method shold only be
-    // use in scenarios where cyclic xml construction is impossible, that is only when constructing xml tree from
-    // xml literal syntax, or after ensuring the new xml tree is not cyclic.
-    private void addParent(BXml child, XmlItem thisElem) {
-        if (child.getNodeType() == ELEMENT) {
-            ((XmlItem) child).probableParents.add(new WeakReference<>(thisElem));
-        }
-    }
-
-    private void ensureAcyclicGraph(BXml newSubTree, XmlItem current) {
-        for (WeakReference<XmlItem> probableParentRef : current.probableParents) {
-            XmlItem parent = probableParentRef.get();
-            // probable parent is the actual parent.
-            if (parent.children.children.contains(current)) {
-                // If new subtree is in the lineage of current node, adding this newSubTree forms a cycle.
-                if (parent == newSubTree) {
-                    throw createXMLCycleError();
-                }
-                ensureAcyclicGraph(newSubTree, parent);
+    // Adding the new child forms a cycle if this element is the new child itself or one of its descendants. Hence
+    // the cost of the check is bounded by the size of the new child, and the elements need not keep track of their
+    // parents.
+    private void ensureAcyclicGraph(BXml newChild) {
+        Deque<BXml> pending = new ArrayDeque<>();
+        pending.push(newChild);
+        while (!pending.isEmpty()) {
+            BXml node = pending.pop();
+            if (node == this) {
+                throw createXMLCycleError();
+            }
+            if (node.getNodeType() == ELEMENT) {
+                pending.addAll(((XmlItem) node).children.children);
+            } else if (node.getNodeType() == XmlNodeType.SEQUENCE) {
+                pending.addAll(((XmlSequence) node).children);
             }
         }
     }
@@ -497,8 +488,12 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         QName elemName = new QName(this.name.getNamespaceURI(), this.name.getLocalPart(), this.name.getPrefix());
         XmlItem xmlItem = new XmlItem(elemName, (XmlSequence) children.copy(refs));
 
+        if (this.attributes == null) {
+            return xmlItem;
+        }
+
         MapValue<BString, BString> attributesMap = xmlItem.getAttributesMap();
-        MapValue<BString, BString> copy = (MapValue<BString, BString>) this.getAttributesMap().copy(refs);
+        MapValue<BString, BString> copy = (MapValue<BString, BString>) this.attributes.copy(refs);
         if (attributesMap instanceof MapValueImpl) {
             MapValueImpl<BString, BString> map = (MapValueImpl<BString, BString>) attributesMap;
             map.putAll((Map<BString, BString>) copy);
@@ -508,7 +503,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             }
         }
 
-        if (getAttributesMap().isFrozen()) {
+        if (this.attributes.isFrozen()) {
             attributesMap.freezeDirect();
         }
         return xmlItem;
@@ -548,7 +543,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     protected void setAttributeOnInitialization(String localName, String namespace, String prefix, String value) {
-        attributes.setAttribute(localName, namespace, prefix, value, true);
+        getOrCreateAttributes().setAttribute(localName, namespace, prefix, value, true);
     }
 
     /**
@@ -560,7 +555,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
             ReadOnlyUtils.handleInvalidUpdate(XML_LANG_LIB);
         }
 
-        attributes.remove(qname);
+        if (attributes != null) {
+            attributes.remove(qname);
+        }
     }
 
     /**
@@ -583,8 +580,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
         Collections.reverse(toRemove);
         for (Integer index : toRemove) {
-            BXml removed = children.remove(index.intValue());
-            removeParentReference(removed);
+            children.remove(index.intValue());
         }
     }
 
@@ -606,22 +602,6 @@ public final class XmlItem extends XmlValue implements BXmlItem {
         }
     }
 
-    private void removeParentReference(BXml removedItem) {
-        if (removedItem.getNodeType() != ELEMENT) {
-            return;
-        }
-
-        XmlItem item = (XmlItem) removedItem;
-        for (Iterator<WeakReference<XmlItem>> iterator = item.probableParents.iterator(); iterator.hasNext();) {
-            WeakReference<XmlItem> probableParent = iterator.next();
-            XmlItem parent = probableParent.get();
-            if (parent == this) {
-                probableParent.clear();
-                iterator.remove();
-            }
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -629,7 +609,9 @@ public final class XmlItem extends XmlValue implements BXmlItem {
     public void freezeDirect() {
         this.type = ReadOnlyUtils.setImmutableTypeAndGetEffectiveType(this.type);
         this.children.freezeDirect();
-        this.attributes.freezeDirect();
+        if (this.attributes != null) {
+            this.attributes.freezeDirect();
+        }
         this.typedesc = createSingletonTypedesc(this);
     }
 
@@ -671,7 +653,7 @@ public final class XmlItem extends XmlValue implements BXmlItem {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, children, attributes, probableParents);
+        return Objects.hash(name, children, attributes);
     }
 
     private interface SetAttributeFunction {
@@ -41,7 +41,6 @@ public class XmlPi extends XmlNonElementItem {
         this.data = data;
         this.target = target;
         this.type = PredefinedTypes.TYPE_PROCESSING_INSTRUCTION;
-        setTypedescValue(type);
     }
 
     public XmlPi(String data, String target, boolean readonly) {
@@ -49,7 +48,6 @@ public class XmlPi extends XmlNonElementItem {
         this.target = target;
         this.type = readonly ? PredefinedTypes.TYPE_READONLY_PROCESSING_INSTRUCTION :
                 PredefinedTypes.TYPE_PROCESSING_INSTRUCTION;
-        setTypedescValue(type);
     }
 
     @Override
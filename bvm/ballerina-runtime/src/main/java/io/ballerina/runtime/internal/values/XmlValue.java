@@ -55,7 +55,8 @@ import static io.ballerina.runtime.internal.ValueUtils.getTypedescValue;
 public abstract class XmlValue implements RefValue, BXml, CollectionValue {
 
     Type type = PredefinedTypes.TYPE_XML;
-    protected BTypedesc typedesc = new TypedescValueImpl(type);
+    // Created on first access, unless set eagerly, since most xml values never have their typedesc read
+    protected BTypedesc typedesc;
 
     protected Type iteratorNextReturnType;
 
@@ -248,6 +249,9 @@ public abstract class XmlValue implements RefValue, BXml, CollectionValue {
 
     @Override
     public BTypedesc getTypedesc() {
+        if (typedesc == null) {
+            typedesc = getTypedescValue(type, this);
+        }
         return typedesc;
     }
 
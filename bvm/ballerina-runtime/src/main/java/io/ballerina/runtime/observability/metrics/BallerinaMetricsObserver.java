@@ -22,9 +22,9 @@ import io.ballerina.runtime.observability.ObserverContext;
 
 import java.io.PrintStream;
 import java.time.Duration;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.observability.ObservabilityConstants.PROPERTY_KEY_HTTP_STATUS_CODE;
 import static io.ballerina.runtime.observability.ObservabilityConstants.STATUS_CODE_GROUP_SUFFIX;
@@ -40,7 +40,11 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
 
     private static final PrintStream consoleError = System.err;
 
-    private static final MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+    /*
+     * Upper bound of the number of tag sets the resolved metrics are cached for. Observations with tag sets beyond
+     * this, e.g. due to high cardinality custom tags, look up their metrics from the registry.
+     */
+    private static final int MAX_CACHED_TAG_SETS = 1024;
 
     private static final StatisticConfig[] responseTimeStatisticConfigs = new StatisticConfig[]{
             StatisticConfig.builder()
@@ -57,6 +61,25 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
                     .build()
     };
 
+    private final MetricRegistry metricRegistry;
+
+    /*
+     * Metrics resolved from the registry, keyed by the tags of the observations. Requests to the same resource have
+     * the same tags, hence the metrics are looked up from the registry only once per resource. An entry is evicted
+     * when any of its metrics is removed from the registry.
+     */
+    private final Map<Set<Tag>, InProgressMetrics> inProgressMetricsCache = new ConcurrentHashMap<>();
+    private final Map<Set<Tag>, ResponseMetrics> responseMetricsCache = new ConcurrentHashMap<>();
+
+    public BallerinaMetricsObserver() {
+        this(DefaultMetricRegistry.getInstance());
+    }
+
+    public BallerinaMetricsObserver(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+        metricRegistry.addRemovalListener(this::evict);
+    }
+
     @Override
     public void startServerObservation(ObserverContext observerContext) {
         startObservation(observerContext);
@@ -89,8 +112,7 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
         observerContext.addProperty(PROPERTY_START_TIME, System.nanoTime());
         Set<Tag> tags = observerContext.getAllTags();
         try {
-            Gauge inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
-                    tags));
+            Gauge inProgressGauge = getInProgressMetrics(tags).inProgressGauge;
             inProgressGauge.increment();
             /*
              * The in progress counter is stored so that the same counter can be decremted when the observation
@@ -104,12 +126,12 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
     }
 
     private void stopObservation(ObserverContext observerContext) {
-        Set<Tag> tags = new HashSet<>();
+        // getAllTags() returns a new set, which is also used as the key of the cached metrics
+        Set<Tag> tags = observerContext.getAllTags();
         Map<String, Tag> customTags = observerContext.customMetricTags;
         if (customTags != null) {
             tags.addAll(customTags.values());
         }
-        tags.addAll(observerContext.getAllTags());
 
         // Add status_code_group tag
         Integer statusCode = (Integer) observerContext.getProperty(PROPERTY_KEY_HTTP_STATUS_CODE);
@@ -121,20 +143,77 @@ public class BallerinaMetricsObserver implements BallerinaObserver {
             Long startTime = (Long) observerContext.getProperty(PROPERTY_START_TIME);
             long duration = System.nanoTime() - startTime;
             ((Gauge) observerContext.getProperty(PROPERTY_IN_PROGRESS_COUNTER)).decrement();
-            metricRegistry.gauge(new MetricId("response_time_seconds",
-                    "Response time", tags), responseTimeStatisticConfigs).setValue(duration / 1E9);
-            metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
-                    "Total response response time for all requests", tags)).increment(duration);
-            metricRegistry.counter(new MetricId("requests_total",
-                    "Total number of requests", tags)).increment();
+            ResponseMetrics responseMetrics = getResponseMetrics(tags);
+            responseMetrics.responseTimeGauge.setValue(duration / 1E9);
+            responseMetrics.responseTimeTotalCounter.increment(duration);
+            responseMetrics.requestsTotalCounter.increment();
         } catch (RuntimeException e) {
             handleError("multiple metrics", tags, e);
         }
     }
 
+    private InProgressMetrics getInProgressMetrics(Set<Tag> tags) {
+        InProgressMetrics metrics = inProgressMetricsCache.get(tags);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (inProgressMetricsCache.size() >= MAX_CACHED_TAG_SETS) {
+            return new InProgressMetrics(metricRegistry, tags);
+        }
+        // Resolved within the map operation, so that a concurrent eviction of the same tags is not lost
+        return inProgressMetricsCache.computeIfAbsent(tags, key -> new InProgressMetrics(metricRegistry, key));
+    }
+
+    private ResponseMetrics getResponseMetrics(Set<Tag> tags) {
+        ResponseMetrics metrics = responseMetricsCache.get(tags);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (responseMetricsCache.size() >= MAX_CACHED_TAG_SETS) {
+            return new ResponseMetrics(metricRegistry, tags);
+        }
+        return responseMetricsCache.computeIfAbsent(tags, key -> new ResponseMetrics(metricRegistry, key));
+    }
+
+    private void evict(MetricId metricId) {
+        // The cached metrics are registered with the tag set they are cached for
+        inProgressMetricsCache.remove(metricId.getTags());
+        responseMetricsCache.remove(metricId.getTags());
+    }
+
     private void handleError(String metricName, Set<Tag> tags, RuntimeException e) {
         // Metric Provider may throw exceptions if there is a mismatch in tags.
         consoleError.println("error: error collecting metrics for " + metricName + " with tags " + tags +
                 ": " + e.getMessage());
     }
+
+    /**
+     * Metrics updated when an observation starts.
+     */
+    private static class InProgressMetrics {
+        private final Gauge inProgressGauge;
+
+        InProgressMetrics(MetricRegistry metricRegistry, Set<Tag> tags) {
+            this.inProgressGauge = metricRegistry.gauge(new MetricId("inprogress_requests", "In-progress requests",
+                    tags));
+        }
+    }
+
+    /**
+     * Metrics updated when an observation stops.
+     */
+    private static class ResponseMetrics {
+        private final Gauge responseTimeGauge;
+        private final Counter responseTimeTotalCounter;
+        private final Counter requestsTotalCounter;
+
+        ResponseMetrics(MetricRegistry metricRegistry, Set<Tag> tags) {
+            this.responseTimeGauge = metricRegistry.gauge(new MetricId("response_time_seconds",
+                    "Response time", tags), responseTimeStatisticConfigs);
+            this.responseTimeTotalCounter = metricRegistry.counter(new MetricId("response_time_nanoseconds_total",
+                    "Total response response time for all requests", tags));
+            this.requestsTotalCounter = metricRegistry.counter(new MetricId("requests_total",
+                    "Total number of requests", tags));
+        }
+    }
 }
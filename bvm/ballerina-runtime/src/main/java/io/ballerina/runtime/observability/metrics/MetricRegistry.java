@@ -22,6 +22,8 @@ import io.ballerina.runtime.observability.metrics.spi.MetricProvider;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -35,6 +37,8 @@ public class MetricRegistry {
     private final MetricProvider metricProvider;
     // Metrics Map by ID
     private final ConcurrentMap<MetricId, Metric> metrics;
+    // Notified of the IDs of removed metrics, so that references to them which are cached elsewhere can be evicted
+    private final List<Consumer<MetricId>> removalListeners = new CopyOnWriteArrayList<>();
 
     public MetricRegistry(MetricProvider metricProvider) {
         this.metricProvider = metricProvider;
@@ -181,6 +185,7 @@ public class MetricRegistry {
         Metric metric = readMetric(registerMetric.getId(), metricClass);
         if (metric != null) {
             metrics.remove(registerMetric.getId());
+            notifyRemoval(registerMetric.getId());
         }
     }
 
@@ -192,7 +197,25 @@ public class MetricRegistry {
     public void remove(String name) {
         List<MetricId> ids = metrics.keySet().stream()
                 .filter(id -> id.getName().equals(name)).collect(Collectors.toList());
-        ids.forEach(metrics::remove);
+        for (MetricId id : ids) {
+            metrics.remove(id);
+            notifyRemoval(id);
+        }
+    }
+
+    /**
+     * Adds a listener which is notified with the ID of each metric removed from this registry.
+     *
+     * @param listener the listener
+     */
+    public void addRemovalListener(Consumer<MetricId> listener) {
+        removalListeners.add(listener);
+    }
+
+    private void notifyRemoval(MetricId id) {
+        for (Consumer<MetricId> listener : removalListeners) {
+            listener.accept(id);
+        }
     }
 
     public MetricProvider getMetricProvider() {
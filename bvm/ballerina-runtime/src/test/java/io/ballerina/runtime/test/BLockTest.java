@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the read and write holds of {@link BLock} and the lock checks of {@link BLockStore}.
+ */
+public class BLockTest {
+
+    @Test
+    public void testReadersShareLock() {
+        BLock lock = new BLock();
+        Strand first = new Strand("first", null, null, null, null);
+        Strand second = new Strand("second", null, null, null, null);
+        Strand writer = new Strand("writer", null, null, null, null);
+
+        Assert.assertTrue(lock.lockRead(first));
+        Assert.assertTrue(lock.lockRead(second));
+        Assert.assertTrue(lock.lockedBySameContext(first));
+        Assert.assertTrue(lock.lockedBySameContext(second));
+
+        // writer waits for the readers, and new readers wait behind the writer
+        Assert.assertFalse(lock.lock(writer));
+        Assert.assertEquals(writer.getState(), State.BLOCK_AND_YIELD);
+        Strand third = new Strand("third", null, null, null, null);
+        Assert.assertFalse(lock.lockRead(third));
+
+        // readers which already hold the lock can reacquire it
+        Assert.assertTrue(lock.lockRead(first));
+        lock.unlockRead(first);
+        lock.unlockRead(second);
+        Assert.assertTrue(lock.lockedBySameContext(first));
+        Assert.assertFalse(lock.lockedBySameContext(second));
+        Assert.assertFalse(lock.isLockFree());
+    }
+
+    @Test
+    public void testWriterReacquiresLock() {
+        BLock lock = new BLock();
+        Strand writer = new Strand("writer", null, null, null, null);
+        Strand reader = new Strand("reader", null, null, null, null);
+
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lock(writer));
+        Assert.assertTrue(lock.lockRead(writer));
+        Assert.assertFalse(lock.lockedBySameContext(reader));
+
+        lock.unlockRead(writer);
+        lock.unlock();
+        Assert.assertTrue(lock.lockedBySameContext(writer));
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+
+        Assert.assertTrue(lock.lockRead(reader));
+        lock.unlockRead(reader);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testAsyncCallInsideLock() {
+        BLockStore lockStore = new BLockStore();
+        Strand strand = new Strand("test", null, null, null, null);
+        for (int i = 0; i < 5000; i++) {
+            BLock lock = lockStore.getLockFromMap("$lock" + i);
+            lock.lock(strand);
+            lock.unlock();
+        }
+        lockStore.panicIfInLock("$lock", strand);
+
+        BLock writeLock = lockStore.getLockFromMap("$lock10");
+        BLock readLock = lockStore.getLockFromMap("$lock4000");
+        writeLock.lock(strand);
+        readLock.lockRead(strand);
+        assertPanicsIfInLock(lockStore, strand);
+        writeLock.unlock();
+        assertPanicsIfInLock(lockStore, strand);
+        readLock.unlockRead(strand);
+        lockStore.panicIfInLock("$lock", strand);
+    }
+
+    @Test
+    public void testAsyncCallInsideLockOfOtherModule() {
+        BLockStore lockStore = new BLockStore();
+        BLockStore otherLockStore = new BLockStore();
+        Strand strand = new Strand("test", null, null, null, null);
+        lockStore.getLockFromMap("$lock0");
+
+        // only the locks of the module making the async call are checked
+        BLock otherLock = otherLockStore.getLockFromMap("$lock0");
+        otherLock.lock(strand);
+        lockStore.panicIfInLock("$lock", strand);
+        assertPanicsIfInLock(otherLockStore, strand);
+        otherLock.unlock();
+        otherLockStore.panicIfInLock("$lock", strand);
+    }
+
+    @Test
+    public void testAsyncCallInsideNestedLocks() {
+        BLockStore lockStore = new BLockStore();
+        Strand strand = new Strand("test", null, null, null, null);
+        BLock outerLock = lockStore.getLockFromMap("$lock0");
+        BLock innerLock = lockStore.getLockFromMap("$lock1");
+        BLock lockOfNoModule = new BLock();
+
+        outerLock.lock(strand);
+        innerLock.lockRead(strand);
+        innerLock.lockRead(strand);
+        lockOfNoModule.lock(strand);
+        Assert.assertEquals(strand.getAcquiredLocks(), List.of(outerLock, innerLock, innerLock, lockOfNoModule));
+
+        // the locks are released in a different order than they were acquired
+        outerLock.unlock();
+        innerLock.unlockRead(strand);
+        assertPanicsIfInLock(lockStore, strand);
+        innerLock.unlockRead(strand);
+        Assert.assertEquals(strand.getAcquiredLocks(), List.of(lockOfNoModule));
+        lockStore.panicIfInLock("$lock", strand);
+        lockOfNoModule.unlock();
+        Assert.assertTrue(strand.getAcquiredLocks().isEmpty());
+    }
+
+    @Test(timeOut = 30000)
+    public void testReleaseToWaitingStrands() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        List<String> acquired = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger queued = new AtomicInteger();
+        AtomicInteger readersIn = new AtomicInteger();
+        AtomicBoolean holding = new AtomicBoolean();
+
+        Function<Object[], Object> writer = waiter(lock, "writer", false, acquired, queued, readersIn);
+        Function<Object[], Object> firstReader = waiter(lock, "firstReader", true, acquired, queued, readersIn);
+        Function<Object[], Object> secondReader = waiter(lock, "secondReader", true, acquired, queued, readersIn);
+        Function<Object[], Object> holder = params -> {
+            Strand strand = (Strand) params[0];
+            if (!holding.getAndSet(true)) {
+                lock.lock(strand);
+                acquired.add("holder");
+                scheduler.schedule(new Object[1], writer, null, null, "writer", null);
+                scheduler.schedule(new Object[1], firstReader, null, null, "firstReader", null);
+                scheduler.schedule(new Object[1], secondReader, null, null, "secondReader", null);
+            }
+            // keep the lock until both kinds of waiters are queued on it
+            if (queued.get() < 3) {
+                strand.setState(State.YIELD);
+                return null;
+            }
+            lock.unlock();
+            return null;
+        };
+
+        scheduler.schedule(new Object[1], holder, null, null, "holder", null);
+        // Returns once all the scheduled strands have completed, i.e. each waiter was unblocked.
+        scheduler.start();
+
+        // the waiting writer is preferred, and both waiting readers are unblocked together once it releases the lock
+        Assert.assertEquals(acquired.subList(0, 2), List.of("holder", "writer"));
+        Assert.assertEquals(Set.copyOf(acquired.subList(2, acquired.size())), Set.of("firstReader", "secondReader"));
+        Assert.assertEquals(acquired.size(), 4);
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    private static Function<Object[], Object> waiter(BLock lock, String name, boolean reader, List<String> acquired,
+                                                     AtomicInteger queued, AtomicInteger readersIn) {
+        AtomicBoolean blocked = new AtomicBoolean();
+        AtomicBoolean locked = new AtomicBoolean();
+        return params -> {
+            Strand strand = (Strand) params[0];
+            if (!locked.get()) {
+                // like the generated code, a blocked strand retries acquiring the lock when it is resumed
+                if (!(reader ? lock.lockRead(strand) : lock.lock(strand))) {
+                    if (!blocked.getAndSet(true)) {
+                        queued.incrementAndGet();
+                    }
+                    return null;
+                }
+                locked.set(true);
+                acquired.add(name);
+                if (!reader) {
+                    lock.unlock();
+                    return null;
+                }
+                readersIn.incrementAndGet();
+            }
+            // a reader holds the lock until the other reader has acquired it too
+            if (readersIn.get() < 2) {
+                strand.setState(State.YIELD);
+                return null;
+            }
+            lock.unlockRead(strand);
+            return null;
+        };
+    }
+
+    private static void assertPanicsIfInLock(BLockStore lockStore, Strand strand) {
+        try {
+            lockStore.panicIfInLock("$lock", strand);
+            Assert.fail("expected an async call inside a lock to panic");
+        } catch (BError e) {
+            Assert.assertEquals(e.getMessage(), "{ballerina}AsyncCallInsideLockError");
+        }
+    }
+}
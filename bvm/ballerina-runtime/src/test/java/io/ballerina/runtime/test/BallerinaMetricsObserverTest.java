@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.BallerinaMetricsObserver;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Set;
+
+/**
+ * Test cases for the metrics cached by {@link BallerinaMetricsObserver}.
+ */
+public class BallerinaMetricsObserverTest {
+
+    @Test
+    public void testCachedMetricsAreReused() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+
+        observe(observer, "/hello");
+        Gauge inProgressGauge = (Gauge) registry.lookup(inProgressId("/hello"));
+        Counter requestsCounter = (Counter) registry.lookup(requestsId("/hello"));
+        observe(observer, "/hello");
+
+        Assert.assertSame(registry.lookup(inProgressId("/hello")), inProgressGauge);
+        Assert.assertSame(registry.lookup(requestsId("/hello")), requestsCounter);
+        Assert.assertEquals(registry.getAllMetrics().length, 4);
+    }
+
+    @Test
+    public void testUnregisterEvictsCachedMetrics() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        observe(observer, "/hello");
+        observe(observer, "/bye");
+
+        Gauge inProgressGauge = (Gauge) registry.lookup(inProgressId("/hello"));
+        Counter requestsCounter = (Counter) registry.lookup(requestsId("/hello"));
+        registry.unregister(inProgressGauge);
+        registry.unregister(requestsCounter);
+        Assert.assertNull(registry.lookup(inProgressId("/hello")));
+        Assert.assertNull(registry.lookup(requestsId("/hello")));
+
+        // the evicted metrics are registered again by the next observation, instead of updating the removed ones
+        observe(observer, "/hello");
+        Assert.assertNotNull(registry.lookup(inProgressId("/hello")));
+        Assert.assertNotSame(registry.lookup(inProgressId("/hello")), inProgressGauge);
+        Assert.assertNotNull(registry.lookup(requestsId("/hello")));
+        Assert.assertNotSame(registry.lookup(requestsId("/hello")), requestsCounter);
+        Assert.assertEquals(registry.getAllMetrics().length, 8);
+    }
+
+    @Test
+    public void testRemoveByNameEvictsCachedMetrics() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        observe(observer, "/hello");
+        observe(observer, "/bye");
+
+        registry.remove("requests_total");
+        Assert.assertEquals(registry.getAllMetrics().length, 6);
+
+        observe(observer, "/hello");
+        observe(observer, "/bye");
+        Assert.assertNotNull(registry.lookup(requestsId("/hello")));
+        Assert.assertNotNull(registry.lookup(requestsId("/bye")));
+        Assert.assertEquals(registry.getAllMetrics().length, 8);
+    }
+
+    @Test
+    public void testObservationsBeyondCacheBound() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        int resourceCount = 3000;
+        for (int i = 0; i < resourceCount; i++) {
+            observe(observer, "/resource" + i);
+        }
+        Assert.assertEquals(registry.getAllMetrics().length, resourceCount * 4);
+
+        // metrics of both cached and uncached tag sets are looked up again once removed
+        for (String resource : new String[]{"/resource0", "/resource" + (resourceCount - 1)}) {
+            registry.unregister((Counter) registry.lookup(requestsId(resource)));
+            observe(observer, resource);
+            Assert.assertNotNull(registry.lookup(requestsId(resource)));
+        }
+        Assert.assertEquals(registry.getAllMetrics().length, resourceCount * 4);
+    }
+
+    @Test
+    public void testObserversOfDifferentRegistries() {
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        MetricRegistry otherRegistry = new MetricRegistry(new NoOpMetricProvider());
+        BallerinaMetricsObserver observer = new BallerinaMetricsObserver(registry);
+        BallerinaMetricsObserver otherObserver = new BallerinaMetricsObserver(otherRegistry);
+
+        observe(observer, "/hello");
+        observe(otherObserver, "/hello");
+        Assert.assertEquals(registry.getAllMetrics().length, 4);
+        Assert.assertEquals(otherRegistry.getAllMetrics().length, 4);
+        Assert.assertNotSame(registry.lookup(requestsId("/hello")), otherRegistry.lookup(requestsId("/hello")));
+    }
+
+    private static void observe(BallerinaMetricsObserver observer, String resource) {
+        ObserverContext observerContext = new StartedObserverContext();
+        observerContext.addTag("resource", resource);
+        observer.startServerObservation(observerContext);
+        observer.stopServerObservation(observerContext);
+    }
+
+    private static MetricId inProgressId(String resource) {
+        return new MetricId("inprogress_requests", "", Set.of(Tag.of("resource", resource)));
+    }
+
+    private static MetricId requestsId(String resource) {
+        return new MetricId("requests_total", "", Set.of(Tag.of("resource", resource)));
+    }
+
+    /**
+     * An observer context which is started, as it would be by the observe utils before the observers are notified.
+     */
+    private static class StartedObserverContext extends ObserverContext {
+
+        @Override
+        public boolean isStarted() {
+            return true;
+        }
+    }
+}
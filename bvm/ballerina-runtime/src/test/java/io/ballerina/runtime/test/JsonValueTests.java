@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BInitialValueEntry;
+import io.ballerina.runtime.api.values.BMapInitialValueEntry;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.LazyJsonParser;
+import io.ballerina.runtime.internal.TypeChecker;
+import io.ballerina.runtime.internal.TypedJsonParser;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.types.BArrayType;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.types.BUnionType;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
+import io.ballerina.runtime.internal.values.DecimalValue;
+import io.ballerina.runtime.internal.values.LazyJsonMapValue;
+import io.ballerina.runtime.internal.values.MapValue;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import io.ballerina.runtime.internal.values.TypedescValueImpl;
+import io.ballerina.runtime.internal.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for serializing and parsing JSON values.
+ */
+public class JsonValueTests {
+
+    private static final String JSON_STR = "{\"name\":\"C🛸mmander é世\", " +
+            "\"tags\":[\"a\\\"b\", \"c\\\\d/e\\n\", 1, 2.5, true, null], \"nested\":{\"id\":-7, \"empty\":[]}}";
+
+    @Test
+    void testSerializeToString() {
+        Object json = JsonParser.parse(JSON_STR);
+        Assert.assertEquals(((MapValueImpl<?, ?>) json).getJSONString(),
+                "{\"name\":\"C🛸mmander é世\", \"tags\":[\"a\\\"b\", \"c\\\\d\\/e\\n\", 1, 2.5, " +
+                        "true, null], \"nested\":{\"id\":-7, \"empty\":[]}}");
+    }
+
+    @Test
+    void testSerializeToUtf8Bytes() {
+        Object json = JsonParser.parse(JSON_STR);
+        String expected = ((MapValueImpl<?, ?>) json).getJSONString();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        Assert.assertEquals(out.toByteArray(), expected.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSerializeLargeValueToUtf8Bytes() {
+        StringBuilder jsonStr = new StringBuilder("[");
+        for (int i = 0; i < 5000; i++) {
+            if (i > 0) {
+                jsonStr.append(", ");
+            }
+            jsonStr.append("{\"key").append(i).append("\":\"é👽").append(i).append("\"}");
+        }
+        jsonStr.append(']');
+
+        Object json = JsonParser.parse(jsonStr.toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtils.serialize(json, out, StandardCharsets.UTF_8);
+        Assert.assertEquals(new String(out.toByteArray(), StandardCharsets.UTF_8), jsonStr.toString());
+        Assert.assertEquals(out.toByteArray(), jsonStr.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testLazyParse() {
+        Object eagerJson = JsonParser.parse(JSON_STR);
+        Object lazyJson = LazyJsonParser.parse(JSON_STR, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING);
+        Assert.assertTrue(lazyJson instanceof LazyJsonMapValue);
+        Assert.assertFalse(((LazyJsonMapValue) lazyJson).isMaterialized());
+
+        MapValueImpl<?, ?> lazyMap = (MapValueImpl<?, ?>) lazyJson;
+        Object nested = lazyMap.get(StringUtils.fromString("nested"));
+        Assert.assertTrue(((LazyJsonMapValue) lazyJson).isMaterialized());
+        Assert.assertFalse(((LazyJsonMapValue) nested).isMaterialized());
+        Assert.assertEquals(lazyMap.getJSONString(), ((MapValueImpl<?, ?>) eagerJson).getJSONString());
+        Assert.assertTrue(TypeChecker.isEqual(lazyJson, eagerJson));
+        Assert.assertTrue(TypeChecker.isEqual(eagerJson, lazyJson));
+
+        String flatJsonStr = "{\"id\":1, \"name\":\"a\"}";
+        Assert.assertEquals(LazyJsonParser.parse(flatJsonStr, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING),
+                JsonParser.parse(flatJsonStr));
+    }
+
+    @Test
+    void testLazyParseWithNumericModes() {
+        String jsonStr = "[{\"a\":1, \"b\":-0, \"c\":2.50, \"d\":\"\\u00e9\\t\"}, [3.5], {}]";
+        for (JsonUtils.NonStringValueProcessingMode mode : JsonUtils.NonStringValueProcessingMode.values()) {
+            ArrayValueImpl eagerJson = (ArrayValueImpl) JsonParser.parse(jsonStr, mode);
+            ArrayValueImpl lazyJson = (ArrayValueImpl) LazyJsonParser.parse(jsonStr, mode);
+            Assert.assertTrue(lazyJson.getRefValue(0) instanceof LazyJsonMapValue);
+            Assert.assertEquals(lazyJson.getJSONString(), eagerJson.getJSONString());
+            Assert.assertEquals(lazyJson.getType(), eagerJson.getType());
+            Assert.assertEquals(((MapValueImpl<?, ?>) lazyJson.getRefValue(0)).getType(),
+                    ((MapValueImpl<?, ?>) eagerJson.getRefValue(0)).getType());
+        }
+    }
+
+    @Test
+    void testLazyParseOfInvalidJson() {
+        String[] jsonStrs = {"{\"a\":1", "{\"a\":1}}", "{\"a\":tru}", "{\"a\" 1}", "{\"a\":\"\\x\"}",
+                "{\"a\":[1,]}", "{a:1}", "\"a\"", "1"};
+        for (String jsonStr : jsonStrs) {
+            Assert.assertNull(LazyJsonParser.parse(jsonStr, JsonUtils.NonStringValueProcessingMode.FROM_JSON_STRING),
+                    jsonStr);
+        }
+    }
+
+    @Test
+    void testTypedParseToRecord() {
+        Module module = new Module("testorg", "typed_json", "1");
+        BRecordType addressType = new BRecordType("Address", module, 0, createFields(
+                new BField(PredefinedTypes.TYPE_STRING, "city", SymbolFlags.REQUIRED),
+                new BField(PredefinedTypes.TYPE_STRING, "zip", SymbolFlags.OPTIONAL)), null, true, 0);
+        BRecordType personType = new BRecordType("Person", module, 0, createFields(
+                new BField(PredefinedTypes.TYPE_STRING, "name", SymbolFlags.REQUIRED),
+                new BField(PredefinedTypes.TYPE_INT, "age", SymbolFlags.REQUIRED),
+                new BField(PredefinedTypes.TYPE_FLOAT, "score", SymbolFlags.REQUIRED),
+                new BField(new BUnionType(Arrays.asList(addressType, PredefinedTypes.TYPE_NULL)), "address",
+                           SymbolFlags.REQUIRED),
+                new BField(new BArrayType(PredefinedTypes.TYPE_STRING), "tags", SymbolFlags.OPTIONAL),
+                new BField(PredefinedTypes.TYPE_JSON, "extra", SymbolFlags.OPTIONAL)),
+                PredefinedTypes.TYPE_ANYDATA, false, 0);
+        ValueCreator.addValueCreator("testorg", "typed_json", "1", new RecordValueCreator(addressType));
+
+        Object person = TypedJsonParser.parse("{\"name\":\"Anne\", \"age\":30, \"score\":7, " +
+                "\"address\":{\"city\":\"Colombo\"}, \"tags\":[\"a\\tb\"], \"extra\":{\"ids\":[1, 2.5]}, " +
+                "\"rest\":[true, null]}", new RecordTypedesc(personType));
+        Assert.assertTrue(person instanceof MapValueImpl);
+        MapValueImpl<?, ?> personValue = (MapValueImpl<?, ?>) person;
+        Assert.assertEquals(personValue.getType(), personType);
+        Assert.assertEquals(personValue.get(StringUtils.fromString("score")), 7.0);
+        Assert.assertEquals(((MapValueImpl<?, ?>) personValue.get(StringUtils.fromString("address"))).getType(),
+                            addressType);
+        Assert.assertEquals(((ArrayValueImpl) personValue.get(StringUtils.fromString("tags"))).getType(),
+                            new BArrayType(PredefinedTypes.TYPE_STRING));
+        MapValueImpl<?, ?> extra = (MapValueImpl<?, ?>) personValue.get(StringUtils.fromString("extra"));
+        Assert.assertEquals(((BMapType) extra.getType()).getConstrainedType(), PredefinedTypes.TYPE_JSON);
+        ArrayValueImpl ids = (ArrayValueImpl) extra.get(StringUtils.fromString("ids"));
+        Assert.assertEquals(ids.getRefValue(1), new DecimalValue("2.5"));
+        ArrayValueImpl rest = (ArrayValueImpl) personValue.get(StringUtils.fromString("rest"));
+        Assert.assertEquals(rest.getElementType(), PredefinedTypes.TYPE_ANYDATA);
+        Assert.assertEquals(personValue.toString(), "{\"name\":\"Anne\",\"age\":30,\"score\":7.0," +
+                "\"address\":{\"city\":\"Colombo\"},\"tags\":[\"a\tb\"],\"extra\":{\"ids\":[1,2.5]}," +
+                "\"rest\":[true,null]}");
+
+        // Documents which cannot be parsed directly to the type are left to the conversion
+        String[] jsonStrs = {"{\"name\":\"Anne\", \"score\":7, \"address\":null}",
+                "{\"name\":\"Anne\", \"age\":\"30\", \"score\":7, \"address\":null}",
+                "{\"name\":\"Anne\", \"age\":30, \"score\":7, \"address\":{\"city\":\"a\", \"x\":1}}",
+                "{\"name\":\"Anne\", \"age\":30, \"score\":7, \"address\":null",
+                "{\"name\":\"Anne\", \"age\":30, \"score\":7, \"address\":null}]"};
+        for (String jsonStr : jsonStrs) {
+            Assert.assertNull(TypedJsonParser.parse(jsonStr, new RecordTypedesc(personType)), jsonStr);
+        }
+    }
+
+    @Test
+    void testTypedParseToMap() {
+        BMapType mapType = new BMapType(new BArrayType(PredefinedTypes.TYPE_INT));
+        Object value = TypedJsonParser.parse("{\"a\":[1, 2], \"b\":[]}", new TypedescValueImpl(mapType));
+        Assert.assertEquals(((MapValueImpl<?, ?>) value).getType(), mapType);
+        Assert.assertEquals(((MapValueImpl<?, ?>) value).getJSONString(), "{\"a\":[1, 2], \"b\":[]}");
+        Assert.assertNull(TypedJsonParser.parse("{\"a\":[1, \"2\"]}", new TypedescValueImpl(mapType)));
+        Assert.assertNull(TypedJsonParser.parse("{\"a\":[1, 2]}",
+                new TypedescValueImpl(new BMapType(new BUnionType(Arrays.asList(PredefinedTypes.TYPE_INT,
+                                                                              PredefinedTypes.TYPE_STRING))))));
+    }
+
+    private static Map<String, Field> createFields(Field... fields) {
+        Map<String, Field> fieldMap = new LinkedHashMap<>();
+        for (Field field : fields) {
+            fieldMap.put(field.getFieldName(), field);
+        }
+        return fieldMap;
+    }
+
+    private static class RecordTypedesc extends TypedescValueImpl {
+
+        RecordTypedesc(Type describingType) {
+            super(describingType);
+        }
+
+        @Override
+        public Object instantiate(Strand s, BInitialValueEntry[] initialValues) {
+            return new MapValueImpl<>(getDescribingType(), (BMapInitialValueEntry[]) initialValues);
+        }
+    }
+
+    private static class RecordValueCreator extends ValueCreator {
+
+        private final BRecordType recordType;
+
+        RecordValueCreator(BRecordType recordType) {
+            this.recordType = recordType;
+        }
+
+        @Override
+        public MapValue<BString, Object> createRecordValue(String recordTypeName) {
+            return new MapValueImpl<>(recordType);
+        }
+
+        @Override
+        public BObject createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                         Map<String, Object> properties, Object[] args) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public BError createErrorValue(String errorTypeName, BString message, BError cause, Object details) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Type getAnonType(int typeHash, String typeShape) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
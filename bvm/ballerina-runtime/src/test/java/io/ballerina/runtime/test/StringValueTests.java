@@ -1,5 +1,8 @@
 package io.ballerina.runtime.test;
 
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
 import io.ballerina.runtime.internal.values.NonBmpStringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -40,4 +43,57 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testRepeatedConcat() {
+        BString result = StringUtils.fromString("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            result = result.concat(StringUtils.fromString(i + ","));
+            expected.append(i).append(',');
+        }
+        Assert.assertEquals(result.getValue(), expected.toString());
+        Assert.assertEquals(result.length(), expected.length());
+        Assert.assertEquals(result, StringUtils.fromString(expected.toString()));
+        Assert.assertEquals(result.hashCode(), expected.toString().hashCode());
+    }
+
+    @Test
+    void testConcatOfSharedPrefix() {
+        BString prefix = StringUtils.fromString("x".repeat(100));
+        BString first = prefix.concat(StringUtils.fromString("a"));
+        BString second = prefix.concat(StringUtils.fromString("b"));
+        BString third = first.concat(StringUtils.fromString("c"));
+        BString fourth = first.concat(StringUtils.fromString("d"));
+        Assert.assertEquals(first.getValue(), "x".repeat(100) + "a");
+        Assert.assertEquals(second.getValue(), "x".repeat(100) + "b");
+        Assert.assertEquals(third.getValue(), "x".repeat(100) + "ac");
+        Assert.assertEquals(fourth.getValue(), "x".repeat(100) + "ad");
+        Assert.assertEquals(prefix.length(), 100);
+    }
+
+    @Test
+    void testConcatWithNonBmp() {
+        BString result = StringUtils.fromString("a".repeat(70));
+        for (int i = 0; i < 10; i++) {
+            result = result.concat(SUBJECT);
+        }
+        Assert.assertEquals(result.length(), 70 + 10 * SUBJECT.length());
+        Assert.assertEquals(result.getCodePoint(70), 'C');
+        Assert.assertEquals(result.getCodePoint(71), 0x1F6F8);
+        Assert.assertEquals(result.getCodePoint(70 + 9 * SUBJECT.length() + 14), 0x1F47D);
+        Assert.assertEquals(result.getCodePoint(result.length() - 1), 'r');
+        Assert.assertEquals(result.substring(70, 70 + SUBJECT.length()), SUBJECT);
+        Assert.assertEquals(result.indexOf(StringUtils.fromString("Frav"), 0), Long.valueOf(70 + 10));
+
+        BString nonBmpFirst = SUBJECT.concat(result);
+        Assert.assertEquals(nonBmpFirst.length(), SUBJECT.length() + result.length());
+        Assert.assertEquals(nonBmpFirst.getCodePoint(SUBJECT.length() + 71), 0x1F6F8);
+        int count = 0;
+        for (IteratorValue it = nonBmpFirst.getIterator(); it.hasNext(); ) {
+            it.next();
+            count++;
+        }
+        Assert.assertEquals(count, nonBmpFirst.length());
+    }
+
 }
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.values.IteratorValue;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+import io.ballerina.runtime.internal.values.TupleValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the storage of {@link TableValueImpl}.
+ */
+public class TableValueTests {
+
+    private static final int ROW_COUNT = 100000;
+    private static final BString ID = StringUtils.fromString("id");
+    private static final BString CODE = StringUtils.fromString("code");
+    private static final BString NAME = StringUtils.fromString("name");
+    private static final MapType INT_ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_INT);
+    private static final MapType STRING_ROW_TYPE = TypeCreator.createMapType(PredefinedTypes.TYPE_STRING);
+
+    @Test
+    public void testIntKeyedTable() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(INT_ROW_TYPE, "id");
+        for (long i = 0; i < ROW_COUNT; i++) {
+            table.add(createRow(i));
+        }
+        Assert.assertEquals(table.size(), ROW_COUNT);
+        Assert.assertEquals(table.getNextKey(), ROW_COUNT);
+
+        for (long i = 0; i < ROW_COUNT; i += 2) {
+            Assert.assertEquals(table.remove(i).get(ID), i);
+        }
+        Assert.assertEquals(table.size(), ROW_COUNT / 2);
+        for (long i = 0; i < ROW_COUNT; i++) {
+            Assert.assertEquals(table.containsKey(i), i % 2 == 1);
+        }
+        Assert.assertNull(table.get(-1L));
+        Assert.assertNull(table.remove(-1L));
+
+        // Re-inserted rows go to the end of the iteration order, after the remaining rows
+        for (long i = 0; i < ROW_COUNT; i += 2) {
+            table.add(createRow(i));
+        }
+        Assert.assertEquals(table.size(), ROW_COUNT);
+        List<Object> ids = iterateIds(table);
+        Assert.assertEquals(ids.size(), ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT / 2; i++) {
+            Assert.assertEquals(ids.get(i), 2L * i + 1);
+            Assert.assertEquals(ids.get(ROW_COUNT / 2 + i), 2L * i);
+        }
+    }
+
+    @Test
+    public void testStringKeyedTable() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(STRING_ROW_TYPE, "name");
+        for (long i = 0; i < ROW_COUNT; i++) {
+            table.add(createStringRow(i));
+        }
+        for (long i = 0; i < ROW_COUNT; i++) {
+            BString name = StringUtils.fromString("row" + i);
+            Assert.assertEquals(table.get(name).get(NAME), name);
+        }
+
+        BMap<BString, Object> replacement = createStringRow(5);
+        table.put(StringUtils.fromString("row5"), replacement);
+        Assert.assertSame(table.get(StringUtils.fromString("row5")), replacement);
+        Assert.assertEquals(table.size(), ROW_COUNT);
+        Assert.assertSame(table.values().toArray()[5], replacement);
+    }
+
+    @Test
+    public void testMultiFieldKeyedTable() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(INT_ROW_TYPE, "id", "code");
+        for (long i = 0; i < 1000; i++) {
+            table.add(createRow(i));
+        }
+        Object[] keys = table.getKeys();
+        Assert.assertEquals(keys.length, 1000);
+        for (int i = 0; i < keys.length; i++) {
+            Assert.assertEquals(table.get(keys[i]).get(ID), (long) i);
+        }
+        Assert.assertEquals(table.remove(keys[10]).get(ID), 10L);
+        Assert.assertFalse(table.containsKey(keys[10]));
+        Assert.assertEquals(table.size(), 999);
+    }
+
+    @Test
+    public void testIterationWhileCompacting() {
+        TableValueImpl<Object, BMap<BString, Object>> table = createTable(INT_ROW_TYPE, "id");
+        for (long i = 0; i < 1000; i++) {
+            table.add(createRow(i));
+        }
+
+        IteratorValue iterator = table.getIterator();
+        List<Object> ids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(nextId(iterator));
+        }
+        // Remove visited rows and add new ones, so that the storage gets compacted mid iteration
+        for (long i = 0; i < 500; i++) {
+            table.remove(i);
+            table.add(createRow(1000 + i));
+        }
+        while (iterator.hasNext()) {
+            ids.add(nextId(iterator));
+        }
+
+        Assert.assertEquals(ids.size(), 1500);
+        for (int i = 0; i < ids.size(); i++) {
+            Assert.assertEquals(ids.get(i), (long) i);
+        }
+    }
+
+    @Test
+    public void testKeylessTable() {
+        TableValueImpl<Object, BMap<BString, Object>> table =
+                new TableValueImpl<>(TypeCreator.createTableType(INT_ROW_TYPE, false));
+        for (long i = 0; i < 100; i++) {
+            table.add(createRow(i % 10));
+        }
+        Assert.assertEquals(table.size(), 100);
+        Assert.assertEquals(table.getKeys().length, 0);
+        Assert.assertEquals(iterateIds(table).size(), 100);
+        table.clear();
+        Assert.assertTrue(table.isEmpty());
+        Assert.assertFalse(table.getIterator().hasNext());
+    }
+
+    private static TableValueImpl<Object, BMap<BString, Object>> createTable(MapType rowType, String... keyFields) {
+        return new TableValueImpl<>(TypeCreator.createTableType(rowType, keyFields, false));
+    }
+
+    private static BMap<BString, Object> createRow(long id) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(INT_ROW_TYPE);
+        row.put(ID, id);
+        row.put(CODE, id * 7);
+        return row;
+    }
+
+    private static BMap<BString, Object> createStringRow(long id) {
+        BMap<BString, Object> row = ValueCreator.createMapValue(STRING_ROW_TYPE);
+        row.put(NAME, StringUtils.fromString("row" + id));
+        return row;
+    }
+
+    private static List<Object> iterateIds(TableValueImpl<Object, BMap<BString, Object>> table) {
+        List<Object> ids = new ArrayList<>();
+        IteratorValue iterator = table.getIterator();
+        while (iterator.hasNext()) {
+            ids.add(nextId(iterator));
+        }
+        return ids;
+    }
+
+    private static Object nextId(IteratorValue iterator) {
+        TupleValueImpl entry = (TupleValueImpl) iterator.next();
+        return ((BMap<?, ?>) entry.get(1)).get(ID);
+    }
+}
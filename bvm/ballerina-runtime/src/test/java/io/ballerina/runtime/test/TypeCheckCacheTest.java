@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.internal.TypeCheckCache;
+import io.ballerina.runtime.internal.TypeChecker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for the cached results of type checks in {@link TypeCheckCache}.
+ */
+public class TypeCheckCacheTest {
+
+    @Test
+    public void testHitsAndMisses() {
+        TypeCheckCache cache = new TypeCheckCache(10);
+        Assert.assertTrue(cache.isEnabled());
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA));
+
+        cache.put(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA, true);
+        Assert.assertEquals(cache.get(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA), Boolean.TRUE);
+        // the reverse pair is a different check
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_ANYDATA, PredefinedTypes.TYPE_INT));
+
+        cache.put(PredefinedTypes.TYPE_ANYDATA, PredefinedTypes.TYPE_INT, false);
+        Assert.assertEquals(cache.get(PredefinedTypes.TYPE_ANYDATA, PredefinedTypes.TYPE_INT), Boolean.FALSE);
+        Assert.assertEquals(cache.get(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA), Boolean.TRUE);
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testTypesAreComparedByIdentity() {
+        TypeCheckCache cache = new TypeCheckCache(10);
+        Type intArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        Type otherIntArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_INT);
+        cache.put(intArray, PredefinedTypes.TYPE_JSON, true);
+
+        // structurally equal types are different keys
+        Assert.assertEquals(cache.get(intArray, PredefinedTypes.TYPE_JSON), Boolean.TRUE);
+        Assert.assertNull(cache.get(otherIntArray, PredefinedTypes.TYPE_JSON));
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_JSON, intArray));
+    }
+
+    @Test
+    public void testCacheIsResetWhenFull() {
+        TypeCheckCache cache = new TypeCheckCache(2);
+        Type stringArray = TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING);
+        cache.put(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA, true);
+        cache.put(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT, false);
+        Assert.assertEquals(cache.size(), 2);
+
+        cache.put(stringArray, PredefinedTypes.TYPE_JSON, true);
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_ANYDATA));
+        Assert.assertNull(cache.get(PredefinedTypes.TYPE_STRING, PredefinedTypes.TYPE_INT));
+        Assert.assertEquals(cache.get(stringArray, PredefinedTypes.TYPE_JSON), Boolean.TRUE);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        TypeCheckCache cache = new TypeCheckCache(0);
+        Assert.assertFalse(cache.isEnabled());
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testCachedTypeCheckResults() {
+        List<Type> types = new ArrayList<>();
+        types.add(PredefinedTypes.TYPE_INT);
+        types.add(PredefinedTypes.TYPE_STRING);
+        types.add(PredefinedTypes.TYPE_BOOLEAN);
+        types.add(PredefinedTypes.TYPE_ANYDATA);
+        types.add(PredefinedTypes.TYPE_JSON);
+        types.add(PredefinedTypes.TYPE_NULL);
+        types.add(TypeCreator.createArrayType(PredefinedTypes.TYPE_INT));
+        types.add(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        types.add(TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        types.add(TypeCreator.createUnionType(List.of(PredefinedTypes.TYPE_INT, PredefinedTypes.TYPE_STRING)));
+
+        // the first round fills the cache, and the following rounds must see the same result for each pair
+        boolean[][] results = new boolean[types.size()][types.size()];
+        for (int i = 0; i < types.size(); i++) {
+            for (int j = 0; j < types.size(); j++) {
+                results[i][j] = TypeChecker.checkIsType(types.get(i), types.get(j));
+            }
+        }
+        for (int round = 0; round < 3; round++) {
+            for (int i = types.size() - 1; i >= 0; i--) {
+                for (int j = types.size() - 1; j >= 0; j--) {
+                    Assert.assertEquals(TypeChecker.checkIsType(types.get(i), types.get(j)), results[i][j],
+                            types.get(i) + " -> " + types.get(j));
+                }
+            }
+        }
+
+        Assert.assertTrue(results[0][3]);
+        Assert.assertFalse(results[3][0]);
+        Assert.assertTrue(results[0][9]);
+        Assert.assertFalse(results[9][0]);
+        Assert.assertTrue(results[6][7]);
+        Assert.assertFalse(results[7][6]);
+        Assert.assertTrue(results[8][4]);
+        Assert.assertFalse(results[2][9]);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.XmlElementIterator;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.api.values.BXmlItem;
+import io.ballerina.runtime.internal.BallerinaXmlSerializer;
+import io.ballerina.runtime.internal.XmlFactory;
+import io.ballerina.runtime.internal.util.exceptions.BallerinaException;
+import io.ballerina.runtime.internal.values.XmlItem;
+import io.ballerina.runtime.internal.values.XmlValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test cases for xml values.
+ */
+public class XmlValueTests {
+
+    private static final String SOAP_NS = "http://schemas.xmlsoap.org/soap/envelope/";
+    private static final String ENVELOPE = "<soap:Envelope xmlns:soap=\"" + SOAP_NS + "\" xmlns:p=\"http://p.org\">" +
+            "<soap:Header><p:item>header</p:item></soap:Header>" +
+            "<soap:Body>" +
+            "<p:item id=\"1\">first</p:item>" +
+            "<!-- comment -->" +
+            "<p:item id=\"2\"><p:name>second</p:name></p:item>" +
+            "<other>third</other>" +
+            "</soap:Body>" +
+            "</soap:Envelope>";
+
+    @Test
+    public void testParseElements() {
+        List<String> elements = readElements(XmlUtils.parseElements(new StringReader(ENVELOPE), "Envelope/Body/*"));
+        Assert.assertEquals(elements.size(), 3);
+        Assert.assertEquals(elements.get(0), "<p:item xmlns:p=\"http://p.org\" id=\"1\">first</p:item>");
+        Assert.assertEquals(elements.get(1),
+                "<p:item xmlns:p=\"http://p.org\" id=\"2\"><p:name>second</p:name></p:item>");
+        Assert.assertEquals(elements.get(2), "<other>third</other>");
+    }
+
+    @Test
+    public void testParseElementsWithExpandedNames() {
+        String path = "{" + SOAP_NS + "}Envelope/{" + SOAP_NS + "}Body/{http://p.org}item";
+        ByteArrayInputStream input = new ByteArrayInputStream(ENVELOPE.getBytes(StandardCharsets.UTF_8));
+        List<String> elements = readElements(XmlUtils.parseElements(input, "UTF-8", path));
+        Assert.assertEquals(elements.size(), 2);
+        Assert.assertTrue(elements.get(0).contains("first"));
+        Assert.assertTrue(elements.get(1).contains("second"));
+
+        XmlElementIterator noMatches = XmlUtils.parseElements(new StringReader(ENVELOPE), "Envelope/Body/missing");
+        Assert.assertFalse(noMatches.hasNext());
+    }
+
+    @Test(expectedExceptions = BError.class, expectedExceptionsMessageRegExp = "failed to create xml: .*")
+    public void testParseElementsOfMalformedXml() {
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader("<a><b>1</b><b>2</a>"), "a/b");
+        while (elements.hasNext()) {
+            elements.next();
+        }
+    }
+
+    @Test
+    public void testCloseElementsBeforeEnd() {
+        try (XmlElementIterator elements = XmlUtils.parseElements(new StringReader(ENVELOPE), "Envelope/Body/*")) {
+            Assert.assertTrue(elements.hasNext());
+            Assert.assertEquals(elements.next().toString(), "<p:item xmlns:p=\"http://p.org\" id=\"1\">first</p:item>");
+            elements.close();
+            Assert.assertFalse(elements.hasNext());
+        }
+    }
+
+    @Test
+    public void testStreamElements() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BallerinaXmlSerializer serializer = new BallerinaXmlSerializer(output);
+        BXml wrapper = XmlUtils.parse("<items xmlns=\"http://items.org\" count=\"2\"><ignored/></items>").getItem(0);
+        serializer.writeStartTag(wrapper);
+        Iterator<BXml> elements = XmlUtils.parseElements(new StringReader(ENVELOPE), "Envelope/Body/item");
+        while (elements.hasNext()) {
+            serializer.write(elements.next());
+        }
+        serializer.writeEndTag();
+        serializer.flush();
+        serializer.close();
+
+        BXml result = XmlUtils.parse(new String(output.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(result.elements().size(), 1);
+        Assert.assertEquals(result.children().elements().size(), 2);
+        Assert.assertEquals(result.getAttributesMap().size(), 2);
+    }
+
+    @Test
+    public void testSetChildrenCycleDetection() {
+        BXmlItem root = (BXmlItem) XmlUtils.parse("<root><a><b/></a><c/></root>").getItem(0);
+        BXmlItem a = (BXmlItem) root.children().getItem(0);
+        BXmlItem b = (BXmlItem) a.children().getItem(0);
+        BXmlItem c = (BXmlItem) root.children().getItem(1);
+
+        assertCycleDetected(b, root);
+        assertCycleDetected(a, a);
+        assertCycleDetected(b, XmlFactory.concatenate((XmlValue) c, (XmlValue) root));
+
+        // Moving a sibling under another element does not form a cycle
+        a.setChildren(c);
+        Assert.assertEquals(root.toString(), "<root><a><c></c></a><c></c></root>");
+    }
+
+    @Test
+    public void testElementsWithoutAttributes() {
+        BXml xml = XmlUtils.parse("<root xmlns:p=\"http://p.org\"><a>1</a><p:b/><c id=\"2\"/></root>").getItem(0);
+        XmlItem a = (XmlItem) xml.children().getItem(0);
+        XmlItem b = (XmlItem) xml.children().getItem(1);
+        XmlItem c = (XmlItem) xml.children().getItem(2);
+        Assert.assertFalse(a.hasAttributes());
+        Assert.assertNull(a.getAttribute("id", null));
+        Assert.assertTrue(b.hasAttributes());
+        Assert.assertEquals(c.getAttribute("id", null).getValue(), "2");
+
+        a.getAttributesMap().put(StringUtils.fromString("id"), StringUtils.fromString("1"));
+        Assert.assertTrue(a.hasAttributes());
+        Assert.assertEquals(a.toString(), "<a id=\"1\">1</a>");
+
+        XmlItem copy = (XmlItem) c.copy(new HashMap<>());
+        Assert.assertEquals(copy.toString(), "<c id=\"2\"></c>");
+    }
+
+    private static void assertCycleDetected(BXmlItem parent, BXml children) {
+        try {
+            parent.setChildren(children);
+            Assert.fail("expected a cycle to be detected");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getDetail(), "Cycle detected");
+        }
+    }
+
+    private static List<String> readElements(Iterator<BXml> iterator) {
+        List<String> elements = new ArrayList<>();
+        while (iterator.hasNext()) {
+            elements.add(iterator.next().toString());
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test.scheduling;
+
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.SchedulerMode;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for the strand distribution modes of {@link Scheduler}.
+ */
+public class SchedulerTest {
+
+    private static final int FAN_OUT = 100;
+    private static final int CHILDREN_PER_STRAND = 10;
+    private static final int CHAINS = 8;
+    private static final int CHAIN_LENGTH = 2000;
+
+    @DataProvider(name = "schedulerModes")
+    public Object[][] schedulerModes() {
+        return new Object[][]{
+                {SchedulerMode.GLOBAL_QUEUE, 1},
+                {SchedulerMode.GLOBAL_QUEUE, 4},
+                {SchedulerMode.WORK_STEALING, 1},
+                {SchedulerMode.WORK_STEALING, 4},
+                {SchedulerMode.VIRTUAL_THREADS, 4}
+        };
+    }
+
+    @Test(dataProvider = "schedulerModes")
+    public void testFanOutFanIn(SchedulerMode mode, int numThreads) {
+        Scheduler scheduler = new Scheduler(numThreads, false, mode);
+        AtomicInteger completed = new AtomicInteger();
+
+        Function<Object[], Object> leaf = params -> completed.incrementAndGet();
+        Function<Object[], Object> worker = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILDREN_PER_STRAND; i++) {
+                scheduler.schedule(new Object[1], leaf, strand, null, "leaf", null);
+            }
+            return completed.incrementAndGet();
+        };
+        Function<Object[], Object> root = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < FAN_OUT; i++) {
+                scheduler.schedule(new Object[1], worker, strand, null, "worker", null);
+            }
+            return completed.incrementAndGet();
+        };
+
+        scheduler.schedule(new Object[1], root, null, null, "root", null);
+        // Returns once all the scheduled strands have completed.
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), 1 + FAN_OUT + FAN_OUT * CHILDREN_PER_STRAND);
+    }
+
+    @Test(dataProvider = "schedulerModes", timeOut = 60000)
+    public void testChainsOfStrands(SchedulerMode mode, int numThreads) {
+        // Each strand schedules the next one of its chain only, hence the workers are often out of work and idle
+        // workers have to be woken up for each new strand.
+        Scheduler scheduler = new Scheduler(numThreads, false, mode);
+        AtomicInteger completed = new AtomicInteger();
+
+        Function<Object[], Object> link = new Function<>() {
+            @Override
+            public Object apply(Object[] params) {
+                Strand strand = (Strand) params[0];
+                int remaining = (int) params[1];
+                if (remaining > 1) {
+                    scheduler.schedule(new Object[]{null, remaining - 1}, this, strand, null, "link", null);
+                }
+                return completed.incrementAndGet();
+            }
+        };
+        for (int i = 0; i < CHAINS; i++) {
+            scheduler.schedule(new Object[]{null, CHAIN_LENGTH}, link, null, null, "link", null);
+        }
+        // Returns once all the scheduled strands have completed.
+        scheduler.start();
+
+        Assert.assertEquals(completed.get(), CHAINS * CHAIN_LENGTH);
+    }
+}
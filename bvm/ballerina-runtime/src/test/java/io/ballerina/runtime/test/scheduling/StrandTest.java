@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.test.scheduling;
+
+import io.ballerina.runtime.internal.scheduling.Strand;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the frame stack of {@link Strand}.
+ */
+public class StrandTest {
+
+    @Test
+    public void testPushAndPopFrames() {
+        Strand strand = new Strand("test", null, null, null, null);
+        Assert.assertNull(strand.getReusableFrame());
+        for (int i = 0; i < 20; i++) {
+            strand.pushFrame(i);
+        }
+        for (int i = 19; i >= 0; i--) {
+            Assert.assertEquals(strand.popFrame(), i);
+        }
+    }
+
+    @Test
+    public void testResumedFramesAreReused() {
+        Strand strand = new Strand("test", null, null, null, null);
+        Object inner = new Object();
+        Object outer = new Object();
+        strand.pushFrame(inner);
+        strand.pushFrame(outer);
+
+        Assert.assertSame(strand.popFrame(), outer);
+        Assert.assertSame(strand.popFrame(), inner);
+
+        // frames are handed out again at the depth they were pushed from
+        Assert.assertSame(strand.getReusableFrame(), inner);
+        strand.pushFrame(inner);
+        Assert.assertSame(strand.getReusableFrame(), outer);
+        strand.pushFrame(new Object());
+        Assert.assertNull(strand.getReusableFrame());
+    }
+}
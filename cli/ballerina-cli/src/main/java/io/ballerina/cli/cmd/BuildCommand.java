@@ -122,6 +122,12 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--dump-raw-graphs", hidden = true)
     private boolean dumpRawGraphs;
 
+    @CommandLine.Option(names = "--inline-functions", hidden = true)
+    private Boolean inlineFunctions;
+
+    @CommandLine.Option(names = "--build-cache", hidden = true)
+    private Boolean buildCache;
+
     @CommandLine.Option(names = {"--help", "-h"}, hidden = true)
     private boolean helpFlag;
 
@@ -278,7 +284,9 @@ public class BuildCommand implements BLauncherCmd {
                 .setDumpBuildTime(dumpBuildTime)
                 .setSticky(sticky)
                 .setConfigSchemaGen(configSchemaGen)
-                .setExportOpenAPI(exportOpenAPI);
+                .setExportOpenAPI(exportOpenAPI)
+                .setInlineFunctions(inlineFunctions)
+                .setBuildCache(buildCache);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
@@ -98,6 +98,10 @@ public class CompileTask implements Task {
                         .forEach(d -> err.println(d.toString()));
             }
 
+            if (project.buildOptions().buildCache()) {
+                printBuildCacheReport(packageCompilation);
+            }
+
             // Report package compilation and backend diagnostics
             DiagnosticResult diagnosticResult = jBallerinaBackend.diagnosticResult();
             diagnosticResult.diagnostics(false).forEach(d -> err.println(d.toString()));
@@ -110,4 +114,13 @@ public class CompileTask implements Task {
             throw createLauncherException("compilation failed: " + e.getMessage());
         }
     }
+
+    private void printBuildCacheReport(PackageCompilation packageCompilation) {
+        int hitCount = packageCompilation.buildCacheHitCount();
+        int missCount = packageCompilation.buildCacheMissCount();
+        if (hitCount + missCount == 0) {
+            return;
+        }
+        this.out.println("\tbuild cache: " + hitCount + " module(s) reused, " + missCount + " module(s) compiled");
+    }
 }
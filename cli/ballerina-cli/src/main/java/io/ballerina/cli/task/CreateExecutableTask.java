@@ -97,6 +97,11 @@ public class CreateExecutableTask implements Task {
             jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
             if (project.buildOptions().dumpBuildTime()) {
                 BuildTime.getInstance().emitArtifactDuration = System.currentTimeMillis() - start;
+                jBallerinaBackend.executableJarAssemblyTime().ifPresent(assemblyTime -> {
+                    BuildTime.getInstance().executableJarIndexDuration = assemblyTime.indexDuration();
+                    BuildTime.getInstance().executableJarResolveDuration = assemblyTime.resolveDuration();
+                    BuildTime.getInstance().executableJarWriteDuration = assemblyTime.writeDuration();
+                });
                 BuildTime.getInstance().compile = false;
             }
 
@@ -34,6 +34,9 @@ public class BuildTime {
     public long packageCompilationDuration;
     public long codeGenDuration;
     public long emitArtifactDuration;
+    public long executableJarIndexDuration;
+    public long executableJarResolveDuration;
+    public long executableJarWriteDuration;
     public long testingExecutionDuration;
     public long totalDuration;
 
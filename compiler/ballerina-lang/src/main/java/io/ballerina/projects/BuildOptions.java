@@ -25,15 +25,17 @@ public class BuildOptions {
     private Boolean codeCoverage;
     private Boolean dumpBuildTime;
     private Boolean skipTests;
+    private Boolean buildCache;
     private CompilationOptions compilationOptions;
     private String targetDir;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
-                 CompilationOptions compilationOptions, String targetPath) {
+                 Boolean buildCache, CompilationOptions compilationOptions, String targetPath) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
         this.skipTests = skipTests;
+        this.buildCache = buildCache;
         this.compilationOptions = compilationOptions;
         this.targetDir = targetPath;
     }
@@ -55,6 +57,16 @@ public class BuildOptions {
         return toBooleanTrueIfNull(this.skipTests);
     }
 
+    /**
+     * Returns whether modules of the current package whose sources and dependencies have not changed since the
+     * previous build are loaded from the build cache in the target directory instead of being compiled again.
+     *
+     * @return whether the build cache is enabled
+     */
+    public boolean buildCache() {
+        return toBooleanDefaultIfNull(this.buildCache);
+    }
+
     public boolean offlineBuild() {
         return this.compilationOptions.offlineBuild();
     }
@@ -87,6 +99,14 @@ public class BuildOptions {
         return this.compilationOptions.exportOpenAPI();
     }
 
+    public int parallelism() {
+        return this.compilationOptions.parallelism();
+    }
+
+    public boolean inlineFunctions() {
+        return this.compilationOptions.inlineFunctions();
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -115,6 +135,11 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setDumpBuildTime(this.dumpBuildTime);
         }
+        if (theirOptions.buildCache != null) {
+            buildOptionsBuilder.setBuildCache(theirOptions.buildCache);
+        } else {
+            buildOptionsBuilder.setBuildCache(this.buildCache);
+        }
         if (theirOptions.targetDir != null) {
             buildOptionsBuilder.targetDir(theirOptions.targetDir);
         } else {
@@ -134,6 +159,8 @@ public class BuildOptions {
         buildOptionsBuilder.setSticky(compilationOptions.sticky);
         buildOptionsBuilder.setConfigSchemaGen(compilationOptions.configSchemaGen);
         buildOptionsBuilder.setExportOpenAPI(compilationOptions.exportOpenAPI);
+        buildOptionsBuilder.setParallelism(compilationOptions.parallelism);
+        buildOptionsBuilder.setInlineFunctions(compilationOptions.inlineFunctions);
 
         return buildOptionsBuilder.build();
     }
@@ -168,6 +195,7 @@ public class BuildOptions {
         TEST_REPORT("testReport"),
         CODE_COVERAGE("codeCoverage"),
         DUMP_BUILD_TIME("dumpBuildTime"),
+        BUILD_CACHE("buildCache"),
         TARGET_DIR("targetDir");
 
         private final String name;
@@ -192,6 +220,7 @@ public class BuildOptions {
         private Boolean codeCoverage;
         private Boolean dumpBuildTime;
         private Boolean skipTests;
+        private Boolean buildCache;
         private String targetPath;
         private final CompilationOptions.CompilationOptionsBuilder compilationOptionsBuilder;
 
@@ -219,6 +248,11 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setBuildCache(Boolean value) {
+            buildCache = value;
+            return this;
+        }
+
         public BuildOptionsBuilder setSticky(Boolean value) {
             compilationOptionsBuilder.setSticky(value);
             return this;
@@ -284,9 +318,20 @@ public class BuildOptions {
             return this;
         }
 
+        public BuildOptionsBuilder setParallelism(Integer value) {
+            compilationOptionsBuilder.setParallelism(value);
+            return this;
+        }
+
+        public BuildOptionsBuilder setInlineFunctions(Boolean value) {
+            compilationOptionsBuilder.setInlineFunctions(value);
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
-            return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions, targetPath);
+            return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, buildCache,
+                    compilationOptions, targetPath);
         }
     }
 }
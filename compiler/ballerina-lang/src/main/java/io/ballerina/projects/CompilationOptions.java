@@ -37,12 +37,15 @@ public class CompilationOptions {
     Boolean withCodeModifiers;
     Boolean configSchemaGen;
     Boolean exportOpenAPI;
+    Integer parallelism;
+    Boolean inlineFunctions;
 
     CompilationOptions(Boolean offlineBuild, Boolean experimental,
                        Boolean observabilityIncluded, Boolean dumpBir, Boolean dumpBirFile,
                        String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
-                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI) {
+                       Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
+                       Integer parallelism, Boolean inlineFunctions) {
         this.offlineBuild = offlineBuild;
         this.experimental = experimental;
         this.observabilityIncluded = observabilityIncluded;
@@ -57,6 +60,8 @@ public class CompilationOptions {
         this.withCodeModifiers = withCodeModifiers;
         this.configSchemaGen = configSchemaGen;
         this.exportOpenAPI = exportOpenAPI;
+        this.parallelism = parallelism;
+        this.inlineFunctions = inlineFunctions;
     }
 
     public boolean offlineBuild() {
@@ -115,6 +120,23 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.exportOpenAPI);
     }
 
+    /**
+     * Returns the number of threads the compiler may use to process modules concurrently.
+     * Defaults to the number of available processors. A value of {@code 1} processes modules sequentially.
+     *
+     * @return parallelism level
+     */
+    public int parallelism() {
+        if (this.parallelism == null) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        return Math.max(1, this.parallelism);
+    }
+
+    public boolean inlineFunctions() {
+        return toBooleanDefaultIfNull(this.inlineFunctions);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -193,6 +215,16 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setExportOpenAPI(this.exportOpenAPI);
         }
+        if (theirOptions.parallelism != null) {
+            compilationOptionsBuilder.setParallelism(theirOptions.parallelism);
+        } else {
+            compilationOptionsBuilder.setParallelism(this.parallelism);
+        }
+        if (theirOptions.inlineFunctions != null) {
+            compilationOptionsBuilder.setInlineFunctions(theirOptions.inlineFunctions);
+        } else {
+            compilationOptionsBuilder.setInlineFunctions(this.inlineFunctions);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -241,6 +273,8 @@ public class CompilationOptions {
         private Boolean withCodeModifiers;
         private Boolean configSchemaGen;
         private Boolean exportOpenAPI;
+        private Integer parallelism;
+        private Boolean inlineFunctions;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -312,10 +346,21 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setParallelism(Integer value) {
+            parallelism = value;
+            return this;
+        }
+
+        CompilationOptionsBuilder setInlineFunctions(Boolean value) {
+            inlineFunctions = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, experimental, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
-                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI);
+                    withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI, parallelism,
+                    inlineFunctions);
         }
     }
 }
@@ -63,6 +63,24 @@ class CompilerPluginManager {
         return new CompilerPluginManager(compilation, compilerPluginContexts);
     }
 
+    /**
+     * Returns whether a direct dependency of the package engages a compiler plugin in the compilation of the package.
+     * The in-built compiler plugins are not considered.
+     *
+     * @param packageResolution resolution of the package
+     * @return whether a dependency engages a compiler plugin
+     */
+    static boolean hasEngagedCompilerPlugins(PackageResolution packageResolution) {
+        ResolvedPackageDependency rootPkgNode = new ResolvedPackageDependency(
+                packageResolution.packageContext().project().currentPackage(), PackageDependencyScope.DEFAULT);
+        for (Package pkgDependency : getDirectDependencies(rootPkgNode, packageResolution.dependencyGraph())) {
+            if (pkgDependency.manifest().compilerPluginDescriptor().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private static List<CompilerPluginInfo> loadInBuiltCompilerPlugins(Package rootPackage) {
         List<CompilerPluginInfo> compilerPluginInfoList = new ArrayList<>();
         for (CompilerPlugin plugin : CompilerPlugins.getBuiltInPlugins()) {
@@ -28,7 +28,7 @@ import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.apache.commons.compress.archivers.jar.JarArchiveEntry;
-import org.apache.commons.compress.archivers.zip.ZipArchiveEntryPredicate;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
 import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.apache.commons.compress.archivers.zip.ZipFile;
 import org.ballerinalang.maven.Dependency;
@@ -44,18 +44,19 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
-import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -63,6 +64,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -99,6 +104,9 @@ public class JBallerinaBackend extends CompilerBackend {
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
     private List<JarConflict> conflictedJars;
+    private final List<Future<?>> pendingJarWrites = new ArrayList<>();
+    private ExecutorService jarWriterPool;
+    private ExecutableJarAssemblyTime executableJarAssemblyTime;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
         // Check if the project has write permissions
@@ -151,24 +159,32 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
-            // If modules from the current package are being processed
-            // we do an overall check on the diagnostics of the package
-            if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
-                if (packageCompilation.diagnosticResult().hasErrors()) {
-                    moduleDiagnostics.addAll(packageCompilation.diagnosticResult().diagnostics());
-                    break;
+        // Code generation shares the compiler context and therefore runs module by module, but the
+        // generated jars are written to the compilation cache on a worker pool while the next module is processed.
+        startJarWriters(packageContext.compilationOptions().parallelism());
+        try {
+            for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+                // If modules from the current package are being processed
+                // we do an overall check on the diagnostics of the package
+                if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
+                    if (packageCompilation.diagnosticResult().hasErrors()) {
+                        moduleDiagnostics.addAll(packageCompilation.diagnosticResult().diagnostics());
+                        break;
+                    }
                 }
-            }
 
-            // We can't generate backend code when one of its dependencies have errors.
-            if (hasNoErrors(moduleDiagnostics)) {
-                moduleContext.generatePlatformSpecificCode(compilerContext, this);
-            }
-            for (Diagnostic diagnostic : moduleContext.diagnostics()) {
-                moduleDiagnostics.add(
-                        new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+                // We can't generate backend code when one of its dependencies have errors.
+                if (hasNoErrors(moduleDiagnostics)) {
+                    moduleContext.generatePlatformSpecificCode(compilerContext, this);
+                }
+                for (Diagnostic diagnostic : moduleContext.diagnostics()) {
+                    moduleDiagnostics.add(
+                            new PackageDiagnostic(diagnostic, moduleContext.descriptor(), moduleContext.project()));
+                }
             }
+            awaitJarWriters();
+        } finally {
+            stopJarWriters();
         }
         // add compilation diagnostics
         diagnostics.addAll(moduleDiagnostics);
@@ -181,6 +197,60 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    private void startJarWriters(int parallelism) {
+        if (parallelism <= 1) {
+            return;
+        }
+        this.jarWriterPool = Executors.newFixedThreadPool(parallelism - 1, runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-jar-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void awaitJarWriters() {
+        try {
+            // Wait in submission order so that the first failure reported is deterministic
+            for (Future<?> pendingJarWrite : pendingJarWrites) {
+                pendingJarWrite.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("Interrupted while caching generated jars", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProjectException(cause.getMessage(), cause);
+        }
+    }
+
+    private void stopJarWriters() {
+        pendingJarWrites.clear();
+        if (jarWriterPool != null) {
+            jarWriterPool.shutdownNow();
+            jarWriterPool = null;
+        }
+    }
+
+    private void cacheJar(CompiledJarFile compiledJarFile, Map<String, byte[]> resources, String jarFileName,
+                          CompilationCache compilationCache, String errorMessage) {
+        Runnable writeTask = () -> {
+            try {
+                ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, resources);
+                compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
+            } catch (IOException e) {
+                throw new ProjectException(errorMessage);
+            }
+        };
+        if (jarWriterPool == null) {
+            writeTask.run();
+        } else {
+            pendingJarWrites.add(jarWriterPool.submit(writeTask));
+        }
+    }
+
     private boolean hasNoErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -312,12 +382,8 @@ public class JBallerinaBackend extends CompilerBackend {
             throw new IllegalStateException("Missing generated jar, module: " + moduleContext.moduleName());
         }
         String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledJarFile, getResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, jarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated jar, module: " + moduleContext.moduleName());
-        }
+        cacheJar(compiledJarFile, getResources(moduleContext), jarFileName, compilationCache,
+                "Failed to cache generated jar, module: " + moduleContext.moduleName());
         // skip generation of the test jar if --with-tests option is not provided
         if (moduleContext.project().buildOptions().skipTests()) {
             return;
@@ -329,12 +395,8 @@ public class JBallerinaBackend extends CompilerBackend {
 
         String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
         CompiledJarFile compiledTestJarFile = jvmCodeGenerator.generateTestModule(bLangPackage.testablePkgs.get(0));
-        try {
-            ByteArrayOutputStream byteStream = JarWriter.write(compiledTestJarFile, getAllResources(moduleContext));
-            compilationCache.cachePlatformSpecificLibrary(this, testJarFileName, byteStream);
-        } catch (IOException e) {
-            throw new ProjectException("Failed to cache generated test jar, module: " + moduleContext.moduleName());
-        }
+        cacheJar(compiledTestJarFile, getAllResources(moduleContext), testJarFileName, compilationCache,
+                "Failed to cache generated test jar, module: " + moduleContext.moduleName());
     }
 
     @Override
@@ -350,6 +412,15 @@ public class JBallerinaBackend extends CompilerBackend {
         return conflictedJars;
     }
 
+    /**
+     * Returns the time spent in each phase of the last executable jar assembly.
+     *
+     * @return time spent assembling the executable jar, if an executable was emitted
+     */
+    public Optional<ExecutableJarAssemblyTime> executableJarAssemblyTime() {
+        return Optional.ofNullable(executableJarAssemblyTime);
+    }
+
     // TODO Can we move this method to Module.displayName()
     private String getJarFileName(ModuleContext moduleContext) {
         String jarName;
@@ -369,6 +440,12 @@ public class JBallerinaBackend extends CompilerBackend {
     private void assembleExecutableJar(Path executableFilePath,
                                        Manifest manifest,
                                        Collection<JarLibrary> jarLibraries) throws IOException {
+        long startTime = System.currentTimeMillis();
+        // Reading the central directories and the SPI files of the dependency jars dominates the assembly of
+        // large executables, hence the jars are indexed concurrently.
+        List<IndexedJar> indexedJars = indexJars(jarLibraries);
+        long indexedTime = System.currentTimeMillis();
+
         // Used to prevent adding duplicated entries during the final jar creation.
         HashMap<String, JarLibrary> copiedEntries = new HashMap<>();
 
@@ -376,13 +453,20 @@ public class JBallerinaBackend extends CompilerBackend {
         // service loader related information should be merged together in the final executable jar creation.
         HashMap<String, StringBuilder> serviceEntries = new HashMap<>();
 
+        // Entries are selected in the order of the jars, so that the first jar providing an entry wins.
+        for (IndexedJar indexedJar : indexedJars) {
+            selectEntries(indexedJar, copiedEntries, serviceEntries);
+        }
+        long resolvedTime = System.currentTimeMillis();
+
         try (ZipArchiveOutputStream outStream = new ZipArchiveOutputStream(
                 new BufferedOutputStream(new FileOutputStream(executableFilePath.toString())))) {
             writeManifest(manifest, outStream);
 
-            // Copy all the jars
-            for (JarLibrary library : jarLibraries) {
-                copyJar(outStream, library, copiedEntries, serviceEntries);
+            // Copy all the jars. Transfers selected entries to the output stream, while preserving their
+            // compression and all the other original attributes. Only one jar is open at a time.
+            for (IndexedJar indexedJar : indexedJars) {
+                copySelectedEntries(indexedJar, outStream);
             }
 
             // Copy merged spi services.
@@ -395,6 +479,21 @@ public class JBallerinaBackend extends CompilerBackend {
                 outStream.closeArchiveEntry();
             }
         }
+        this.executableJarAssemblyTime = new ExecutableJarAssemblyTime(indexedTime - startTime,
+                resolvedTime - indexedTime, System.currentTimeMillis() - resolvedTime);
+    }
+
+    private static void copySelectedEntries(IndexedJar indexedJar, ZipArchiveOutputStream outStream)
+            throws IOException {
+        try (ZipFile zipFile = new ZipFile(indexedJar.jarLibrary.path().toFile())) {
+            // Entries are matched by their position, as a jar may contain more than one entry with the same name
+            int position = 0;
+            for (ZipArchiveEntry entry : Collections.list(zipFile.getEntriesInPhysicalOrder())) {
+                if (indexedJar.selectedEntries.get(position++)) {
+                    outStream.addRawArchiveEntry(entry, zipFile.getRawInputStream(entry));
+                }
+            }
+        }
     }
 
     private void writeManifest(Manifest manifest, ZipArchiveOutputStream outStream) throws IOException {
@@ -425,68 +524,113 @@ public class JBallerinaBackend extends CompilerBackend {
         return manifest;
     }
 
+    private List<IndexedJar> indexJars(Collection<JarLibrary> jarLibraries) throws IOException {
+        int parallelism = Math.min(packageContext.compilationOptions().parallelism(), jarLibraries.size());
+        List<IndexedJar> indexedJars = new ArrayList<>(jarLibraries.size());
+        if (parallelism <= 1) {
+            for (JarLibrary jarLibrary : jarLibraries) {
+                indexedJars.add(indexJar(jarLibrary));
+            }
+            return indexedJars;
+        }
+
+        ExecutorService jarReaderPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-jar-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<IndexedJar>> pendingJars = new ArrayList<>(jarLibraries.size());
+        try {
+            for (JarLibrary jarLibrary : jarLibraries) {
+                pendingJars.add(jarReaderPool.submit(() -> indexJar(jarLibrary)));
+            }
+            // Collect in submission order, which is the order the entries are resolved in
+            for (Future<IndexedJar> pendingJar : pendingJars) {
+                indexedJars.add(pendingJar.get());
+            }
+            return indexedJars;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("Interrupted while reading the dependency jars", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProjectException(cause.getMessage(), cause);
+        } finally {
+            // Jars are closed once they are indexed, hence the jars which are still pending can be dropped
+            jarReaderPool.shutdownNow();
+        }
+    }
+
     /**
-     * Copies a given jar file into the executable fat jar.
+     * Reads the entries of a given jar file and its SPI files, which are merged rather than copied into the executable
+     * fat jar. The jar is closed once it is read, and opened again when its entries are copied.
      *
-     * @param outStream     Output stream of the final uber jar.
-     * @param jarLibrary    jar library.
+     * @param jarLibrary jar library.
+     * @return the entries of the jar in physical order.
+     * @throws IOException If reading the jar file is failed.
+     */
+    private static IndexedJar indexJar(JarLibrary jarLibrary) throws IOException {
+        try (ZipFile zipFile = new ZipFile(jarLibrary.path().toFile())) {
+            List<ZipArchiveEntry> entries = Collections.list(zipFile.getEntriesInPhysicalOrder());
+            Map<ZipArchiveEntry, String> services = new HashMap<>();
+            for (ZipArchiveEntry entry : entries) {
+                if (entry.getName().startsWith("META-INF/services")) {
+                    try (InputStream inStream = zipFile.getInputStream(entry)) {
+                        services.put(entry, new String(inStream.readAllBytes(), StandardCharsets.ISO_8859_1));
+                    }
+                }
+            }
+            return new IndexedJar(jarLibrary, entries, services);
+        }
+    }
+
+    /**
+     * Selects the entries of a given jar file to be copied into the executable fat jar.
+     *
+     * @param indexedJar    Opened jar file.
      * @param copiedEntries Entries set will be used to ignore duplicate files.
      * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If jar file copying is failed.
      */
-    private void copyJar(ZipArchiveOutputStream outStream, JarLibrary jarLibrary,
-            HashMap<String, JarLibrary> copiedEntries, HashMap<String, StringBuilder> services) throws IOException {
-
-        ZipFile zipFile = new ZipFile(jarLibrary.path().toFile());
-        ZipArchiveEntryPredicate predicate = entry -> {
+    private void selectEntries(IndexedJar indexedJar, HashMap<String, JarLibrary> copiedEntries,
+                               HashMap<String, StringBuilder> services) {
+        JarLibrary jarLibrary = indexedJar.jarLibrary;
+        for (int position = 0; position < indexedJar.entries.size(); position++) {
+            ZipArchiveEntry entry = indexedJar.entries.get(position);
             String entryName = entry.getName();
             if (entryName.equals("META-INF/MANIFEST.MF")) {
-                return false;
+                continue;
             }
 
-            if (entryName.startsWith("META-INF/services")) {
-                StringBuilder s = services.get(entryName);
-                if (s == null) {
-                    s = new StringBuilder();
-                    services.put(entryName, s);
-                }
-                char c = '\n';
-
-                int len;
-                try (BufferedInputStream inStream = new BufferedInputStream(zipFile.getInputStream(entry))) {
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-                if (c != '\n') {
+            String service = indexedJar.services.get(entry);
+            if (service != null) {
+                StringBuilder s = services.computeIfAbsent(entryName, name -> new StringBuilder());
+                s.append(service);
+                if (!service.isEmpty() && service.charAt(service.length() - 1) != '\n') {
                     s.append('\n');
                 }
 
                 // Its not required to copy SPI entries in here as we'll be adding merged SPI related entries
-                // separately. Therefore the predicate should be set as false.
-                return false;
+                // separately.
+                continue;
             }
 
             // Skip already copied files or excluded extensions.
             if (isCopiedEntry(entryName, copiedEntries)) {
                 addConflictedJars(jarLibrary, copiedEntries, entryName);
-                return false;
+                continue;
             }
             if (isExcludedEntry(entryName)) {
-                return false;
+                continue;
             }
-            // SPIs will be merged first and then put into jar separately.
             copiedEntries.put(entryName, jarLibrary);
-            return true;
-        };
-
-        // Transfers selected entries from this zip file to the output stream, while preserving its compression and
-        // all the other original attributes.
-        zipFile.copyRawEntries(outStream, predicate);
-        zipFile.close();
+            indexedJar.selectedEntries.set(position);
+        }
     }
 
     private static boolean isCopiedEntry(String entryName, HashMap<String, JarLibrary> copiedEntries) {
@@ -605,6 +749,50 @@ public class JBallerinaBackend extends CompilerBackend {
         return jdkVersion;
     }
 
+    /**
+     * Inner class to represent a dependency jar opened for the executable jar assembly.
+     */
+    private static class IndexedJar {
+        private final JarLibrary jarLibrary;
+        private final List<ZipArchiveEntry> entries;
+        private final Map<ZipArchiveEntry, String> services;
+        // Positions of the selected entries in the physical order of the entries
+        private final BitSet selectedEntries = new BitSet();
+
+        IndexedJar(JarLibrary jarLibrary, List<ZipArchiveEntry> entries, Map<ZipArchiveEntry, String> services) {
+            this.jarLibrary = jarLibrary;
+            this.entries = entries;
+            this.services = services;
+        }
+    }
+
+    /**
+     * Inner class to represent the time spent in each phase of the executable jar assembly, in milliseconds.
+     */
+    public static class ExecutableJarAssemblyTime {
+        private final long indexDuration;
+        private final long resolveDuration;
+        private final long writeDuration;
+
+        ExecutableJarAssemblyTime(long indexDuration, long resolveDuration, long writeDuration) {
+            this.indexDuration = indexDuration;
+            this.resolveDuration = resolveDuration;
+            this.writeDuration = writeDuration;
+        }
+
+        public long indexDuration() {
+            return indexDuration;
+        }
+
+        public long resolveDuration() {
+            return resolveDuration;
+        }
+
+        public long writeDuration() {
+            return writeDuration;
+        }
+    }
+
     /**
      * Inner class to represent jar conflict.
      */
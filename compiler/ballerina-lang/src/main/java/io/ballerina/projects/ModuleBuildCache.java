@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.projects.util.ProjectUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * A content addressed cache of the BIR and the generated platform libraries of the modules of a {@code BuildProject}.
+ * <p>
+ * Entries are keyed by the fingerprint of the module, which is computed from its sources, the compiler version and
+ * the fingerprints of its dependencies. Unlike the compilation cache, this cache is not cleaned at the start of a
+ * build. The structure of the cache is as below
+ * - build-cache
+ * - module-name
+ * - fingerprint
+ * - module-name.bir
+ * - target-platform
+ * - org-package-name-version.jar
+ * <p>
+ * The BIR of an entry is written after its platform libraries, hence an entry with a BIR is complete.
+ *
+ * @since 2.0.0
+ */
+class ModuleBuildCache {
+    private final Path buildCacheDirPath;
+
+    private ModuleBuildCache(Path buildCacheDirPath) {
+        this.buildCacheDirPath = buildCacheDirPath;
+    }
+
+    static ModuleBuildCache from(Project project) {
+        return new ModuleBuildCache(project.targetDir().resolve(ProjectConstants.BUILD_CACHE_DIR_NAME));
+    }
+
+    Optional<byte[]> getBir(ModuleName moduleName, String fingerprint) {
+        Path birFilePath = getBirFilePath(moduleName, fingerprint);
+        if (!Files.exists(birFilePath)) {
+            return Optional.empty();
+        }
+        return Optional.of(readFile(birFilePath));
+    }
+
+    /**
+     * Copies the platform libraries of the given entry to the compilation cache, where the compiler backend
+     * looks for the generated libraries of each module.
+     *
+     * @param moduleName       name of the module
+     * @param fingerprint      fingerprint of the module
+     * @param compilerBackend  compiler backend of the build
+     * @param compilationCache compilation cache of the project
+     */
+    void restorePlatformSpecificLibraries(ModuleName moduleName, String fingerprint, CompilerBackend compilerBackend,
+                                          CompilationCache compilationCache) {
+        if (compilerBackend.targetPlatform() == null) {
+            return;
+        }
+
+        Path libraryDirPath = getEntryPath(moduleName, fingerprint).resolve(compilerBackend.targetPlatform().code());
+        if (!Files.isDirectory(libraryDirPath)) {
+            throw new ProjectException("build cache does not contain the '" + compilerBackend.targetPlatform().code()
+                    + "' libraries of module '" + moduleName + "'. Run 'bal clean' and build again");
+        }
+
+        String libraryFileExtension = compilerBackend.libraryFileExtension();
+        try (DirectoryStream<Path> libraryFilePaths = Files.newDirectoryStream(libraryDirPath,
+                "*" + libraryFileExtension)) {
+            for (Path libraryFilePath : libraryFilePaths) {
+                String libraryFileName = libraryFilePath.getFileName().toString();
+                String libraryName = libraryFileName.substring(0,
+                        libraryFileName.length() - libraryFileExtension.length());
+                ByteArrayOutputStream libraryContent = new ByteArrayOutputStream();
+                libraryContent.writeBytes(readFile(libraryFilePath));
+                compilationCache.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            }
+        } catch (IOException e) {
+            throw new ProjectException("failed to read the build cache of module '" + moduleName + "': "
+                    + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a compilation cache which also stores the platform libraries written to the given compilation cache,
+     * together with the given BIR, as the build cache entry of the module.
+     * <p>
+     * Entries of earlier versions of the module are removed.
+     *
+     * @param moduleName       name of the module
+     * @param fingerprint      fingerprint of the module
+     * @param birContent       serialized BIR of the module
+     * @param compilationCache compilation cache of the project
+     * @return a compilation cache that updates the build cache
+     */
+    CompilationCache recordingCache(ModuleName moduleName, String fingerprint, byte[] birContent,
+                                    CompilationCache compilationCache) {
+        removeStaleEntries(moduleName, fingerprint);
+        return new RecordingCompilationCache(compilationCache, moduleName, fingerprint, birContent);
+    }
+
+    private void removeStaleEntries(ModuleName moduleName, String fingerprint) {
+        Path moduleCacheDirPath = buildCacheDirPath.resolve(moduleName.toString());
+        if (!Files.isDirectory(moduleCacheDirPath)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> entryPaths = Files.newDirectoryStream(moduleCacheDirPath)) {
+            for (Path entryPath : entryPaths) {
+                if (!entryPath.getFileName().toString().equals(fingerprint)) {
+                    ProjectUtils.deleteDirectory(entryPath);
+                }
+            }
+        } catch (IOException e) {
+            throw new ProjectException("failed to clean the build cache of module '" + moduleName + "': "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private Path getEntryPath(ModuleName moduleName, String fingerprint) {
+        return buildCacheDirPath.resolve(moduleName.toString()).resolve(fingerprint);
+    }
+
+    private Path getBirFilePath(ModuleName moduleName, String fingerprint) {
+        return getEntryPath(moduleName, fingerprint)
+                .resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+    }
+
+    private static byte[] readFile(Path filePath) {
+        try {
+            return Files.readAllBytes(filePath);
+        } catch (IOException e) {
+            throw new ProjectException("failed to read the build cache file '" + filePath + "': " + e.getMessage(), e);
+        }
+    }
+
+    // Write to a temporary file first, so that a file in the cache is either complete or absent
+    private static void writeFile(Path filePath, byte[] content) throws IOException {
+        Path dirPath = filePath.getParent();
+        Files.createDirectories(dirPath);
+        Path tempFilePath = Files.createTempFile(dirPath, filePath.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFilePath, content);
+            Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+    }
+
+    /**
+     * A {@code CompilationCache} that delegates to the compilation cache of the project and completes the build
+     * cache entry of a module once its platform library is written.
+     *
+     * @since 2.0.0
+     */
+    private class RecordingCompilationCache extends CompilationCache {
+        private final CompilationCache compilationCache;
+        private final ModuleName moduleName;
+        private final String fingerprint;
+        private final byte[] birContent;
+
+        RecordingCompilationCache(CompilationCache compilationCache, ModuleName moduleName, String fingerprint,
+                                  byte[] birContent) {
+            super(compilationCache.project);
+            this.compilationCache = compilationCache;
+            this.moduleName = moduleName;
+            this.fingerprint = fingerprint;
+            this.birContent = birContent;
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            return compilationCache.getBir(moduleName);
+        }
+
+        @Override
+        public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+            compilationCache.cacheBir(moduleName, birContent);
+        }
+
+        @Override
+        public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
+            return compilationCache.getPlatformSpecificLibrary(compilerBackend, libraryName);
+        }
+
+        @Override
+        public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
+                                                 String libraryName,
+                                                 ByteArrayOutputStream libraryContent) {
+            compilationCache.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
+            Path libraryFilePath = getEntryPath(moduleName, fingerprint)
+                    .resolve(compilerBackend.targetPlatform().code())
+                    .resolve(libraryName + compilerBackend.libraryFileExtension());
+            try {
+                writeFile(libraryFilePath, libraryContent.toByteArray());
+                writeFile(getBirFilePath(moduleName, fingerprint), birContent);
+            } catch (IOException e) {
+                throw new ProjectException("failed to update the build cache of module '" + moduleName + "': "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -42,6 +42,10 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
+            if (ModuleContext.loadFromBuildCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -71,6 +75,10 @@ enum ModuleCompilationState {
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
             resolveDependencies(moduleContext);
+            if (ModuleContext.loadFromBuildCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
@@ -97,6 +105,10 @@ enum ModuleCompilationState {
 
         @Override
         void compile(ModuleContext moduleContext, CompilerContext compilerContext) {
+            if (ModuleContext.loadFromBuildCacheInternal(moduleContext, compilerContext)) {
+                moduleContext.setCompilationState(MODULE_SYMBOL_LOADED);
+                return;
+            }
             ModuleContext.compileInternal(moduleContext, compilerContext);
             moduleContext.setCompilationState(COMPILED);
         }
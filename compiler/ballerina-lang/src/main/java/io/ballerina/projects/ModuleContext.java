@@ -19,6 +19,7 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
@@ -40,11 +41,18 @@ import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.programfile.ProgramFileConstants;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -84,9 +92,13 @@ class ModuleContext {
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
+    private BIRPackageSymbolEnter.DecodedPackage decodedBir;
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
+    private String buildCacheFingerprint;
+    private boolean buildCacheConsulted;
+    private boolean loadedFromBuildCache;
 
     ModuleContext(Project project,
                   ModuleId moduleId,
@@ -279,6 +291,133 @@ class ModuleContext {
         return Collections.emptyList();
     }
 
+    /**
+     * Returns whether the build cache was consulted for this module, i.e. whether it could have been loaded from it.
+     *
+     * @return whether the build cache was consulted for this module
+     */
+    boolean buildCacheConsulted() {
+        return buildCacheConsulted;
+    }
+
+    boolean loadedFromBuildCache() {
+        return loadedFromBuildCache;
+    }
+
+    // A module loaded from the build cache has no syntax tree, semantic model or testable package. Hence the cache is
+    // not used when any of those are required after the compilation, i.e. when tests are run, when observability
+    // symbols are collected, when the build generates artifacts other than the jar, or when compiler plugins of the
+    // dependencies may analyze any module of the package.
+    private boolean isBuildCacheApplicable() {
+        BuildOptions buildOptions = project.buildOptions();
+        if (!buildOptions.buildCache() || project.kind() != ProjectKind.BUILD_PROJECT
+                || !moduleId.packageId().equals(project.currentPackage().packageId())
+                || ProjectUtils.isBuiltInPackage(moduleDescriptor.org(), moduleDescriptor.packageName().toString())
+                || System.getProperty("BOOTSTRAP_LANG_LIB") != null) {
+            return false;
+        }
+
+        if (!buildOptions.skipTests() && !testSrcDocIds.isEmpty()) {
+            return false;
+        }
+
+        if (CompilerPluginManager.hasEngagedCompilerPlugins(project.currentPackage().getResolution())) {
+            return false;
+        }
+
+        CompilationOptions compilationOptions = buildOptions.compilationOptions();
+        return !compilationOptions.observabilityIncluded() && compilationOptions.getCloud().isEmpty()
+                && !compilationOptions.exportOpenAPI() && !compilationOptions.configSchemaGen()
+                && !compilationOptions.dumpBir() && !compilationOptions.dumpBirFile();
+    }
+
+    /**
+     * Returns the fingerprint of this module, which changes whenever the sources of the module, the compiler or one
+     * of the modules this module depends on changes.
+     *
+     * @return the hex encoded SHA-256 fingerprint of the module
+     */
+    String buildCacheFingerprint() {
+        if (buildCacheFingerprint != null) {
+            return buildCacheFingerprint;
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", e);
+        }
+
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, String.valueOf(ProgramFileConstants.BIR_VERSION_NUMBER));
+        updateDigest(digest, moduleDescriptor.org().toString());
+        updateDigest(digest, moduleDescriptor.packageName().toString());
+        updateDigest(digest, moduleDescriptor.version().toString());
+        updateDigest(digest, moduleDescriptor.name().toString());
+        updateDigest(digest, String.valueOf(isExported()));
+        CompilationOptions compilationOptions = project.buildOptions().compilationOptions();
+        updateDigest(digest, String.valueOf(compilationOptions.experimental()));
+        updateDigest(digest, String.valueOf(compilationOptions.inlineFunctions()));
+
+        // Ballerina.toml carries the platform libraries and the build options of the package
+        project.currentPackage().ballerinaToml().ifPresent(ballerinaToml ->
+                updateDigest(digest, new String(ballerinaToml.tomlDocument().textDocument().toCharArray())));
+
+        List<DocumentContext> documentContexts = new ArrayList<>(srcDocContextMap.values());
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.content());
+        }
+
+        List<ResourceContext> resourceContexts = new ArrayList<>(resourceContextMap.values());
+        resourceContexts.sort(Comparator.comparing(ResourceContext::name));
+        for (ResourceContext resourceContext : resourceContexts) {
+            updateDigest(digest, resourceContext.name());
+            updateDigest(digest, resourceContext.content());
+        }
+
+        if (moduleDependencies != null) {
+            PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+            List<String> dependencyFingerprints = new ArrayList<>();
+            for (ModuleDependency moduleDependency : moduleDependencies) {
+                Package dependencyPackage = packageCache.getPackageOrThrow(
+                        moduleDependency.packageDependency().packageId());
+                dependencyFingerprints.add(dependencyPackage.packageContext()
+                        .moduleContext(moduleDependency.moduleId()).buildCacheFingerprint());
+            }
+            Collections.sort(dependencyFingerprints);
+            for (String dependencyFingerprint : dependencyFingerprints) {
+                updateDigest(digest, dependencyFingerprint);
+            }
+        }
+
+        buildCacheFingerprint = toHexString(digest.digest());
+        return buildCacheFingerprint;
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        updateDigest(digest, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Prefix each value with its length, so that values cannot run into each other
+    private static void updateDigest(MessageDigest digest, byte[] value) {
+        int length = value.length;
+        digest.update(new byte[]{(byte) (length >>> 24), (byte) (length >>> 16), (byte) (length >>> 8),
+                (byte) length});
+        digest.update(value);
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16));
+            hexString.append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+
     private void parseTestSources(BLangPackage pkgNode, PackageID pkgId, CompilerContext compilerContext) {
         BLangTestablePackage testablePkg = TreeBuilder.createTestablePackageNode();
         // TODO Not sure why we need to do this. It is there in the current implementation
@@ -316,6 +455,19 @@ class ModuleContext {
         currentCompilationState().parse(this);
     }
 
+    /**
+     * Reads and decodes the cached BIR of this module ahead of loading its symbol.
+     * <p>
+     * This does not use the compiler context, hence it can be done for several modules concurrently.
+     */
+    void decodeCachedBir() {
+        if (currentCompilationState() != ModuleCompilationState.LOADED_FROM_CACHE) {
+            return;
+        }
+        parse();
+        this.decodedBir = BIRPackageSymbolEnter.decodePackage(moduleDescriptor.moduleCompilationId(), birBytes);
+    }
+
     void resolveDependencies(DependencyResolution dependencyResolution) {
         Set<ModuleDependency> moduleDependencies = new HashSet<>();
         if (this.project.kind() == ProjectKind.BALA_PROJECT) {
@@ -399,6 +551,24 @@ class ModuleContext {
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
     }
 
+    static boolean loadFromBuildCacheInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (!moduleContext.isBuildCacheApplicable()) {
+            return false;
+        }
+
+        moduleContext.buildCacheConsulted = true;
+        Optional<byte[]> birBytes = ModuleBuildCache.from(moduleContext.project)
+                .getBir(moduleContext.moduleName(), moduleContext.buildCacheFingerprint());
+        if (birBytes.isEmpty()) {
+            return false;
+        }
+
+        moduleContext.birBytes = birBytes.get();
+        loadPackageSymbolInternal(moduleContext, compilerContext);
+        moduleContext.loadedFromBuildCache = true;
+        return true;
+    }
+
     static void compileInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
@@ -477,8 +647,14 @@ class ModuleContext {
             return;
         }
 
-        // Generate and write the thin JAR to the file system
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        // Generate and write the thin JAR to the file system, and to the build cache if the module was looked up there
+        CompilationCache compilationCache = moduleContext.compilationCache;
+        if (moduleContext.buildCacheConsulted) {
+            compilationCache = ModuleBuildCache.from(moduleContext.project).recordingCache(
+                    moduleContext.moduleName(), moduleContext.buildCacheFingerprint(),
+                    serializeBIR(moduleContext), compilationCache);
+        }
+        compilerBackend.performCodeGen(moduleContext, compilationCache);
 
         // Skip writing the bir for BuildProject
         if (birContent == null) {
@@ -503,6 +679,12 @@ class ModuleContext {
 
         // Can we improve this logic
         ByteArrayOutputStream birContent = new ByteArrayOutputStream();
+        birContent.writeBytes(serializeBIR(moduleContext));
+        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        return birContent;
+    }
+
+    private static byte[] serializeBIR(ModuleContext moduleContext) {
         try {
             CompiledBinaryFile.BIRPackageFile birPackageFile = moduleContext.bLangPackage.symbol.birPackageFile;
             if (birPackageFile == null) {
@@ -510,10 +692,7 @@ class ModuleContext {
                         .BIRPackageFile(new BIRBinaryWriter(moduleContext.bLangPackage.symbol.bir).serialize());
                 moduleContext.bLangPackage.symbol.birPackageFile = birPackageFile;
             }
-            byte[] pkgBirBinaryContent = PackageFileWriter.writePackage(birPackageFile);
-            birContent.writeBytes(pkgBirBinaryContent);
-            moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
-            return birContent;
+            return PackageFileWriter.writePackage(birPackageFile);
         } catch (IOException e) {
             // This path may never be executed
             throw new RuntimeException("Failed to convert BIR model to a byte array", e);
@@ -534,13 +713,25 @@ class ModuleContext {
         BIRPackageSymbolEnter birPackageSymbolEnter = BIRPackageSymbolEnter.getInstance(compilerContext);
 
         PackageID moduleCompilationId = moduleContext.descriptor().moduleCompilationId();
-        moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId, moduleContext.birBytes);
+        if (moduleContext.decodedBir != null) {
+            moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId,
+                    moduleContext.decodedBir);
+            moduleContext.decodedBir = null;
+        } else {
+            moduleContext.bPackageSymbol = birPackageSymbolEnter.definePackage(moduleCompilationId,
+                    moduleContext.birBytes);
+        }
         moduleContext.bPackageSymbol.exported = moduleContext.isExported();
         moduleContext.bPackageSymbol.descriptor = moduleContext.descriptor();
         packageCache.putSymbol(moduleCompilationId, moduleContext.bPackageSymbol);
     }
 
     static void loadPlatformSpecificCodeInternal(ModuleContext moduleContext, CompilerBackend compilerBackend) {
+        if (moduleContext.loadedFromBuildCache) {
+            ModuleBuildCache.from(moduleContext.project).restorePlatformSpecificLibraries(moduleContext.moduleName(),
+                    moduleContext.buildCacheFingerprint(), compilerBackend, moduleContext.compilationCache);
+            return;
+        }
         // TODO implement
     }
 
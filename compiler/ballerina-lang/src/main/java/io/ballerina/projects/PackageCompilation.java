@@ -35,12 +35,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
 import static org.ballerinalang.compiler.CompilerOptionName.EXPERIMENTAL;
+import static org.ballerinalang.compiler.CompilerOptionName.INLINE_FUNCTIONS;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
 
@@ -96,6 +101,7 @@ public class PackageCompilation {
         options.put(DUMP_BIR, Boolean.toString(compilationOptions.dumpBir()));
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
+        options.put(INLINE_FUNCTIONS, Boolean.toString(compilationOptions.inlineFunctions()));
     }
 
     static PackageCompilation from(PackageContext rootPkgContext) {
@@ -152,6 +158,11 @@ public class PackageCompilation {
 
     public SemanticModel getSemanticModel(ModuleId moduleId) {
         ModuleContext moduleContext = this.rootPackageContext.moduleContext(moduleId);
+        if (moduleContext.loadedFromBuildCache()) {
+            throw new IllegalStateException("Semantic model cannot be retrieved for the module '" +
+                    moduleContext.moduleName() + "' as it was loaded from the build cache. " +
+                    "Disable the build cache to analyze the module.");
+        }
         // We check whether the particular module compilation state equal to the typecheck phase here. 
         // If the states do not match, then this is a illegal state exception.
         if (moduleContext.compilationState() != ModuleCompilationState.COMPILED) {
@@ -163,6 +174,38 @@ public class PackageCompilation {
         return new BallerinaSemanticModel(moduleContext.bLangPackage(), this.compilerContext);
     }
 
+    /**
+     * Returns the number of modules of the current package that were loaded from the build cache.
+     *
+     * @return number of build cache hits
+     */
+    public int buildCacheHitCount() {
+        int hitCount = 0;
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            if (rootPackageContext.moduleContext(moduleId).loadedFromBuildCache()) {
+                hitCount++;
+            }
+        }
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of modules of the current package that were looked up in the build cache but compiled
+     * from sources, as their sources or dependencies changed since they were cached.
+     *
+     * @return number of build cache misses
+     */
+    public int buildCacheMissCount() {
+        int missCount = 0;
+        for (ModuleId moduleId : rootPackageContext.moduleIds()) {
+            ModuleContext moduleContext = rootPackageContext.moduleContext(moduleId);
+            if (moduleContext.buildCacheConsulted() && !moduleContext.loadedFromBuildCache()) {
+                missCount++;
+            }
+        }
+        return missCount;
+    }
+
     public CodeActionManager getCodeActionManager() {
         return compilerPluginManager.getCodeActionManager();
     }
@@ -209,6 +252,7 @@ public class PackageCompilation {
         // add dependency manifest diagnostics
         diagnostics.addAll(packageContext().dependencyManifest().diagnostics().allDiagnostics);
         // add compilation diagnostics
+        decodeCachedBirs();
         for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
             moduleContext.compile(compilerContext);
             for (Diagnostic diagnostic : moduleContext.diagnostics()) {
@@ -220,6 +264,49 @@ public class PackageCompilation {
         diagnosticResult = new DefaultDiagnosticResult(diagnostics);
     }
 
+    // Symbols of the modules share the compiler context and therefore are loaded module by module in the
+    // topological order, but the cached BIR of the dependencies is read and decoded on a worker pool beforehand.
+    // The pool is only worth starting when there are at least two modules loaded from the cache.
+    private void decodeCachedBirs() {
+        List<ModuleContext> moduleContexts = new ArrayList<>();
+        for (ModuleContext moduleContext : packageResolution.topologicallySortedModuleList()) {
+            if (moduleContext.currentCompilationState() == ModuleCompilationState.LOADED_FROM_CACHE) {
+                moduleContexts.add(moduleContext);
+            }
+        }
+        int parallelism = Math.min(compilationOptions.parallelism(), moduleContexts.size());
+        if (parallelism <= 1) {
+            return;
+        }
+
+        ExecutorService birReaderPool = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "ballerina-bir-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> pendingDecodes = new ArrayList<>(moduleContexts.size());
+            for (ModuleContext moduleContext : moduleContexts) {
+                pendingDecodes.add(birReaderPool.submit(moduleContext::decodeCachedBir));
+            }
+            // Wait in submission order so that the first failure reported is deterministic
+            for (Future<?> pendingDecode : pendingDecodes) {
+                pendingDecode.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("Interrupted while reading the cached BIR of modules", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ProjectException(cause.getMessage(), cause);
+        } finally {
+            birReaderPool.shutdownNow();
+        }
+    }
+
     private void runPluginCodeAnalysis(List<Diagnostic> diagnostics) {
         // only run plugins for build projects
         if (rootPackageContext.project().kind().equals(ProjectKind.BUILD_PROJECT)) {
@@ -54,6 +54,10 @@ class SyntaxNodeAnalysisTaskRunner {
     }
 
     private void runTasks(ModuleContext moduleContext, List<Diagnostic> reportedDiagnostics) {
+        // Modules loaded from the build cache are not compiled, and were analyzed when the cache was populated
+        if (moduleContext.loadedFromBuildCache()) {
+            return;
+        }
         for (DocumentId srcDocumentId : moduleContext.srcDocumentIds()) {
             DocumentContext documentContext = moduleContext.documentContext(srcDocumentId);
             runTasks(documentContext.syntaxTree(), moduleContext.moduleId(),
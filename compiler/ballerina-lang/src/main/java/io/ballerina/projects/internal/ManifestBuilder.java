@@ -446,6 +446,10 @@ public class ManifestBuilder {
         }
         Boolean listConflictedClasses =
                 getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.LIST_CONFLICTED_CLASSES.toString());
+        Boolean inlineFunctions =
+                getBooleanFromBuildOptionsTableNode(tableNode, CompilerOptionName.INLINE_FUNCTIONS.toString());
+        Boolean buildCache =
+                getBooleanFromBuildOptionsTableNode(tableNode, BuildOptions.OptionName.BUILD_CACHE.toString());
 
         String targetDir = getStringFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.TARGET_DIR.toString());
@@ -459,7 +463,9 @@ public class ManifestBuilder {
                 .setCloud(cloud)
                 .setListConflictedClasses(listConflictedClasses)
                 .setDumpBuildTime(dumpBuildTime)
-                .setSticky(sticky);
+                .setSticky(sticky)
+                .setInlineFunctions(inlineFunctions)
+                .setBuildCache(buildCache);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
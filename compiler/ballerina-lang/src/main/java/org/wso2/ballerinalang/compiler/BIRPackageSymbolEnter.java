@@ -166,7 +166,52 @@ public class BIRPackageSymbolEnter {
     }
 
     public BPackageSymbol definePackage(PackageID packageId, byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, new ByteArrayInputStream(packageBinaryContent));
+        return definePackage(packageId, decodePackage(packageId, packageBinaryContent));
+    }
+
+    /**
+     * Reads the header and the constant pool of a compiled package.
+     * <p>
+     * Unlike defining the package symbol, decoding does not use the compiler context. Hence the compiled packages
+     * of several modules can be decoded concurrently, before their symbols are defined one at a time.
+     *
+     * @param packageId            ID of the package
+     * @param packageBinaryContent compiled package
+     * @return the decoded package, which can be used to define the package symbol once
+     */
+    public static DecodedPackage decodePackage(PackageID packageId, byte[] packageBinaryContent) {
+        ByteArrayInputStream byteInStream = new ByteArrayInputStream(packageBinaryContent);
+        try (DataInputStream dataInStream = new DataInputStream(byteInStream)) {
+            byte[] magic = new byte[4];
+            dataInStream.read(magic, 0, 4);
+            if (!Arrays.equals(magic, BIRPackageFile.BIR_MAGIC)) {
+                // TODO dlog.error() with package name
+                throw new BLangCompilerException("invalid magic number " + Arrays.toString(magic));
+            }
+
+            int version = dataInStream.readInt();
+            if (version != BIRPackageFile.BIR_VERSION) {
+                // TODO dlog.error() with package name
+                throw new BLangCompilerException("unsupported program file version " + version);
+            }
+
+            // Read constant pool entries of the package info.
+            Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
+            CPEntry[] constantPool = readConstantPool(dataInStream, unparsedBTypeCPs);
+            int pkgCPIndex = dataInStream.readInt();
+            int bodyOffset = packageBinaryContent.length - byteInStream.available();
+            return new DecodedPackage(packageBinaryContent, constantPool, unparsedBTypeCPs, pkgCPIndex, bodyOffset);
+        } catch (Throwable e) {
+            throw new BLangCompilerException("failed to load the module '" + packageId.toString() + "' from its BIR" +
+                    (e.getMessage() != null ? (" due to: " + e.getMessage()) : ""), e);
+        }
+    }
+
+    public BPackageSymbol definePackage(PackageID packageId, DecodedPackage decodedPackage) {
+        byte[] packageBinaryContent = decodedPackage.packageBinaryContent;
+        BPackageSymbol pkgSymbol = definePackage(packageId, decodedPackage, new ByteArrayInputStream(
+                packageBinaryContent, decodedPackage.bodyOffset,
+                packageBinaryContent.length - decodedPackage.bodyOffset));
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -178,14 +223,17 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId, InputStream programFileInStream) {
+    private BPackageSymbol definePackage(PackageID packageId, DecodedPackage decodedPackage,
+                                         InputStream programFileInStream) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
         try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
+            this.env.constantPool = decodedPackage.constantPool;
+            this.env.unparsedBTypeCPs = decodedPackage.unparsedBTypeCPs;
 
-            BPackageSymbol pkgSymbol = definePackage(dataInStream);
+            BPackageSymbol pkgSymbol = definePackage(dataInStream, decodedPackage.pkgCPIndex);
             this.env = prevEnv;
             return pkgSymbol;
         } catch (Throwable e) {
@@ -194,27 +242,6 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private BPackageSymbol definePackage(DataInputStream dataInStream) throws IOException {
-        byte[] magic = new byte[4];
-        dataInStream.read(magic, 0, 4);
-        if (!Arrays.equals(magic, BIRPackageFile.BIR_MAGIC)) {
-            // TODO dlog.error() with package name
-            throw new BLangCompilerException("invalid magic number " + Arrays.toString(magic));
-        }
-
-        int version = dataInStream.readInt();
-        if (version != BIRPackageFile.BIR_VERSION) {
-            // TODO dlog.error() with package name
-            throw new BLangCompilerException("unsupported program file version " + version);
-        }
-
-        // Read constant pool entries of the package info.
-        this.env.constantPool = readConstantPool(dataInStream);
-
-        int pkgCPIndex = dataInStream.readInt();
-        return definePackage(dataInStream, pkgCPIndex);
-    }
-
     private BPackageSymbol definePackage(DataInputStream dataInStream, int pkgCpIndex) throws IOException {
 
         PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
@@ -301,21 +328,21 @@ public class BIRPackageSymbolEnter {
         this.currentStructure = null;
     }
 
-    private CPEntry[] readConstantPool(DataInputStream dataInStream) throws IOException {
+    private static CPEntry[] readConstantPool(DataInputStream dataInStream,
+                                              Map<Integer, byte[]> unparsedBTypeCPs) throws IOException {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
-        this.env.constantPool = constantPool;
         for (int i = 0; i < constantPoolSize; i++) {
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
-            constantPool[i] = readCPEntry(dataInStream, constantPool, cpEntryType, i);
+            constantPool[i] = readCPEntry(dataInStream, unparsedBTypeCPs, cpEntryType, i);
         }
         return constantPool;
     }
 
-    private CPEntry readCPEntry(DataInputStream dataInStream,
-                                CPEntry[] constantPool,
-                                CPEntry.Type cpEntryType, int i) throws IOException {
+    private static CPEntry readCPEntry(DataInputStream dataInStream,
+                                       Map<Integer, byte[]> unparsedBTypeCPs,
+                                       CPEntry.Type cpEntryType, int i) throws IOException {
         switch (cpEntryType) {
             case CP_ENTRY_INTEGER:
                 return new CPEntry.IntegerCPEntry(dataInStream.readLong());
@@ -340,7 +367,7 @@ public class BIRPackageSymbolEnter {
                 return new CPEntry.PackageCPEntry(dataInStream.readInt(), dataInStream.readInt(),
                         dataInStream.readInt(), dataInStream.readInt());
             case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
+                unparsedBTypeCPs.put(i, readByteArray(dataInStream));
                 return null;
             case CP_ENTRY_BYTE:
                 return new CPEntry.ByteCPEntry(dataInStream.readInt());
@@ -350,7 +377,7 @@ public class BIRPackageSymbolEnter {
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
+    private static byte[] readByteArray(DataInputStream dataInStream) throws IOException {
         int length = dataInStream.readInt();
         byte[] bytes = new byte[length];
         dataInStream.readFully(bytes);
@@ -980,6 +1007,28 @@ public class BIRPackageSymbolEnter {
                 names.fromString(pkgVersion), null);
     }
 
+    /**
+     * The constant pool of a compiled package, decoded ahead of defining the package symbol.
+     * <p>
+     * Constant pool entries of types are replaced as the types are read, hence a decoded package is used once.
+     */
+    public static class DecodedPackage {
+        private final byte[] packageBinaryContent;
+        private final CPEntry[] constantPool;
+        private final Map<Integer, byte[]> unparsedBTypeCPs;
+        private final int pkgCPIndex;
+        private final int bodyOffset;
+
+        private DecodedPackage(byte[] packageBinaryContent, CPEntry[] constantPool,
+                               Map<Integer, byte[]> unparsedBTypeCPs, int pkgCPIndex, int bodyOffset) {
+            this.packageBinaryContent = packageBinaryContent;
+            this.constantPool = constantPool;
+            this.unparsedBTypeCPs = unparsedBTypeCPs;
+            this.pkgCPIndex = pkgCPIndex;
+            this.bodyOffset = bodyOffset;
+        }
+    }
+
     /**
      * This class holds compiled package specific information during the symbol enter phase of the compiled package.
      *
@@ -2639,10 +2639,18 @@ public class BIRGen extends BLangNodeVisitor {
             } else {
                 insKind = InstructionKind.MAP_LOAD;
             }
-            setScopeAndEmit(
+            BIRNonTerminator.FieldAccess fieldAccess =
                     new BIRNonTerminator.FieldAccess(astIndexBasedAccessExpr.pos, insKind, tempVarRef, keyRegIndex,
                             varRefRegIndex, except,
-                            astIndexBasedAccessExpr.isLValue && !astIndexBasedAccessExpr.leafNode));
+                            astIndexBasedAccessExpr.isLValue && !astIndexBasedAccessExpr.leafNode);
+            if (insKind == InstructionKind.MAP_LOAD &&
+                    astIndexBasedAccessExpr.indexExpr.getKind() == NodeKind.LITERAL) {
+                Object key = ((BLangLiteral) astIndexBasedAccessExpr.indexExpr).value;
+                if (key instanceof String) {
+                    fieldAccess.fieldName = (String) key;
+                }
+            }
+            setScopeAndEmit(fieldAccess);
             this.env.targetOperand = tempVarRef;
         }
         this.varAssignment = variableStore;
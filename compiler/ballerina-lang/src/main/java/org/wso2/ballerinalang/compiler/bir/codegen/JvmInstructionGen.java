@@ -42,9 +42,12 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BTypeSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BObjectType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -71,6 +74,7 @@ import static org.objectweb.asm.Opcodes.DSUB;
 import static org.objectweb.asm.Opcodes.DUP;
 import static org.objectweb.asm.Opcodes.FLOAD;
 import static org.objectweb.asm.Opcodes.FSTORE;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.I2B;
@@ -94,6 +98,7 @@ import static org.objectweb.asm.Opcodes.IF_ICMPLT;
 import static org.objectweb.asm.Opcodes.IF_ICMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INEG;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
@@ -222,6 +227,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.XML_SET_
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen.getTypeDesc;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeValueClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.isOptionalRecordField;
 
 /**
  * Instruction generator helper class to hold its enclosing pkg and index map.
@@ -1378,6 +1384,30 @@ public class JvmInstructionGen {
         BType varRefType = mapLoadIns.rhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, varRefType);
 
+        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
+        BField recordField = getDirectlyAccessibleRecordField(mapLoadIns, varRefType);
+        Label storeLabel = null;
+        if (recordField != null) {
+            // Read the field directly if the value is an instance of the record value class, and fall back to
+            // `get()` otherwise, since the value may belong to any record type which is a subtype.
+            BRecordType recordType = (BRecordType) JvmCodeGenUtil.getReferredType(varRefType);
+            String className = getTypeValueClassName(recordType.tsymbol.pkgID, toNameString(recordType));
+            Label getLabel = new Label();
+            storeLabel = new Label();
+            this.mv.visitInsn(DUP);
+            this.mv.visitTypeInsn(INSTANCEOF, className);
+            this.mv.visitJumpInsn(IFEQ, getLabel);
+            this.mv.visitTypeInsn(CHECKCAST, className);
+            String fieldDesc = getTypeDesc(recordField.type);
+            this.mv.visitFieldInsn(GETFIELD, className, recordField.name.value, fieldDesc);
+            if (!fieldDesc.equals(getTypeDesc(targetType))) {
+                jvmCastGen.addBoxInsn(this.mv, recordField.type);
+                jvmCastGen.addUnboxInsn(this.mv, targetType);
+            }
+            this.mv.visitJumpInsn(GOTO, storeLabel);
+            this.mv.visitLabel(getLabel);
+        }
+
         // visit key_expr
         this.loadVar(mapLoadIns.keyOp.variableDcl);
 
@@ -1403,11 +1433,35 @@ public class JvmInstructionGen {
         }
 
         // store in the target reg
-        BType targetType = mapLoadIns.lhsOp.variableDcl.type;
         jvmCastGen.addUnboxInsn(this.mv, targetType);
+        if (storeLabel != null) {
+            this.mv.visitLabel(storeLabel);
+        }
         this.storeToVar(mapLoadIns.lhsOp.variableDcl);
     }
 
+    /**
+     * Returns the field of a record type defined in the current module, if the given map load reads a required
+     * field of it using a literal key. Such fields are package-private fields of the record value class, which can be
+     * read directly instead of going through the generated {@code get()} method.
+     */
+    private BField getDirectlyAccessibleRecordField(BIRNonTerminator.FieldAccess mapLoadIns, BType varRefType) {
+        if (mapLoadIns.fieldName == null || mapLoadIns.fillingRead || mapLoadIns.optionalFieldAccess) {
+            return null;
+        }
+        BType referredType = JvmCodeGenUtil.getReferredType(varRefType);
+        if (referredType.tag != TypeTags.RECORD || referredType.tsymbol == null ||
+                !referredType.tsymbol.pkgID.equals(currentPackage) ||
+                Symbols.isFlagOn(referredType.tsymbol.flags, Flags.ANONYMOUS)) {
+            return null;
+        }
+        BField field = ((BRecordType) referredType).fields.get(mapLoadIns.fieldName);
+        if (field == null || isOptionalRecordField(field)) {
+            return null;
+        }
+        return field;
+    }
+
     void generateObjectLoadIns(BIRNonTerminator.FieldAccess objectLoadIns) {
         // visit object_ref
         this.loadVar(objectLoadIns.rhsOp.variableDcl);
@@ -82,7 +82,7 @@ public class FrameClassGen {
         List<BIRNode.BIRVariableDcl> localVars = func.localVars;
         while (k < localVars.size()) {
             BIRNode.BIRVariableDcl localVar = localVars.get(k);
-            if (localVar.onlyUsedInSingleBB) {
+            if (localVar.onlyUsedInSingleBB || localVar.notLiveAcrossYield) {
                 k = k + 1;
                 continue;
             }
@@ -84,7 +84,9 @@ import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFGT;
+import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -107,7 +109,6 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_AN
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_INIT_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_STARTED;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MODULE_START_ATTEMPTED;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STACK;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRAND_CLASS;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
@@ -128,9 +129,8 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_STRI
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TABLE_VALUE_IMPL;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_TYPEDESC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.GET_XML;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PASS_OBJECT_RETURN_OBJECT;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.PUSH_FRAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.RETURN_OBJECT;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.STACK_FRAMES;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.UPDATE_CHANNEL_DETAILS;
 
 /**
@@ -247,9 +247,8 @@ public class MethodGen {
         mv.visitJumpInsn(GOTO, varinitLabel);
 
         mv.visitLabel(yieldLable);
-        mv.visitTypeInsn(NEW, frameName);
-        mv.visitInsn(DUP);
-        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
+        genGetReusableFrame(localVarOffset, mv, frameName, labelGen.getLabel(funcName + "frameReuse"),
+                            labelGen.getLabel(funcName + "frameReady"));
 
         generateFrameClassFieldUpdate(func.localVars, mv, indexMap, frameName);
 
@@ -553,15 +552,32 @@ public class MethodGen {
         mv.visitInsn(ISUB);
         mv.visitFieldInsn(PUTFIELD, STRAND_CLASS, RESUME_INDEX, "I");
         mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "pop", RETURN_OBJECT, false);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "popFrame", RETURN_OBJECT, false);
         mv.visitTypeInsn(CHECKCAST, frameName);
     }
 
+    private void genGetReusableFrame(int localVarOffset, MethodVisitor mv, String frameName, Label reuseLabel,
+                                     Label frameReadyLabel) {
+        // reuse the frame left by an earlier resume of this function if there is one, otherwise create a new one
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "getReusableFrame", RETURN_OBJECT, false);
+        mv.visitInsn(DUP);
+        mv.visitTypeInsn(INSTANCEOF, frameName);
+        mv.visitJumpInsn(IFNE, reuseLabel);
+        mv.visitInsn(POP);
+        mv.visitTypeInsn(NEW, frameName);
+        mv.visitInsn(DUP);
+        mv.visitMethodInsn(INVOKESPECIAL, frameName, JVM_INIT_METHOD, "()V", false);
+        mv.visitJumpInsn(GOTO, frameReadyLabel);
+        mv.visitLabel(reuseLabel);
+        mv.visitTypeInsn(CHECKCAST, frameName);
+        mv.visitLabel(frameReadyLabel);
+    }
+
     private void generateFrameClassFieldLoad(List<BIRVariableDcl> localVars, MethodVisitor mv,
                                              BIRVarToJVMIndexMap indexMap, String frameName) {
         for (BIRVariableDcl localVar : localVars) {
-            if (localVar.onlyUsedInSingleBB) {
+            if (localVar.onlyUsedInSingleBB || localVar.notLiveAcrossYield) {
                 continue;
             }
             BType bType = JvmCodeGenUtil.getReferredType(localVar.type);
@@ -726,7 +742,7 @@ public class MethodGen {
     private void generateFrameClassFieldUpdate(List<BIRVariableDcl> localVars, MethodVisitor mv,
                                                BIRVarToJVMIndexMap indexMap, String frameName) {
         for (BIRVariableDcl localVar : localVars) {
-            if (localVar.onlyUsedInSingleBB) {
+            if (localVar.onlyUsedInSingleBB || localVar.notLiveAcrossYield) {
                 continue;
             }
             BType bType = JvmCodeGenUtil.getReferredType(localVar.type);
@@ -903,10 +919,8 @@ public class MethodGen {
         int frameVarIndex = indexMap.addIfNotExists("frame", symbolTable.stringType);
         mv.visitVarInsn(ASTORE, frameVarIndex);
         mv.visitVarInsn(ALOAD, localVarOffset);
-        mv.visitFieldInsn(GETFIELD, STRAND_CLASS, MethodGenUtils.FRAMES, STACK_FRAMES);
         mv.visitVarInsn(ALOAD, frameVarIndex);
-        mv.visitMethodInsn(INVOKEVIRTUAL, STACK, "push", PASS_OBJECT_RETURN_OBJECT, false);
-        mv.visitInsn(POP);
+        mv.visitMethodInsn(INVOKEVIRTUAL, STRAND_CLASS, "pushFrame", PUSH_FRAME, false);
         mv.visitVarInsn(ALOAD, localVarOffset);
         mv.visitInsn(DUP);
         mv.visitFieldInsn(GETFIELD, STRAND_CLASS, RESUME_INDEX, "I");
@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.codegen.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRErrorEntry;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.ControlFlowGraph;
+import org.wso2.ballerinalang.compiler.bir.optimizer.LivenessAnalyzer;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Find the temporary variables which need not be saved in the frame of a function when it yields.
+ * <p>
+ * A yielded function resumes by executing the terminator it yielded at once again. Hence only the variables that are
+ * live before such a terminator, or at the start of an error handler that may be reached after resuming, have to be
+ * restored from the frame. Other temporary variables are kept only in JVM locals, which reduces the size of the frame
+ * classes and the work done at each yield and resume.
+ * <p>
+ * Before that, temporary variables of a union type which only ever carry a value of a single primitive type, i.e. the
+ * ones only defined by casts from that type and only used by casts back to it, are changed to the primitive type. The
+ * casts become moves, and the variables are kept unboxed in JVM locals and in the frame fields.
+ *
+ * @since 2.0.0
+ */
+public class FrameVarOptimizer {
+
+    // liveness analysis keeps a set of variables per instruction, hence very large functions are left as they are
+    private static final int FUNCTION_INSTRUCTION_COUNT_THRESHOLD = 2000;
+
+    public void optimizeFrameVars(BIRPackage birPkg) {
+        for (BIRFunction function : birPkg.functions) {
+            optimizeFrameVars(function);
+        }
+        for (BIRTypeDefinition typeDefinition : birPkg.typeDefs) {
+            for (BIRFunction function : typeDefinition.attachedFuncs) {
+                optimizeFrameVars(function);
+            }
+        }
+    }
+
+    private void optimizeFrameVars(BIRFunction function) {
+        // Java interop functions are desugared later, and their platform instructions do not expose their operands
+        if (JvmCodeGenUtil.isExternFunc(function) || function.basicBlocks.isEmpty()
+                || getInstructionCount(function) > FUNCTION_INSTRUCTION_COUNT_THRESHOLD
+                || hasPlatformInstructions(function)) {
+            return;
+        }
+
+        unboxPrimitiveTemps(function);
+
+        LivenessAnalyzer analyzer = new LivenessAnalyzer(new ControlFlowGraph(function).getNodes());
+        Map<BIRAbstractInstruction, Set<BIRVariableDcl>> liveIns = analyzer.getInstructionLiveIns();
+        Set<BIRVariableDcl> frameVars = new HashSet<>();
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (isYieldPoint(basicBlock.terminator)) {
+                frameVars.addAll(liveIns.get(basicBlock.terminator));
+            }
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            frameVars.addAll(liveIns.get(getFirstInstruction(errorEntry.targetBB)));
+        }
+
+        for (BIRVariableDcl localVar : function.localVars) {
+            if ((localVar.kind == VarKind.TEMP || localVar.kind == VarKind.SYNTHETIC)
+                    && !frameVars.contains(localVar)) {
+                localVar.notLiveAcrossYield = true;
+            }
+        }
+    }
+
+    private void unboxPrimitiveTemps(BIRFunction function) {
+        // primitive type carried by each candidate variable, or null when the variable cannot be unboxed
+        Map<BIRVariableDcl, BType> primitiveTypes = new HashMap<>();
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind == InstructionKind.TYPE_CAST) {
+                    BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                    addDefinition(primitiveTypes, typeCast.lhsOp.variableDcl, typeCast.rhsOp.variableDcl.type);
+                    addUse(primitiveTypes, typeCast.rhsOp.variableDcl, typeCast.type);
+                    continue;
+                }
+                addDefinition(primitiveTypes, instruction.lhsOp, null);
+                addUses(primitiveTypes, instruction.getRhsOperands());
+            }
+            addDefinition(primitiveTypes, basicBlock.terminator.lhsOp, null);
+            addUses(primitiveTypes, basicBlock.terminator.getRhsOperands());
+        }
+        for (BIRErrorEntry errorEntry : function.errorTable) {
+            addDefinition(primitiveTypes, errorEntry.errorOp, null);
+        }
+
+        Set<BIRVariableDcl> unboxedVars = new HashSet<>();
+        for (Map.Entry<BIRVariableDcl, BType> entry : primitiveTypes.entrySet()) {
+            if (entry.getValue() != null) {
+                entry.getKey().type = entry.getValue();
+                unboxedVars.add(entry.getKey());
+            }
+        }
+        if (unboxedVars.isEmpty()) {
+            return;
+        }
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            List<BIRNonTerminator> instructions = basicBlock.instructions;
+            for (int i = 0; i < instructions.size(); i++) {
+                BIRNonTerminator instruction = instructions.get(i);
+                if (instruction.kind != InstructionKind.TYPE_CAST) {
+                    continue;
+                }
+                BIRNonTerminator.TypeCast typeCast = (BIRNonTerminator.TypeCast) instruction;
+                if (unboxedVars.contains(typeCast.lhsOp.variableDcl)
+                        || unboxedVars.contains(typeCast.rhsOp.variableDcl)) {
+                    // the value is known to be of the primitive type, hence the type check cannot fail
+                    BIRNonTerminator.Move move = new BIRNonTerminator.Move(typeCast.pos, typeCast.rhsOp,
+                            typeCast.lhsOp);
+                    move.scope = typeCast.scope;
+                    instructions.set(i, move);
+                }
+            }
+        }
+    }
+
+    private void addDefinition(Map<BIRVariableDcl, BType> primitiveTypes, BIROperand lhsOp, BType type) {
+        if (lhsOp != null) {
+            addDefinition(primitiveTypes, lhsOp.variableDcl, type);
+        }
+    }
+
+    private void addDefinition(Map<BIRVariableDcl, BType> primitiveTypes, BIRVariableDcl varDcl, BType type) {
+        if (varDcl == null || (varDcl.kind != VarKind.TEMP && varDcl.kind != VarKind.SYNTHETIC)) {
+            return;
+        }
+        if (!isUnboxableType(type) || isUnboxableType(varDcl.type)) {
+            primitiveTypes.put(varDcl, null);
+            return;
+        }
+        if (!primitiveTypes.containsKey(varDcl)) {
+            primitiveTypes.put(varDcl, type);
+        } else if (!isSamePrimitiveType(primitiveTypes.get(varDcl), type)) {
+            primitiveTypes.put(varDcl, null);
+        }
+    }
+
+    private void addUses(Map<BIRVariableDcl, BType> primitiveTypes, BIROperand[] rhsOperands) {
+        for (BIROperand rhsOperand : rhsOperands) {
+            if (rhsOperand != null) {
+                addUse(primitiveTypes, rhsOperand.variableDcl, null);
+            }
+        }
+    }
+
+    private void addUse(Map<BIRVariableDcl, BType> primitiveTypes, BIRVariableDcl varDcl, BType type) {
+        if (varDcl == null || (varDcl.kind != VarKind.TEMP && varDcl.kind != VarKind.SYNTHETIC)) {
+            return;
+        }
+        // a use is seen before a definition when it is in an earlier basic block, e.g. in a loop
+        if (!primitiveTypes.containsKey(varDcl)) {
+            primitiveTypes.put(varDcl, isUnboxableType(type) && !isUnboxableType(varDcl.type) ? type : null);
+        } else if (!isSamePrimitiveType(primitiveTypes.get(varDcl), type)) {
+            primitiveTypes.put(varDcl, null);
+        }
+    }
+
+    private boolean isUnboxableType(BType type) {
+        if (type == null) {
+            return false;
+        }
+        switch (JvmCodeGenUtil.getReferredType(type).tag) {
+            case TypeTags.INT:
+            case TypeTags.FLOAT:
+            case TypeTags.BOOLEAN:
+            case TypeTags.BYTE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSamePrimitiveType(BType type, BType otherType) {
+        return type != null && otherType != null && isUnboxableType(otherType)
+                && JvmCodeGenUtil.getReferredType(type).tag == JvmCodeGenUtil.getReferredType(otherType).tag;
+    }
+
+    private boolean hasPlatformInstructions(BIRFunction function) {
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator.kind == InstructionKind.PLATFORM) {
+                return true;
+            }
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind == InstructionKind.PLATFORM) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int getInstructionCount(BIRFunction function) {
+        int count = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            count += basicBlock.instructions.size() + 1;
+        }
+        return count;
+    }
+
+    private boolean isYieldPoint(BIRTerminator terminator) {
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private BIRAbstractInstruction getFirstInstruction(BIRBasicBlock basicBlock) {
+        if (basicBlock.instructions.isEmpty()) {
+            return basicBlock.terminator;
+        }
+        return basicBlock.instructions.get(0);
+    }
+}
@@ -120,6 +120,8 @@ public abstract class BIRNode {
         public BIRBasicBlock startBB;
         public int insOffset;
         public boolean onlyUsedInSingleBB;
+        // Whether the variable is never live when the function yields, hence need not be kept in the frame.
+        public boolean notLiveAcrossYield;
 
         // Stores the scope of the current instruction with respect to local variables.
         public BirScope insScope;
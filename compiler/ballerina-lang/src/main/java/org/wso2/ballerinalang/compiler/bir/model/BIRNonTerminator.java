@@ -329,6 +329,11 @@ public abstract class BIRNonTerminator extends BIRAbstractInstruction implements
         public boolean optionalFieldAccess = false;
         public boolean fillingRead = false;
         public boolean onInitialization = false;
+        /**
+         * Name of the accessed field when the key is a string literal. This is only a hint for the code generation of
+         * the current module and is not written to the BIR binary.
+         */
+        public String fieldName;
 
         public FieldAccess(Location pos, InstructionKind kind,
                            BIROperand lhsOp, BIROperand keyOp, BIROperand rhsOp) {
@@ -352,6 +352,9 @@ public abstract class BIRTerminator extends BIRAbstractInstruction implements BI
 
         public Integer lockId = -1;
 
+        // Whether the locked block only reads the locked variables, in which case the lock can be shared
+        public boolean readOnly = false;
+
         public Lock(Location pos, BIRBasicBlock lockedBB) {
             super(pos, InstructionKind.LOCK);
             this.lockedBB = lockedBB;
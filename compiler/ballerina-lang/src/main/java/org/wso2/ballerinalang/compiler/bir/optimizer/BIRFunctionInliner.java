@@ -0,0 +1,402 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunctionParameter;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRVariableDcl;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inline calls to small functions of the same module.
+ * <p>
+ * Only functions whose body can neither yield nor panic are inlined, i.e. functions without calls, locks, worker
+ * interactions or instructions that may raise an error. Hence an inlined body never shows up in a strand's frame
+ * stack or in a panic stack trace, and error positions stay the same as without inlining.
+ *
+ * @since 2.0.0
+ */
+public class BIRFunctionInliner extends BIRVisitor {
+
+    private static final int MAX_INLINE_INSTRUCTION_COUNT = 20;
+    private static final String BIR_BASIC_BLOCK_PREFIX = "bb";
+    private static final String TEMP_VAR_PREFIX = "%";
+
+    private final Types types;
+    private final Map<Name, BIRFunction> inlinableFunctions = new HashMap<>();
+    private BIRPackage currentPackage;
+    private int nextBBId;
+    private int nextTempVarId;
+
+    public BIRFunctionInliner(Types types) {
+        this.types = types;
+    }
+
+    public void optimizeNode(BIRPackage pkg) {
+        this.currentPackage = pkg;
+        for (BIRFunction function : pkg.functions) {
+            if (isInlinable(function)) {
+                this.inlinableFunctions.put(function.name, function);
+            }
+        }
+
+        if (!this.inlinableFunctions.isEmpty()) {
+            pkg.accept(this);
+        }
+
+        this.inlinableFunctions.clear();
+        this.currentPackage = null;
+    }
+
+    @Override
+    public void visit(BIRPackage birPackage) {
+        birPackage.typeDefs.forEach(tDef -> tDef.accept(this));
+        birPackage.functions.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRNode.BIRTypeDefinition birTypeDefinition) {
+        birTypeDefinition.attachedFuncs.forEach(func -> func.accept(this));
+    }
+
+    @Override
+    public void visit(BIRFunction birFunction) {
+        this.nextBBId = getNextBBId(birFunction);
+        this.nextTempVarId = getNextTempVarId(birFunction);
+
+        // Inlined bodies do not contain calls, hence the newly added basic blocks need not be revisited
+        List<BIRBasicBlock> basicBlocks = new ArrayList<>(birFunction.basicBlocks);
+        for (BIRBasicBlock basicBlock : basicBlocks) {
+            if (!(basicBlock.terminator instanceof BIRTerminator.Call)) {
+                continue;
+            }
+            BIRTerminator.Call call = (BIRTerminator.Call) basicBlock.terminator;
+            BIRFunction callee = getInlinableCallee(call);
+            if (callee != null && callee != birFunction) {
+                inlineCall(birFunction, basicBlock, call, callee);
+            }
+        }
+    }
+
+    private BIRFunction getInlinableCallee(BIRTerminator.Call call) {
+        if (call.kind != InstructionKind.CALL || call.isVirtual || call.transactional
+                || !this.currentPackage.packageID.equals(call.calleePkg)
+                || (call.calleeAnnotAttachments != null && !call.calleeAnnotAttachments.isEmpty())) {
+            return null;
+        }
+
+        BIRFunction callee = this.inlinableFunctions.get(call.name);
+        if (callee == null || call.args.size() != callee.parameters.size()) {
+            return null;
+        }
+
+        for (int i = 0; i < call.args.size(); i++) {
+            if (!isSameType(call.args.get(i).variableDcl.type, callee.parameters.get(i).type)) {
+                return null;
+            }
+        }
+
+        if (call.lhsOp != null && !isSameType(call.lhsOp.variableDcl.type, callee.returnVariable.type)) {
+            return null;
+        }
+        return callee;
+    }
+
+    private boolean isSameType(BType source, BType target) {
+        return source == target || this.types.isSameType(source, target);
+    }
+
+    private void inlineCall(BIRFunction caller, BIRBasicBlock callBB, BIRTerminator.Call call, BIRFunction callee) {
+        // Copy the local variables of the callee as temporary variables of the caller
+        Map<BIRVariableDcl, BIRVariableDcl> varMap = new HashMap<>();
+        for (BIRVariableDcl localVar : callee.localVars) {
+            varMap.put(localVar, createTempVar(caller, localVar.type));
+        }
+        for (BIRFunctionParameter parameter : callee.parameters) {
+            varMap.computeIfAbsent(parameter, param -> createTempVar(caller, param.type));
+        }
+        varMap.computeIfAbsent(callee.returnVariable, returnVar -> createTempVar(caller, returnVar.type));
+
+        Map<BIRBasicBlock, BIRBasicBlock> bbMap = new HashMap<>();
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            bbMap.put(basicBlock, new BIRBasicBlock(new Name(BIR_BASIC_BLOCK_PREFIX + this.nextBBId++)));
+        }
+
+        // Inlined instructions take the position of the call, so that the positions seen in the caller do not change
+        InlineEnv env = new InlineEnv(call, varMap, bbMap, callee.returnVariable);
+        List<BIRBasicBlock> inlinedBasicBlocks = new ArrayList<>(callee.basicBlocks.size());
+        for (BIRBasicBlock basicBlock : callee.basicBlocks) {
+            BIRBasicBlock inlinedBB = bbMap.get(basicBlock);
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                inlinedBB.instructions.add(copyInstruction(instruction, env));
+            }
+            inlinedBB.terminator = copyTerminator(basicBlock.terminator, inlinedBB, env);
+            inlinedBasicBlocks.add(inlinedBB);
+        }
+
+        // Replace the call with moving the arguments to the parameters and jumping to the inlined body
+        for (int i = 0; i < call.args.size(); i++) {
+            BIRNonTerminator.Move argMove = new BIRNonTerminator.Move(call.pos, call.args.get(i),
+                    env.mapOperand(new BIROperand(callee.parameters.get(i))));
+            argMove.scope = call.scope;
+            callBB.instructions.add(argMove);
+        }
+        callBB.terminator = new BIRTerminator.GOTO(null, bbMap.get(callee.basicBlocks.get(0)), call.scope);
+
+        caller.basicBlocks.addAll(caller.basicBlocks.indexOf(callBB) + 1, inlinedBasicBlocks);
+        caller.dependentGlobalVars.addAll(callee.dependentGlobalVars);
+    }
+
+    private BIRVariableDcl createTempVar(BIRFunction caller, BType type) {
+        BIRVariableDcl tempVar = new BIRVariableDcl(type, new Name(TEMP_VAR_PREFIX + this.nextTempVarId++),
+                VarScope.FUNCTION, VarKind.TEMP);
+        caller.localVars.add(tempVar);
+        return tempVar;
+    }
+
+    private BIRNonTerminator copyInstruction(BIRNonTerminator instruction, InlineEnv env) {
+        BIRNonTerminator copy;
+        switch (instruction.kind) {
+            case MOVE:
+                BIRNonTerminator.Move move = (BIRNonTerminator.Move) instruction;
+                copy = new BIRNonTerminator.Move(env.call.pos, env.mapOperand(move.rhsOp), env.mapOperand(move.lhsOp));
+                break;
+            case CONST_LOAD:
+                BIRNonTerminator.ConstantLoad constantLoad = (BIRNonTerminator.ConstantLoad) instruction;
+                copy = new BIRNonTerminator.ConstantLoad(env.call.pos, constantLoad.value, constantLoad.type,
+                        env.mapOperand(constantLoad.lhsOp));
+                break;
+            case TYPE_TEST:
+                BIRNonTerminator.TypeTest typeTest = (BIRNonTerminator.TypeTest) instruction;
+                copy = new BIRNonTerminator.TypeTest(env.call.pos, typeTest.type, env.mapOperand(typeTest.lhsOp),
+                        env.mapOperand(typeTest.rhsOp));
+                break;
+            case MAP_LOAD:
+            case OBJECT_LOAD:
+                BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) instruction;
+                BIRNonTerminator.FieldAccess fieldAccessCopy = new BIRNonTerminator.FieldAccess(env.call.pos,
+                        fieldAccess.kind, env.mapOperand(fieldAccess.lhsOp), env.mapOperand(fieldAccess.keyOp),
+                        env.mapOperand(fieldAccess.rhsOp), fieldAccess.optionalFieldAccess,
+                        fieldAccess.fillingRead);
+                fieldAccessCopy.fieldName = fieldAccess.fieldName;
+                copy = fieldAccessCopy;
+                break;
+            case TYPEOF:
+            case NOT:
+            case NEGATE:
+                BIRNonTerminator.UnaryOP unaryOP = (BIRNonTerminator.UnaryOP) instruction;
+                copy = new BIRNonTerminator.UnaryOP(env.call.pos, unaryOP.kind, env.mapOperand(unaryOP.lhsOp),
+                        env.mapOperand(unaryOP.rhsOp));
+                break;
+            default:
+                BIRNonTerminator.BinaryOp binaryOp = (BIRNonTerminator.BinaryOp) instruction;
+                copy = new BIRNonTerminator.BinaryOp(env.call.pos, binaryOp.kind, binaryOp.lhsOp.variableDcl.type,
+                        env.mapOperand(binaryOp.lhsOp), env.mapOperand(binaryOp.rhsOp1),
+                        env.mapOperand(binaryOp.rhsOp2));
+                break;
+        }
+        copy.scope = env.call.scope;
+        return copy;
+    }
+
+    private BIRTerminator copyTerminator(BIRTerminator terminator, BIRBasicBlock inlinedBB, InlineEnv env) {
+        switch (terminator.kind) {
+            case GOTO:
+                BIRTerminator.GOTO gotoIns = (BIRTerminator.GOTO) terminator;
+                return new BIRTerminator.GOTO(env.call.pos, env.bbMap.get(gotoIns.targetBB), env.call.scope);
+            case BRANCH:
+                BIRTerminator.Branch branch = (BIRTerminator.Branch) terminator;
+                return new BIRTerminator.Branch(env.call.pos, env.mapOperand(branch.op),
+                        env.bbMap.get(branch.trueBB), env.bbMap.get(branch.falseBB), env.call.scope);
+            default:
+                // Move the returned value to the target of the call and continue from where the call would return
+                if (env.call.lhsOp != null) {
+                    BIRNonTerminator.Move returnMove = new BIRNonTerminator.Move(env.call.pos,
+                            env.mapOperand(new BIROperand(env.returnVar)), env.call.lhsOp);
+                    returnMove.scope = env.call.scope;
+                    inlinedBB.instructions.add(returnMove);
+                }
+                return new BIRTerminator.GOTO(null, env.call.thenBB, env.call.scope);
+        }
+    }
+
+    private static boolean isInlinable(BIRFunction function) {
+        if (function.basicBlocks == null || function.basicBlocks.isEmpty() || function.receiver != null
+                || function.restParam != null || function.returnVariable == null
+                || !function.errorTable.isEmpty() || function.workerChannels.length > 0
+                || !function.annotAttachments.isEmpty()) {
+            return false;
+        }
+
+        for (BIRFunctionParameter parameter : function.parameters) {
+            if (parameter.hasDefaultExpr) {
+                return false;
+            }
+        }
+
+        int instructionCount = 0;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            instructionCount += basicBlock.instructions.size() + 1;
+            if (instructionCount > MAX_INLINE_INSTRUCTION_COUNT) {
+                return false;
+            }
+
+            // Functions that call other functions, lock or interact with workers may yield, so those are not inlined
+            InstructionKind terminatorKind = basicBlock.terminator.kind;
+            if (terminatorKind != InstructionKind.GOTO && terminatorKind != InstructionKind.BRANCH
+                    && terminatorKind != InstructionKind.RETURN) {
+                return false;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (!isNonPanickingInstruction(instruction)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNonPanickingInstruction(BIRNonTerminator instruction) {
+        switch (instruction.kind) {
+            case MOVE:
+            case CONST_LOAD:
+            case TYPE_TEST:
+            case TYPEOF:
+            case NOT:
+            case EQUAL:
+            case NOT_EQUAL:
+            case REF_EQUAL:
+            case REF_NOT_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case AND:
+            case OR:
+            case BITWISE_AND:
+            case BITWISE_OR:
+            case BITWISE_XOR:
+            case BITWISE_LEFT_SHIFT:
+            case BITWISE_RIGHT_SHIFT:
+            case BITWISE_UNSIGNED_RIGHT_SHIFT:
+                return true;
+            case MAP_LOAD:
+            case OBJECT_LOAD:
+                // Filling reads may create values and store them, which can fail with inherent type violations
+                BIRNonTerminator.FieldAccess fieldAccess = (BIRNonTerminator.FieldAccess) instruction;
+                return !fieldAccess.fillingRead && !fieldAccess.onInitialization;
+            case NEGATE:
+                // Negating the minimum int value overflows
+                return ((BIRNonTerminator.UnaryOP) instruction).rhsOp.variableDcl.type.tag == TypeTags.FLOAT;
+            case ADD:
+                BIRNonTerminator.BinaryOp addOp = (BIRNonTerminator.BinaryOp) instruction;
+                return isFloatOperation(addOp) || (TypeTags.isStringTypeTag(addOp.rhsOp1.variableDcl.type.tag)
+                        && TypeTags.isStringTypeTag(addOp.rhsOp2.variableDcl.type.tag));
+            case SUB:
+            case MUL:
+            case DIV:
+                // Integer arithmetic may overflow or divide by zero, and decimal arithmetic may overflow
+                return isFloatOperation((BIRNonTerminator.BinaryOp) instruction);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isFloatOperation(BIRNonTerminator.BinaryOp binaryOp) {
+        return binaryOp.rhsOp1.variableDcl.type.tag == TypeTags.FLOAT
+                && binaryOp.rhsOp2.variableDcl.type.tag == TypeTags.FLOAT;
+    }
+
+    private static int getNextBBId(BIRFunction function) {
+        int maxId = -1;
+        for (BIRBasicBlock basicBlock : function.basicBlocks) {
+            maxId = Math.max(maxId, parseId(basicBlock.id.value, BIR_BASIC_BLOCK_PREFIX));
+        }
+        return maxId + 1;
+    }
+
+    private static int getNextTempVarId(BIRFunction function) {
+        int maxId = -1;
+        for (BIRVariableDcl localVar : function.localVars) {
+            maxId = Math.max(maxId, parseId(localVar.name.value, TEMP_VAR_PREFIX));
+        }
+        return maxId + 1;
+    }
+
+    private static int parseId(String name, String prefix) {
+        if (!name.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Holds the details required to copy the body of a function into the call site.
+     */
+    private static class InlineEnv {
+        private final BIRTerminator.Call call;
+        private final Map<BIRVariableDcl, BIRVariableDcl> varMap;
+        private final Map<BIRBasicBlock, BIRBasicBlock> bbMap;
+        private final BIRVariableDcl returnVar;
+
+        InlineEnv(BIRTerminator.Call call, Map<BIRVariableDcl, BIRVariableDcl> varMap,
+                  Map<BIRBasicBlock, BIRBasicBlock> bbMap, BIRVariableDcl returnVar) {
+            this.call = call;
+            this.varMap = varMap;
+            this.bbMap = bbMap;
+            this.returnVar = returnVar;
+        }
+
+        private BIROperand mapOperand(BIROperand operand) {
+            if (operand == null) {
+                return null;
+            }
+            BIRVariableDcl variableDcl = operand.variableDcl;
+            if (variableDcl instanceof BIRNode.BIRGlobalVariableDcl || variableDcl.kind == VarKind.GLOBAL
+                    || variableDcl.kind == VarKind.CONSTANT) {
+                return operand;
+            }
+            BIRVariableDcl mappedVar = this.varMap.get(variableDcl);
+            return mappedVar == null ? operand : new BIROperand(mappedVar);
+        }
+    }
+}
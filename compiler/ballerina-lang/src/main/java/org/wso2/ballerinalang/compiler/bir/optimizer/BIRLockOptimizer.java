@@ -18,12 +18,21 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -31,15 +40,27 @@ import java.util.Set;
 
 /**
  * Optimize Locks.
+ * <p>
+ * Locks which share global variables are given the same lock ID, and locks which only read the variables they lock
+ * are marked as read-only, so that they can be held by more than one strand at a time.
  *
  * @since 1.2.1
  */
 public class BIRLockOptimizer extends BIRVisitor {
 
+    // Lang library functions which do not mutate their arguments, hence can be called within a read-only lock
+    private static final Set<String> NON_MUTATING_LANG_LIB_FUNCTIONS = Set.of(
+            "clone", "cloneReadOnly", "endsWith", "get", "hasKey", "includes", "indexOf", "isReadOnly", "keys",
+            "lastIndexOf", "length", "slice", "startsWith", "substring", "toArray", "toBalString", "toJsonString",
+            "toString");
+
     private final List<BIRTerminator.Lock> lockList = new ArrayList<>();
     private final Map<BIRTerminator.Lock, Integer> lockToSetMap = new HashMap<>();
     private final Map<Integer, List<BIRTerminator.Lock>> setToLockMap = new HashMap<>();
     private int setId = -1;
+    private BIRNode.BIRFunction currentFunction;
+    // index of each basic block of the current function, computed when the first error entry has to be checked
+    private Map<BIRBasicBlock, Integer> basicBlockIndexes;
 
     public void optimizeNode(BIRNode node) {
         // Collect lock nodes
@@ -147,6 +168,123 @@ public class BIRLockOptimizer extends BIRVisitor {
         lockToSetMap.put(comparedLock, setId);
     }
 
+    // Visits the basic blocks which are reachable from the lock before it is released, including the error handlers of
+    // the visited blocks, and checks whether any of them may mutate a global variable or a value.
+    private boolean isReadOnlyLockedBlock(BIRTerminator.Lock lock) {
+        Deque<BIRBasicBlock> pending = new ArrayDeque<>();
+        Set<BIRBasicBlock> visited = new HashSet<>();
+        pending.push(lock.lockedBB);
+        while (!pending.isEmpty()) {
+            BIRBasicBlock basicBlock = pending.pop();
+            if (!visited.add(basicBlock)) {
+                continue;
+            }
+
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (isMutatingInstruction(instruction)) {
+                    return false;
+                }
+            }
+
+            BIRTerminator terminator = basicBlock.terminator;
+            if (terminator == null || isMutatingTerminator(terminator)) {
+                return false;
+            }
+            if (!isUnlockOf(terminator, lock)) {
+                for (BIRBasicBlock nextBasicBlock : terminator.getNextBasicBlocks()) {
+                    if (nextBasicBlock != null) {
+                        pending.push(nextBasicBlock);
+                    }
+                }
+            }
+            addErrorHandlers(basicBlock, pending);
+        }
+        return true;
+    }
+
+    private boolean isUnlockOf(BIRTerminator terminator, BIRTerminator.Lock lock) {
+        return terminator.kind == InstructionKind.UNLOCK && ((BIRTerminator.Unlock) terminator).relatedLock == lock;
+    }
+
+    private void addErrorHandlers(BIRBasicBlock basicBlock, Deque<BIRBasicBlock> pending) {
+        if (currentFunction.errorTable.isEmpty()) {
+            return;
+        }
+        Map<BIRBasicBlock, Integer> indexes = getBasicBlockIndexes();
+        int index = indexes.getOrDefault(basicBlock, -1);
+        for (BIRNode.BIRErrorEntry errorEntry : currentFunction.errorTable) {
+            // The error entry covers the basic blocks from the trap basic block up to, and including, the end one
+            if (index >= indexes.getOrDefault(errorEntry.trapBB, -1)
+                    && index <= indexes.getOrDefault(errorEntry.endBB, -1)) {
+                pending.push(errorEntry.targetBB);
+            }
+        }
+    }
+
+    private Map<BIRBasicBlock, Integer> getBasicBlockIndexes() {
+        if (basicBlockIndexes == null) {
+            List<BIRBasicBlock> basicBlocks = currentFunction.basicBlocks;
+            basicBlockIndexes = new HashMap<>(basicBlocks.size() * 2);
+            for (int i = 0; i < basicBlocks.size(); i++) {
+                basicBlockIndexes.put(basicBlocks.get(i), i);
+            }
+        }
+        return basicBlockIndexes;
+    }
+
+    private boolean isMutatingInstruction(BIRNonTerminator instruction) {
+        if (assignsGlobalVariable(instruction)) {
+            return true;
+        }
+        switch (instruction.kind) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+            case TABLE_STORE:
+            case PLATFORM:
+                return true;
+            case MAP_LOAD:
+            case ARRAY_LOAD:
+                // A filling read adds the member if it is not present
+                return instruction instanceof BIRNonTerminator.FieldAccess &&
+                        ((BIRNonTerminator.FieldAccess) instruction).fillingRead;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isMutatingTerminator(BIRTerminator terminator) {
+        if (assignsGlobalVariable(terminator)) {
+            return true;
+        }
+        switch (terminator.kind) {
+            case GOTO:
+            case BRANCH:
+            case RETURN:
+            case PANIC:
+            case LOCK:
+            case FIELD_LOCK:
+            case UNLOCK:
+                return false;
+            case CALL:
+                return !isNonMutatingLangLibCall((BIRTerminator.Call) terminator);
+            default:
+                // Any other call or worker interaction may mutate the locked variables
+                return true;
+        }
+    }
+
+    private boolean isNonMutatingLangLibCall(BIRTerminator.Call call) {
+        return !call.isVirtual && call.calleePkg != null && PackageID.isLangLibPackageID(call.calleePkg) &&
+                NON_MUTATING_LANG_LIB_FUNCTIONS.contains(call.name.value);
+    }
+
+    private boolean assignsGlobalVariable(BIRAbstractInstruction instruction) {
+        return instruction.lhsOp != null && instruction.lhsOp.variableDcl.scope == VarScope.GLOBAL;
+    }
+
     private boolean isSharedLock(BIRTerminator.Lock currentLock,
             Set<BIRNode.BIRGlobalVariableDcl> globalVarSetOfComparedLock) {
         for (BIRNode.BIRGlobalVariableDcl globalVarOfCurLock : currentLock.lockVariables) {
@@ -170,6 +308,8 @@ public class BIRLockOptimizer extends BIRVisitor {
 
     @Override
     public void visit(BIRNode.BIRFunction birFunction) {
+        this.currentFunction = birFunction;
+        this.basicBlockIndexes = null;
         birFunction.basicBlocks.forEach(bb -> bb.accept(this));
     }
 
@@ -206,6 +346,7 @@ public class BIRLockOptimizer extends BIRVisitor {
     @Override
     public void visit(BIRTerminator.Lock lock) {
         lockList.add(lock);
+        lock.readOnly = isReadOnlyLockedBlock(lock);
     }
 
     @Override
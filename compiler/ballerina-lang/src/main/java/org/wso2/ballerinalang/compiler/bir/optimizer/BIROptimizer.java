@@ -18,6 +18,7 @@
 
 package org.wso2.ballerinalang.compiler.bir.optimizer;
 
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.wso2.ballerinalang.compiler.bir.model.BIRAbstractInstruction;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
@@ -32,8 +33,10 @@ import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
 import org.wso2.ballerinalang.compiler.bir.model.BIRVisitor;
 import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
 import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.util.ArrayList;
@@ -46,6 +49,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.wso2.ballerinalang.compiler.util.CompilerUtils.getBooleanValueIfSet;
+
 /**
  * Optimize BIR.
  *
@@ -59,6 +64,8 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
 //    private final BirVariableOptimizer variableOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
+    private final BIRFunctionInliner functionInliner;
+    private final boolean inlineFunctions;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -76,9 +83,20 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
 //        this.variableOptimizer = new BirVariableOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
+        this.functionInliner = new BIRFunctionInliner(Types.getInstance(context));
+
+        // Observability instruments the calls themselves, hence calls are kept as they are when it is included
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(context);
+        this.inlineFunctions = getBooleanValueIfSet(compilerOptions, CompilerOptionName.INLINE_FUNCTIONS)
+                && !getBooleanValueIfSet(compilerOptions, CompilerOptionName.OBSERVABILITY_INCLUDED);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        // Inline small functions, before the temp vars introduced for the inlined bodies are optimized
+        if (this.inlineFunctions) {
+            this.functionInliner.optimizeNode(pkg);
+        }
+
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
 
@@ -93,6 +93,9 @@ public class LivenessAnalyzer {
         for (BIROperand use : node.instruction.getRhsOperands()) {
             changed |= in.add(use.variableDcl);
         }
+        if (isStore(node.instruction) && node.instruction.lhsOp != null) {
+            changed |= in.add(node.instruction.lhsOp.variableDcl);
+        }
         BIRNode.BIRVariableDcl def = getDef(node);
         boolean removed = out.remove(def);
         changed |= in.addAll(out);
@@ -104,7 +107,7 @@ public class LivenessAnalyzer {
 
     private BIRNode.BIRVariableDcl getDef(ControlFlowGraph.Node node) {
         BIRNode.BIRVariableDcl def = null;
-        if (node.instruction.lhsOp != null) {
+        if (node.instruction.lhsOp != null && !isStore(node.instruction)) {
             BIRNode.BIRVariableDcl variableDcl = node.instruction.lhsOp.variableDcl;
             if (variableDcl.kind != VarKind.GLOBAL) {
                 def = variableDcl;
@@ -113,6 +116,28 @@ public class LivenessAnalyzer {
         return def;
     }
 
+    /**
+     * Stores and wait-all instructions update the value referred by the lhs operand, hence it is a use rather than a
+     * definition.
+     *
+     * @param instruction the instruction
+     * @return whether the lhs operand of the instruction is used instead of being defined
+     */
+    private boolean isStore(BIRAbstractInstruction instruction) {
+        switch (instruction.getKind()) {
+            case MAP_STORE:
+            case ARRAY_STORE:
+            case OBJECT_STORE:
+            case TABLE_STORE:
+            case XML_SEQ_STORE:
+            case XML_ATTRIBUTE_STORE:
+            case WAIT_ALL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * If an operand is liveIn at any of the successors it is liveOut at current node.
      *
@@ -138,4 +163,16 @@ public class LivenessAnalyzer {
         liveOuts.forEach((node, var) -> map.put(node.instruction, var));
         return map;
     }
+
+    /**
+     * Get the set of variables that are live before the execution of an instruction.
+     *
+     * @return map of BIRAbstractInstruction and the set of variables that are live before the execution of the
+     * instruction.
+     */
+    public Map<BIRAbstractInstruction, Set<BIRNode.BIRVariableDcl>> getInstructionLiveIns() {
+        Map<BIRAbstractInstruction, Set<BIRNode.BIRVariableDcl>> map = new HashMap<>();
+        liveIns.forEach((node, var) -> map.put(node.instruction, var));
+        return map;
+    }
 }
@@ -195,6 +195,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_CREATE_OUTER_JOIN_FUNCTION = new Name("createOuterJoinFunction");
     private static final Name QUERY_CREATE_FILTER_FUNCTION = new Name("createFilterFunction");
     private static final Name QUERY_CREATE_ORDER_BY_FUNCTION = new Name("createOrderByFunction");
+    private static final Name QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION = new Name("createTopKOrderByFunction");
     private static final Name QUERY_CREATE_SELECT_FUNCTION = new Name("createSelectFunction");
     private static final Name QUERY_CREATE_DO_FUNCTION = new Name("createDoFunction");
     private static final Name QUERY_CREATE_LIMIT_FUNCTION = new Name("createLimitFunction");
@@ -340,7 +341,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                 initFromClause.collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
-        for (BLangNode clause : clauses.subList(1, clauses.size())) {
+        for (int i = 1; i < clauses.size(); i++) {
+            BLangNode clause = clauses.get(i);
             switch (clause.getKind()) {
                 case FROM:
                     BLangFromClause fromClause = (BLangFromClause) clause;
@@ -367,7 +369,16 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, whereFunc);
                     break;
                 case ORDER_BY:
-                    BLangVariableReference orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
+                    BLangVariableReference orderFunc;
+                    if (i + 1 < clauses.size() && clauses.get(i + 1).getKind() == NodeKind.LIMIT
+                            && isConstantLimit((BLangLimitClause) clauses.get(i + 1))) {
+                        // `order by ... limit n` only has to keep the first n frames in order. A limit which
+                        // depends on the frames is evaluated per emitted frame by the limit function instead.
+                        orderFunc = addTopKOrderByFunction(block, (BLangOrderByClause) clause,
+                                (BLangLimitClause) clauses.get(++i));
+                    } else {
+                        orderFunc = addOrderByFunction(block, (BLangOrderByClause) clause);
+                    }
                     addStreamFunction(block, initPipeline, orderFunc);
                     break;
                 case SELECT:
@@ -600,6 +611,46 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created orderBy _StreamFunction.
      */
     BLangVariableReference addOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause) {
+        BLangLambdaFunction lambda = createOrderByLambda(orderByClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda),
+                orderByClause.pos);
+    }
+
+    /**
+     * Desugar orderByClause followed by a limitClause to below and return a reference to created orderBy
+     * _StreamFunction which only retains the first `limit` frames.
+     * _StreamFunction orderByFunc = createTopKOrderByFunction(function(_Frame frame) {
+     * _Frame frame = {"orderKey": frame["x2"] + frame["y2"], $orderDirection$: true + false"};
+     * }, function(_Frame frame) returns int {
+     * return 10;
+     * });
+     *
+     * @param blockStmt parent block to write to.
+     * @param orderByClause  to be desugared.
+     * @param limitClause  limit clause with a constant limit directly following the orderByClause.
+     * @return variableReference to created orderBy _StreamFunction.
+     */
+    BLangVariableReference addTopKOrderByFunction(BLangBlockStmt blockStmt, BLangOrderByClause orderByClause,
+                                                  BLangLimitClause limitClause) {
+        BLangLambdaFunction orderLambda = createOrderByLambda(orderByClause);
+        BLangLambdaFunction limitLambda = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_TOP_K_ORDER_BY_FUNCTION,
+                Lists.of(orderLambda, limitLambda), orderByClause.pos);
+    }
+
+    private boolean isConstantLimit(BLangLimitClause limitClause) {
+        NodeKind kind = limitClause.expression.getKind();
+        if (kind == NodeKind.LITERAL || kind == NodeKind.NUMERIC_LITERAL || kind == NodeKind.CONSTANT_REF) {
+            return true;
+        }
+        if (kind != NodeKind.SIMPLE_VARIABLE_REF) {
+            return false;
+        }
+        BSymbol symbol = ((BLangSimpleVarRef) limitClause.expression).symbol;
+        return symbol != null && (symbol.tag & SymTag.CONSTANT) == SymTag.CONSTANT;
+    }
+
+    private BLangLambdaFunction createOrderByLambda(BLangOrderByClause orderByClause) {
         Location pos = orderByClause.pos;
         BLangLambdaFunction lambda = createActionLambda(pos);
         BLangBlockFunctionBody body = (BLangBlockFunctionBody) lambda.function.body;
@@ -631,7 +682,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         BLangStatement orderDirectionStmt = getAddToFrameStmt(pos, frame, "$orderDirection$", sortModesArrayExpr);
         body.stmts.add(orderDirectionStmt);
         lambda.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_ORDER_BY_FUNCTION, Lists.of(lambda), pos);
+        return lambda;
     }
 
 
@@ -691,13 +742,19 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @return variableReference to created do _StreamFunction.
      */
     BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+        BLangLambdaFunction limitFunction = createLimitLambda(limitClause);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction),
+                limitClause.pos);
+    }
+
+    private BLangLambdaFunction createLimitLambda(BLangLimitClause limitClause) {
         Location pos = limitClause.pos;
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.expr = desugar.addConversionExprIfRequired(limitClause.expression, symTable.intType);
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, getIntTypeNode(), returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return limitFunction;
     }
 
     /**
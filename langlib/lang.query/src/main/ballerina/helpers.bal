@@ -62,6 +62,11 @@ function createOrderByFunction(function(_Frame _frame) orderFunc)
     return new _OrderByFunction(orderFunc);
 }
 
+function createTopKOrderByFunction(function(_Frame _frame) orderFunc,
+        function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
+    return new _TopKOrderByFunction(orderFunc, limitFunction);
+}
+
 function createSelectFunction(function(_Frame _frame) returns _Frame|error? selectFunc)
         returns _StreamFunction {
     return new _SelectFunction(selectFunc);
@@ -566,6 +566,71 @@ class _OrderByFunction {
     }
 }
 
+class _TopKOrderByFunction {
+    *_StreamFunction;
+
+    # Desugared functions to do;
+    # order by person.fname true, person.age false
+    # limit 10
+    # The limit is a constant, hence it is evaluated only once.
+    function(_Frame _frame) orderKeyFunc;
+    function (_Frame _frame) returns int limitFunc;
+    stream<_Frame>? orderedStream;
+
+    function init(function(_Frame _frame) orderKeyFunc, function (_Frame _frame) returns int limitFunc) {
+        self.orderKeyFunc = orderKeyFunc;
+        self.limitFunc = limitFunc;
+        self.orderedStream = ();
+        self.prevFunc = ();
+    }
+
+    public function process() returns _Frame|error? {
+        if (self.orderedStream is ()) {
+            _StreamFunction pf = <_StreamFunction> self.prevFunc;
+            function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
+            _Frame|error? f = pf.process();
+            _OrderTopKHeap? heap = ();
+            // keep only the first `limit` frames in order while consuming the events.
+            while (f is _Frame) {
+                orderKeyFunc(f);
+                _OrderTopKHeap h;
+                if (heap is _OrderTopKHeap) {
+                    h = heap;
+                } else {
+                    int lmt = self.limitFunc(f);
+                    if (lmt < 1) {
+                        panic error("Invalid limit", message = "limit cannot be < 1.");
+                    }
+                    h = new (lmt, <any[]>(checkpanic f["$orderDirection$"]));
+                    heap = h;
+                }
+                h.add(f, <any[]>(checkpanic f["$orderKey$"]));
+                f = pf.process();
+            }
+            if (f is error) {
+                return f;
+            }
+            _Frame[] orderedFrames = heap is _OrderTopKHeap ? heap.get() : [];
+            self.orderedStream = orderedFrames.toStream();
+        }
+
+        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
+        record {|_Frame value;|}|error? f = s.next();
+        if (f is record {|_Frame value;|}) {
+            return f.value;
+        }
+        return f;
+    }
+
+    public function reset() {
+        self.orderedStream = ();
+        _StreamFunction? pf = self.prevFunc;
+        if (pf is _StreamFunction) {
+            pf.reset();
+        }
+    }
+}
+
 class _SelectFunction {
     *_StreamFunction;
 
@@ -833,3 +898,143 @@ class _OrderTreeNode {
         }
     }
 }
+
+# Bounded max-heap keeping the first `k` frames of an order by clause. The root is the frame that would be
+# ordered last, so a new frame only has to be compared against it to decide whether it makes it into the result.
+class _OrderTopKHeap {
+    int k;
+    any[] directions;
+    _Frame[] frames = [];
+    any[][] keys = [];
+    // arrival order of the frames, used to keep the ordering stable for equal keys.
+    int[] sequences = [];
+    int nextSequence = 0;
+
+    function init(int k, any[] directions) {
+        self.k = k;
+        self.directions = directions;
+    }
+
+    # adds a _Frame to the heap if it is among the first `k` frames seen so far.
+    function add(_Frame f, any[] keys) {
+        int sequence = self.nextSequence;
+        self.nextSequence += 1;
+        int size = self.frames.length();
+        if (size < self.k) {
+            self.frames.push(f);
+            self.keys.push(keys);
+            self.sequences.push(sequence);
+            self.siftUp(size);
+        } else if (self.compare(keys, sequence, 0) < 0) {
+            self.frames[0] = f;
+            self.keys[0] = keys;
+            self.sequences[0] = sequence;
+            self.siftDown(0, size);
+        }
+    }
+
+    # drains the heap and returns the retained frames in order.
+    # + return -  ordered frames.
+    function get() returns _Frame[] {
+        int size = self.frames.length();
+        while (size > 1) {
+            size -= 1;
+            self.swap(0, size);
+            self.siftDown(0, size);
+        }
+        return self.frames;
+    }
+
+    function siftUp(int index) {
+        int i = index;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (self.compare(self.keys[i], self.sequences[i], parent) <= 0) {
+                return;
+            }
+            self.swap(i, parent);
+            i = parent;
+        }
+    }
+
+    function siftDown(int index, int size) {
+        int i = index;
+        while (true) {
+            int largest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && self.compare(self.keys[left], self.sequences[left], largest) > 0) {
+                largest = left;
+            }
+            if (right < size && self.compare(self.keys[right], self.sequences[right], largest) > 0) {
+                largest = right;
+            }
+            if (largest == i) {
+                return;
+            }
+            self.swap(i, largest);
+            i = largest;
+        }
+    }
+
+    # compares the given keys against the frame at `index`.
+    # + return - negative if the given keys are ordered before the frame at `index`, positive otherwise.
+    function compare(any[] keys, int sequence, int index) returns int {
+        any[] other = self.keys[index];
+        int i = 0;
+        while (i < keys.length()) {
+            int c = self.compareKey(keys[i], other[i], <boolean>self.directions[i]);
+            if (c != 0) {
+                return c;
+            }
+            i += 1;
+        }
+        return sequence - self.sequences[index];
+    }
+
+    # nil keys are ordered last regardless of the direction, as in `_OrderTreeNode`.
+    function compareKey(any v1, any v2, boolean ascending) returns int {
+        if (v1 is ()) {
+            return v2 is () ? 0 : 1;
+        }
+        if (v2 is ()) {
+            return -1;
+        }
+        int c = 0;
+        if (v1 is boolean && v2 is boolean) {
+            c = v1 == v2 ? 0 : (v1 ? 1 : -1);
+        } else if (v1 is int && v2 is int) {
+            c = v1 < v2 ? -1 : (v1 > v2 ? 1 : 0);
+        } else if (v1 is float && v2 is float) {
+            // NaN is ordered after the other floats regardless of the direction, as in `lang.array:sort`.
+            boolean nan1 = self.isNaN(v1);
+            boolean nan2 = self.isNaN(v2);
+            if (nan1 || nan2) {
+                return nan1 == nan2 ? 0 : (nan1 ? 1 : -1);
+            }
+            c = v1 < v2 ? -1 : (v1 > v2 ? 1 : 0);
+        } else if (v1 is decimal && v2 is decimal) {
+            c = v1 < v2 ? -1 : (v1 > v2 ? 1 : 0);
+        } else if (v1 is string && v2 is string) {
+            c = lang_string:codePointCompare(v1, v2);
+        }
+        return ascending ? c : -c;
+    }
+
+    # NaN is the only float which is unordered with itself.
+    function isNaN(float f) returns boolean {
+        return !(f <= f);
+    }
+
+    function swap(int i, int j) {
+        _Frame frame = self.frames[i];
+        self.frames[i] = self.frames[j];
+        self.frames[j] = frame;
+        any[] keys = self.keys[i];
+        self.keys[i] = self.keys[j];
+        self.keys[j] = keys;
+        int sequence = self.sequences[i];
+        self.sequences[i] = self.sequences[j];
+        self.sequences[j] = sequence;
+    }
+}
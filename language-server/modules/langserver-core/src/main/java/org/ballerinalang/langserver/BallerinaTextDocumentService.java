@@ -552,7 +552,7 @@ class BallerinaTextDocumentService implements TextDocumentService {
             this.clientLogger.logTrace("Operation '" + LSContextOperation.TXT_DID_CHANGE.getName() +
                     "' {fileUri: '" + fileUri + "'} updated");
             DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(this.serverContext);
-            diagnosticsHelper.schedulePublishDiagnostics(this.languageServer.getClient(), context);
+            diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(this.languageServer.getClient(), context);
             LSClientUtil.chekAndRegisterCommands(context);
         } catch (Throwable e) {
             String msg = "Operation 'text/didChange' failed!";
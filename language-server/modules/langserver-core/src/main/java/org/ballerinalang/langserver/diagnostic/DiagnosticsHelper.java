@@ -15,10 +15,17 @@
  */
 package org.ballerinalang.langserver.diagnostic;
 
+import io.ballerina.projects.DependencyGraph;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
@@ -32,12 +39,18 @@ import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -56,7 +69,12 @@ public class DiagnosticsHelper {
      * Holds last sent diagnostics for the purpose of clear-off when publishing new diagnostics.
      */
     private final Map<Path, Map<String, List<Diagnostic>>> lastDiagnosticMap;
-    private CompletableFuture<Boolean> latestScheduled = null;
+    /**
+     * Holds the latest diagnostics request of each project, until its diagnostics are published. A request replaces
+     * the pending request of the same project, which is then cancelled or discarded once its compilation completes.
+     */
+    private final Map<Path, DiagnosticsRequest> latestRequests;
+    private final LSClientLogger clientLogger;
 
     public static DiagnosticsHelper getInstance(LanguageServerContext serverContext) {
         DiagnosticsHelper diagnosticsHelper = serverContext.get(DIAGNOSTICS_HELPER_KEY);
@@ -70,6 +88,8 @@ public class DiagnosticsHelper {
     private DiagnosticsHelper(LanguageServerContext serverContext) {
         serverContext.put(DIAGNOSTICS_HELPER_KEY, this);
         this.lastDiagnosticMap = new HashMap<>();
+        this.latestRequests = new HashMap<>();
+        this.clientLogger = LSClientLogger.getInstance(serverContext);
     }
 
     /**
@@ -78,6 +98,9 @@ public class DiagnosticsHelper {
      * change events are triggered frequently in subsequent edits, we do compilations and diagnostic calculation for
      * each of the change event. This is time consuming for the large projects and from the user experience point of
      * view, we can publish the diagnostics after a delay. The default delay specified in {@link #DIAGNOSTIC_DELAY}
+     * <p>
+     * The diagnostics of all the documents of the project are published. When only the content of the document has
+     * changed, use {@link #schedulePublishDocumentChangeDiagnostics(ExtendedLanguageClient, DocumentServiceContext)}.
      *
      * @param client  Language client
      * @param context Document Service context.
@@ -85,7 +108,22 @@ public class DiagnosticsHelper {
     public synchronized void schedulePublishDiagnostics(ExtendedLanguageClient client, DocumentServiceContext context) {
         WorkspaceManager workspaceManager = context.workspace();
         Path projectRoot = workspaceManager.projectRoot(context.filePath());
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+        compileAndSendDiagnostics(workspaceManager, projectRoot, null, client);
+    }
+
+    /**
+     * Schedule the diagnostics publishing for a change in the content of the document of the given context.
+     * Only the diagnostics of the module of the changed document and the modules which depend on it are converted and
+     * published, since the diagnostics of the other modules cannot change by editing the document.
+     *
+     * @param client  Language client
+     * @param context Document Service context of the changed document
+     */
+    public synchronized void schedulePublishDocumentChangeDiagnostics(ExtendedLanguageClient client,
+                                                                      DocumentServiceContext context) {
+        WorkspaceManager workspaceManager = context.workspace();
+        Path projectRoot = workspaceManager.projectRoot(context.filePath());
+        compileAndSendDiagnostics(workspaceManager, projectRoot, context.filePath(), client);
     }
 
     /**
@@ -102,7 +140,7 @@ public class DiagnosticsHelper {
                                                         WorkspaceServiceContext context,
                                                         Path projectRoot) {
         WorkspaceManager workspaceManager = context.workspace();
-        compileAndSendDiagnostics(workspaceManager, projectRoot, client);
+        compileAndSendDiagnostics(workspaceManager, projectRoot, null, client);
     }
 
     /**
@@ -145,36 +183,86 @@ public class DiagnosticsHelper {
     }
 
     /**
-     * Compiles and publishes diagnostics for a project.
+     * Publishes the diagnostics of a compiled project, unless a newer request for the project has been made since.
      *
-     * @param client      Language server client
-     * @param projectRoot project root
-     * @param compilation package compilation
+     * @param client           Language server client
+     * @param projectRoot      project root
+     * @param compilation      package compilation
+     * @param workspaceManager workspace manager
+     * @param request          diagnostics request which the compilation was done for
      */
-    private synchronized void compileAndSendDiagnostics(ExtendedLanguageClient client, Path projectRoot,
-                                                        PackageCompilation compilation,
-                                                        WorkspaceManager workspaceManager) {
-        Map<String, List<Diagnostic>> diagnosticMap =
-                toDiagnosticsMap(compilation.diagnosticResult().diagnostics(false), projectRoot, workspaceManager);
-        // If the client is null, returns
-        if (client == null) {
+    private void sendDiagnostics(ExtendedLanguageClient client, Path projectRoot, PackageCompilation compilation,
+                                 WorkspaceManager workspaceManager, DiagnosticsRequest request) {
+        if (isSuperseded(projectRoot, request)) {
             return;
         }
-        Map<String, List<Diagnostic>> lastProjectDiagnostics =
-                lastDiagnosticMap.getOrDefault(projectRoot, new HashMap<>());
+        long startTime = System.nanoTime();
+        Optional<Set<String>> affectedFiles = getAffectedFiles(workspaceManager, request.changedFiles);
+        Collection<io.ballerina.tools.diagnostics.Diagnostic> diagnostics = compilation.diagnosticResult()
+                .diagnostics(false);
+        if (affectedFiles.isPresent()) {
+            List<io.ballerina.tools.diagnostics.Diagnostic> affectedDiagnostics = new ArrayList<>();
+            for (io.ballerina.tools.diagnostics.Diagnostic diagnostic : diagnostics) {
+                if (affectedFiles.get().contains(diagnostic.location().lineRange().filePath())) {
+                    affectedDiagnostics.add(diagnostic);
+                }
+            }
+            diagnostics = affectedDiagnostics;
+        }
+        Map<String, List<Diagnostic>> diagnosticMap = toDiagnosticsMap(diagnostics, projectRoot, workspaceManager);
+        request.diagnosticsTime = System.nanoTime() - startTime;
 
-        // Clear old diagnostic entries of the project with an empty list
-        lastProjectDiagnostics.forEach((key, value) -> {
-            if (!diagnosticMap.containsKey(key)) {
-                client.publishDiagnostics(new PublishDiagnosticsParams(key, emptyDiagnosticList));
+        synchronized (this) {
+            // A newer request may have been made while the diagnostics were being calculated
+            if (isSuperseded(projectRoot, request)) {
+                return;
+            }
+            latestRequests.remove(projectRoot);
+            // If the client is null, returns
+            if (client == null) {
+                return;
+            }
+            startTime = System.nanoTime();
+            Map<String, List<Diagnostic>> lastProjectDiagnostics =
+                    lastDiagnosticMap.getOrDefault(projectRoot, new HashMap<>());
+            Map<String, List<Diagnostic>> latestDiagnostics;
+            if (affectedFiles.isPresent()) {
+                // Diagnostics of the files which are not affected by the change stay as they were
+                Set<String> affectedUris = new HashSet<>();
+                for (String filePath : affectedFiles.get()) {
+                    affectedUris.add(toFileUri(filePath, projectRoot, workspaceManager));
+                }
+                latestDiagnostics = new HashMap<>(lastProjectDiagnostics);
+                latestDiagnostics.keySet().removeAll(affectedUris);
+                latestDiagnostics.putAll(diagnosticMap);
+            } else {
+                latestDiagnostics = diagnosticMap;
             }
-        });
 
-        // Publish diagnostics for the project
-        diagnosticMap.forEach((key, value) -> client.publishDiagnostics(new PublishDiagnosticsParams(key, value)));
+            // Clear old diagnostic entries of the project with an empty list
+            int publishedCount = 0;
+            for (String key : lastProjectDiagnostics.keySet()) {
+                if (!latestDiagnostics.containsKey(key)) {
+                    client.publishDiagnostics(new PublishDiagnosticsParams(key, emptyDiagnosticList));
+                    publishedCount++;
+                }
+            }
 
-        // Replace old diagnostic map associated with the project
-        lastDiagnosticMap.put(projectRoot, diagnosticMap);
+            // Publish diagnostics of the files whose diagnostics have changed
+            for (Map.Entry<String, List<Diagnostic>> entry : latestDiagnostics.entrySet()) {
+                if (!entry.getValue().equals(lastProjectDiagnostics.get(entry.getKey()))) {
+                    client.publishDiagnostics(new PublishDiagnosticsParams(entry.getKey(), entry.getValue()));
+                    publishedCount++;
+                }
+            }
+
+            // Replace old diagnostic map associated with the project
+            lastDiagnosticMap.put(projectRoot, latestDiagnostics);
+            clientLogger.logTrace("Diagnostics of '" + projectRoot + "' published for " + publishedCount +
+                    " file(s) {delay: " + toMillis(request.delayTime) + "ms, compilation: " +
+                    toMillis(request.compilationTime) + "ms, diagnostics: " + toMillis(request.diagnosticsTime) +
+                    "ms, publish: " + toMillis(System.nanoTime() - startTime) + "ms}");
+        }
     }
 
     public Map<String, List<Diagnostic>> getLatestDiagnostics(DocumentServiceContext context) {
@@ -236,32 +324,146 @@ public class DiagnosticsHelper {
             If the project root is a directory, that means it is a build project and in the other case, a single 
             file project. So we only append the file URI for the build project case.
              */
-            Path resolvedPath = projectRoot.toFile().isDirectory()
-                    ? projectRoot.resolve(lineRange.filePath())
-                    : projectRoot;
-            String resolvedUri = resolvedPath.toUri().toString();
-            String fileURI = CommonUtil.getModifiedUri(workspaceManager, resolvedUri);
+            String fileURI = toFileUri(lineRange.filePath(), projectRoot, workspaceManager);
             List<Diagnostic> clientDiagnostics = diagnosticsMap.computeIfAbsent(fileURI, s -> new ArrayList<>());
             clientDiagnostics.add(diagnostic);
         }
         return diagnosticsMap;
     }
 
+    private String toFileUri(String filePath, Path projectRoot, WorkspaceManager workspaceManager) {
+        Path resolvedPath = projectRoot.toFile().isDirectory()
+                ? projectRoot.resolve(filePath)
+                : projectRoot;
+        String resolvedUri = resolvedPath.toUri().toString();
+        return CommonUtil.getModifiedUri(workspaceManager, resolvedUri);
+    }
+
+    /**
+     * Returns the paths, relative to the project root, of the documents whose diagnostics may be changed by the given
+     * changed files. These are the documents of the modules of the changed files and of the modules which depend on
+     * them. If all the documents of the project may be affected, an empty optional is returned.
+     *
+     * @param workspaceManager workspace manager
+     * @param changedFiles     changed files, or null if the whole project has changed
+     * @return paths of the affected documents
+     */
+    private Optional<Set<String>> getAffectedFiles(WorkspaceManager workspaceManager, Set<Path> changedFiles) {
+        if (changedFiles == null) {
+            return Optional.empty();
+        }
+
+        Set<ModuleId> affectedModules = new HashSet<>();
+        Deque<ModuleId> modulesToVisit = new ArrayDeque<>();
+        Package currentPackage = null;
+        for (Path changedFile : changedFiles) {
+            Optional<Module> module = workspaceManager.module(changedFile);
+            if (module.isEmpty() || module.get().project().kind() != ProjectKind.BUILD_PROJECT) {
+                return Optional.empty();
+            }
+            currentPackage = module.get().packageInstance();
+            modulesToVisit.push(module.get().moduleId());
+        }
+        if (currentPackage == null) {
+            return Optional.empty();
+        }
+
+        DependencyGraph<ModuleId> moduleDependencyGraph = currentPackage.moduleDependencyGraph();
+        while (!modulesToVisit.isEmpty()) {
+            ModuleId moduleId = modulesToVisit.pop();
+            if (affectedModules.add(moduleId)) {
+                modulesToVisit.addAll(moduleDependencyGraph.getDirectDependents(moduleId));
+            }
+        }
+
+        // Paths are built the same way as the file paths of the package diagnostics
+        Set<String> affectedFiles = new HashSet<>();
+        for (ModuleId moduleId : affectedModules) {
+            Module module = currentPackage.module(moduleId);
+            List<DocumentId> documentIds = new ArrayList<>(module.documentIds());
+            documentIds.addAll(module.testDocumentIds());
+            for (DocumentId documentId : documentIds) {
+                String documentName = module.document(documentId).name();
+                if (module.isDefaultModule()) {
+                    affectedFiles.add(documentName);
+                } else {
+                    affectedFiles.add(Paths.get(ProjectConstants.MODULES_ROOT)
+                            .resolve(module.moduleName().moduleNamePart()).resolve(documentName).toString());
+                }
+            }
+        }
+        return Optional.of(affectedFiles);
+    }
+
     private synchronized void compileAndSendDiagnostics(WorkspaceManager workspaceManager,
                                                         Path projectRoot,
+                                                        Path changedFile,
                                                         ExtendedLanguageClient client) {
-        if (latestScheduled != null && !latestScheduled.isDone()) {
-            latestScheduled.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
+        // Files changed by the pending request of the project are carried over as its diagnostics will not be sent
+        Set<Path> changedFiles = null;
+        DiagnosticsRequest pendingRequest = latestRequests.get(projectRoot);
+        if (changedFile != null) {
+            if (pendingRequest == null) {
+                changedFiles = new HashSet<>();
+            } else if (pendingRequest.changedFiles != null) {
+                changedFiles = new HashSet<>(pendingRequest.changedFiles);
+            }
+            if (changedFiles != null) {
+                changedFiles.add(changedFile);
+            }
+        }
+        if (pendingRequest != null && !pendingRequest.scheduledFuture.isDone()) {
+            pendingRequest.scheduledFuture.completeExceptionally(new Throwable("Cancelled diagnostic publisher"));
         }
 
         Executor delayedExecutor = CompletableFuture.delayedExecutor(DIAGNOSTIC_DELAY, TimeUnit.SECONDS);
         CompletableFuture<Boolean> scheduledFuture = CompletableFuture.supplyAsync(() -> true, delayedExecutor);
-        latestScheduled = scheduledFuture;
+        DiagnosticsRequest request = new DiagnosticsRequest(scheduledFuture, changedFiles);
+        latestRequests.put(projectRoot, request);
 
         scheduledFuture
-                .thenApplyAsync((bool) -> workspaceManager.waitAndGetPackageCompilation(projectRoot))
+                .thenApplyAsync((bool) -> {
+                    long startTime = System.nanoTime();
+                    request.delayTime = startTime - request.requestedTime;
+                    // Superseded requests do not start their compilation
+                    Optional<PackageCompilation> compilation =
+                            workspaceManager.waitAndGetPackageCompilation(projectRoot, () -> {
+                                if (isSuperseded(projectRoot, request)) {
+                                    throw new CancellationException("Superseded diagnostic publisher");
+                                }
+                            });
+                    request.compilationTime = System.nanoTime() - startTime;
+                    return compilation;
+                })
                 .thenAccept(compilation ->
                         compilation.ifPresent(pkgCompilation ->
-                                compileAndSendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager)));
+                                sendDiagnostics(client, projectRoot, pkgCompilation, workspaceManager, request)));
+    }
+
+    private synchronized boolean isSuperseded(Path projectRoot, DiagnosticsRequest request) {
+        return latestRequests.get(projectRoot) != request;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A scheduled request to publish the diagnostics of a project, along with the time taken by each of its phases.
+     */
+    private static class DiagnosticsRequest {
+        private final CompletableFuture<Boolean> scheduledFuture;
+        // Files changed since the diagnostics were last published, or null if the whole project has to be published
+        private final Set<Path> changedFiles;
+        private final long requestedTime;
+        private volatile long delayTime;
+        private volatile long compilationTime;
+        private volatile long diagnosticsTime;
+
+        DiagnosticsRequest(CompletableFuture<Boolean> scheduledFuture, Set<Path> changedFiles) {
+            this.scheduledFuture = scheduledFuture;
+            this.changedFiles = changedFiles;
+            this.requestedTime = System.nanoTime();
+        }
     }
 }
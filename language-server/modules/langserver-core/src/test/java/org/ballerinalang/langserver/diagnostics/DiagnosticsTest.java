@@ -24,7 +24,9 @@ import org.ballerinalang.langserver.LSContextOperation;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.contexts.ContextBuilder;
 import org.ballerinalang.langserver.contexts.LanguageServerContextImpl;
 import org.ballerinalang.langserver.diagnostic.DiagnosticsHelper;
@@ -32,9 +34,13 @@ import org.ballerinalang.langserver.util.FileUtils;
 import org.ballerinalang.langserver.util.TestUtil;
 import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.eclipse.lsp4j.jsonrpc.Endpoint;
 import org.testng.Assert;
 import org.testng.annotations.AfterClass;
@@ -44,12 +50,20 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Diagnostics tests are covered here.
@@ -126,6 +140,129 @@ public class DiagnosticsTest {
         return gson.toJson(diagnostics).replace("\r\n", "\n").replace("\\r\\n", "\\n");
     }
 
+    @Test
+    public void testDocumentChangePublishesDependentModules() throws Exception {
+        Path projectPath = testRoot.resolve("sources").resolve("multi_module_project").toAbsolutePath();
+        Path moduleA = projectPath.resolve("modules").resolve("a").resolve("a.bal");
+        LanguageServerContext context = new LanguageServerContextImpl();
+        BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(context);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(context);
+        RecordingClient client = new RecordingClient();
+
+        openFile(workspaceManager, moduleA);
+        diagnosticsHelper.schedulePublishDiagnostics(client.proxy,
+                buildContext(moduleA, workspaceManager, LSContextOperation.TXT_DID_OPEN, context));
+        Assert.assertFalse(client.waitForPublish("multi_module_project/modules/c/c.bal").isEmpty());
+        client.clear();
+
+        // Module b uses the function of module a which is renamed, while module c does not depend on module a
+        changeFile(workspaceManager, moduleA, "public function getNewValue() returns int {\n    return 1;\n}\n");
+        diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(client.proxy,
+                buildContext(moduleA, workspaceManager, LSContextOperation.TXT_DID_CHANGE, context));
+        Assert.assertFalse(client.waitForPublish("multi_module_project/modules/b/b.bal").isEmpty());
+        Assert.assertEquals(client.publishedFiles(), List.of("multi_module_project/modules/b/b.bal"));
+    }
+
+    @Test
+    public void testConcurrentDocumentChangesOfProjects() throws Exception {
+        Path firstFile = testRoot.resolve("sources").resolve("concurrent_edit1.bal").toAbsolutePath();
+        Path secondFile = testRoot.resolve("sources").resolve("concurrent_edit2.bal").toAbsolutePath();
+        LanguageServerContext context = new LanguageServerContextImpl();
+        BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(context);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(context);
+        RecordingClient client = new RecordingClient();
+
+        openFile(workspaceManager, firstFile);
+        openFile(workspaceManager, secondFile);
+        changeFile(workspaceManager, firstFile, "public function getValue() returns string {\n    return 1;\n}\n");
+        changeFile(workspaceManager, secondFile, "public function getValue() returns boolean {\n    return 1;\n}\n");
+        CompletableFuture.allOf(
+                CompletableFuture.runAsync(() -> diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(
+                        client.proxy,
+                        buildContext(firstFile, workspaceManager, LSContextOperation.TXT_DID_CHANGE, context))),
+                CompletableFuture.runAsync(() -> diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(
+                        client.proxy,
+                        buildContext(secondFile, workspaceManager, LSContextOperation.TXT_DID_CHANGE, context))))
+                .get(10, TimeUnit.SECONDS);
+
+        // The request of one project does not supersede the request of the other project
+        assertMessage(client.waitForPublish("concurrent_edit1.bal"), "expected 'string', found 'int'");
+        assertMessage(client.waitForPublish("concurrent_edit2.bal"), "expected 'boolean', found 'int'");
+    }
+
+    @Test
+    public void testSupersededRequestIsNotPublished() throws Exception {
+        Path filePath = testRoot.resolve("sources").resolve("superseded_edit.bal").toAbsolutePath();
+        LanguageServerContext context = new LanguageServerContextImpl();
+        BallerinaWorkspaceManager workspaceManager = new BallerinaWorkspaceManager(context);
+        DiagnosticsHelper diagnosticsHelper = DiagnosticsHelper.getInstance(context);
+        RecordingClient client = new RecordingClient();
+
+        // The first compilation is held back until the document has been changed again
+        CountDownLatch compiled = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        AtomicBoolean holdCompilation = new AtomicBoolean(true);
+        WorkspaceManager holdingManager = (WorkspaceManager) Proxy.newProxyInstance(
+                WorkspaceManager.class.getClassLoader(), new Class<?>[]{WorkspaceManager.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(workspaceManager, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("waitAndGetPackageCompilation") && holdCompilation.getAndSet(false)) {
+                        compiled.countDown();
+                        released.await(10, TimeUnit.SECONDS);
+                    }
+                    return result;
+                });
+
+        openFile(workspaceManager, filePath);
+        diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(client.proxy,
+                buildContext(filePath, holdingManager, LSContextOperation.TXT_DID_CHANGE, context));
+        Assert.assertTrue(compiled.await(10, TimeUnit.SECONDS));
+
+        changeFile(workspaceManager, filePath, "public function getValue() returns string {\n    return 1;\n}\n");
+        diagnosticsHelper.schedulePublishDocumentChangeDiagnostics(client.proxy,
+                buildContext(filePath, holdingManager, LSContextOperation.TXT_DID_CHANGE, context));
+        assertMessage(client.waitForPublish("superseded_edit.bal"), "expected 'string', found 'int'");
+
+        released.countDown();
+        Thread.sleep(RecordingClient.QUIET_PERIOD);
+        Assert.assertEquals(client.publishedFiles(), List.of("superseded_edit.bal"));
+    }
+
+    private static void openFile(BallerinaWorkspaceManager workspaceManager, Path filePath)
+            throws IOException, WorkspaceDocumentException {
+        TextDocumentItem textDocumentItem = new TextDocumentItem();
+        textDocumentItem.setUri(filePath.toUri().toString());
+        textDocumentItem.setText(new String(Files.readAllBytes(filePath)));
+        DidOpenTextDocumentParams params = new DidOpenTextDocumentParams();
+        params.setTextDocument(textDocumentItem);
+        workspaceManager.didOpen(filePath, params);
+    }
+
+    private static void changeFile(BallerinaWorkspaceManager workspaceManager, Path filePath, String content)
+            throws WorkspaceDocumentException {
+        DidChangeTextDocumentParams params = new DidChangeTextDocumentParams();
+        params.setTextDocument(new VersionedTextDocumentIdentifier(filePath.toUri().toString(), 2));
+        params.getContentChanges().add(new TextDocumentContentChangeEvent(content));
+        workspaceManager.didChange(filePath, params);
+    }
+
+    private static DocumentServiceContext buildContext(Path filePath, WorkspaceManager workspaceManager,
+                                                       LSContextOperation operation, LanguageServerContext context) {
+        return ContextBuilder.buildDocumentServiceContext(filePath.toUri().toString(), workspaceManager, operation,
+                context);
+    }
+
+    private static void assertMessage(List<Diagnostic> diagnostics, String expectedMessage) {
+        Assert.assertEquals(diagnostics.size(), 1);
+        Assert.assertTrue(diagnostics.get(0).getMessage().contains(expectedMessage),
+                "Unexpected diagnostic: " + diagnostics.get(0).getMessage());
+    }
+
     JsonObject unifyResponse(JsonObject response) {
         JsonObject unifiedJson = new JsonObject();
         for (String key : response.keySet()) {
@@ -146,6 +283,65 @@ public class DiagnosticsTest {
                 "incomplete_const_expression"};
     }
 
+    /**
+     * A language client which records the diagnostics published to it, by the path of the file relative to the test
+     * sources.
+     */
+    private class RecordingClient {
+
+        // Diagnostics of a request are published together, so no more are expected after this period
+        private static final long QUIET_PERIOD = 2000;
+        private static final long TIMEOUT = 30000;
+
+        private final List<String> publishedFiles = new ArrayList<>();
+        private final Map<String, List<Diagnostic>> publishedDiagnostics = new HashMap<>();
+        private final ExtendedLanguageClient proxy = (ExtendedLanguageClient) Proxy.newProxyInstance(
+                ExtendedLanguageClient.class.getClassLoader(), new Class<?>[]{ExtendedLanguageClient.class},
+                (client, method, args) -> {
+                    if (method.getName().equals("publishDiagnostics")) {
+                        record((PublishDiagnosticsParams) args[0]);
+                    }
+                    return null;
+                });
+
+        private synchronized void record(PublishDiagnosticsParams params) {
+            Path path = CommonUtil.getPathFromURI(params.getUri()).orElseThrow();
+            String file = testRoot.resolve("sources").toAbsolutePath().relativize(path).toString()
+                    .replace(File.separator, "/");
+            publishedFiles.add(file);
+            publishedDiagnostics.put(file, params.getDiagnostics());
+            notifyAll();
+        }
+
+        private List<Diagnostic> waitForPublish(String file) throws InterruptedException {
+            synchronized (this) {
+                long deadline = System.currentTimeMillis() + TIMEOUT;
+                while (!publishedDiagnostics.containsKey(file)) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        Assert.fail("Diagnostics were not published for: " + file);
+                    }
+                    wait(remaining);
+                }
+            }
+            Thread.sleep(QUIET_PERIOD);
+            return publishedDiagnostics(file);
+        }
+
+        private synchronized List<Diagnostic> publishedDiagnostics(String file) {
+            return publishedDiagnostics.get(file);
+        }
+
+        private synchronized List<String> publishedFiles() {
+            return new ArrayList<>(publishedFiles);
+        }
+
+        private synchronized void clear() {
+            publishedFiles.clear();
+            publishedDiagnostics.clear();
+        }
+    }
+
     @AfterClass
     public void cleanupLanguageServer() {
         TestUtil.shutdownLanguageServer(this.serviceEndpoint);
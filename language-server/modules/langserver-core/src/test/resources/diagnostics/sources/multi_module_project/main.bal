@@ -0,0 +1,5 @@
+import multi_module_project.b;
+
+public function main() {
+    _ = b:getValue();
+}
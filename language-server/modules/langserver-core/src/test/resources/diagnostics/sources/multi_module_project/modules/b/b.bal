@@ -0,0 +1,5 @@
+import multi_module_project.a;
+
+public function getValue() returns int {
+    return a:getValue();
+}
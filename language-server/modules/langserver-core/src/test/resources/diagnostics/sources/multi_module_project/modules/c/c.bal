@@ -0,0 +1,3 @@
+public function getName() returns string {
+    return 1;
+}
@@ -46,6 +46,7 @@ public class VariableUtils {
     public static final String FIELD_PKG_ORG = "org";
     public static final String FIELD_PKG_NAME = "name";
     private static final String FIELD_CONSTRAINT = "constraint";
+    private static final String FIELD_FLATTENED = "flattened";
     private static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
     private static final String LAMBDA_PARAM_MAP_PATTERN = "\\$.*[Mm][Aa][Pp].*\\$.*";
@@ -143,6 +144,11 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.CONCAT_STRING.getString())) {
+                // Strings created by concatenation only hold their characters once they are flattened.
+                Optional<Value> flattened = getFieldValue(stringRef, FIELD_FLATTENED);
+                return flattened.isPresent() ? getStringFrom(flattened.get()) : UNKNOWN_VALUE;
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMP_STRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NON_BMP_STRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
@@ -17,9 +17,15 @@
  */
 package io.ballerina.projects.test;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -32,15 +38,25 @@ import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.repos.FileSystemCache;
 import io.ballerina.projects.util.ProjectConstants;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.LinePosition;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -52,7 +68,7 @@ import static io.ballerina.projects.util.ProjectUtils.getThinJarFileName;
  *
  * @since 2.0.0
  */
-public class TestBirAndJarCache {
+public class TestBirAndJarCache extends BaseTest {
     private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
 
     @Test(description = "tests writing of the BIR and Jar files")
@@ -83,7 +99,7 @@ public class TestBirAndJarCache {
         TestCompilationCache testCompilationCache = testCompCacheFactory.compilationCache();
         Assert.assertEquals(testCompilationCache.birCachedCount, 0);
         // numOfModules * 2 : This includes testable jars as well
-        Assert.assertEquals(testCompilationCache.jarCachedCount, numOfModules * 2);
+        Assert.assertEquals(testCompilationCache.jarCachedCount.get(), numOfModules * 2);
 
         Stream<Path> pathStream = Files.find(cacheDirPath, 100,
                 (path, fileAttributes) -> !Files.isDirectory(path) &&
@@ -103,6 +119,114 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests that the jars written in parallel are the same as the jars written sequentially")
+    public void testParallelAndSequentialJarsAreIdentical() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balawriter").resolve("projectOne");
+        Map<String, byte[]> sequentialJars = generateJars(projectPath, 1);
+        Map<String, byte[]> parallelJars = generateJars(projectPath, 4);
+
+        Assert.assertFalse(sequentialJars.isEmpty());
+        Assert.assertEquals(parallelJars.keySet(), sequentialJars.keySet());
+        for (Map.Entry<String, byte[]> sequentialJar : sequentialJars.entrySet()) {
+            String jarName = sequentialJar.getKey();
+            assertSameJarContent(parallelJars.get(jarName), sequentialJar.getValue(), jarName);
+        }
+    }
+
+    @Test(description = "tests that the cached BIR of dependencies decoded in parallel gives the same symbols as " +
+            "the cached BIR decoded sequentially")
+    public void testParallelAndSequentialBirDecodingAreIdentical() {
+        // package_a depends on package_b, which depends on package_c
+        Path projectPath = RESOURCE_DIRECTORY.resolve("projects_for_resolution_tests").resolve("package_a");
+        // Generating the code of the dependencies caches their BIR, hence they are loaded from the cache afterwards
+        BuildOptions buildOptions = BuildOptions.builder().setParallelism(1).build();
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+
+        Map<String, List<String>> sequentialSymbols = new TreeMap<>();
+        List<String> sequentialDiagnostics = compileWithCachedDependencies(projectPath, 1, sequentialSymbols);
+        Map<String, List<String>> parallelSymbols = new TreeMap<>();
+        List<String> parallelDiagnostics = compileWithCachedDependencies(projectPath, 4, parallelSymbols);
+
+        Assert.assertFalse(sequentialSymbols.isEmpty());
+        Assert.assertEquals(parallelSymbols, sequentialSymbols);
+        Assert.assertEquals(parallelDiagnostics, sequentialDiagnostics);
+    }
+
+    private static List<String> compileWithCachedDependencies(Path projectPath, int parallelism,
+                                                              Map<String, List<String>> moduleSymbols) {
+        BuildOptions buildOptions = BuildOptions.builder().setParallelism(parallelism).build();
+        BuildProject project = TestUtils.loadBuildProject(projectPath, buildOptions);
+        Package currentPackage = project.currentPackage();
+        PackageCompilation pkgCompilation = currentPackage.getCompilation();
+
+        // The symbols visible in a document include the modules it imports, along with the symbols decoded from
+        // their cached BIR
+        for (ModuleId moduleId : currentPackage.moduleIds()) {
+            Module module = currentPackage.module(moduleId);
+            SemanticModel semanticModel = pkgCompilation.getSemanticModel(moduleId);
+            for (DocumentId documentId : module.documentIds()) {
+                List<String> symbols = new ArrayList<>();
+                for (Symbol symbol : semanticModel.visibleSymbols(module.document(documentId),
+                        LinePosition.from(0, 0))) {
+                    symbols.add(describe(symbol));
+                    if (symbol instanceof ModuleSymbol) {
+                        ((ModuleSymbol) symbol).allSymbols().forEach(moduleSymbol -> symbols.add(
+                                symbol.getName().orElse("") + ":" + describe(moduleSymbol)));
+                    }
+                }
+                symbols.sort(String::compareTo);
+                moduleSymbols.put(module.moduleName() + "/" + module.document(documentId).name(), symbols);
+            }
+        }
+
+        List<String> diagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : pkgCompilation.diagnosticResult().diagnostics()) {
+            diagnostics.add(diagnostic.toString());
+        }
+        return diagnostics;
+    }
+
+    private static String describe(Symbol symbol) {
+        String description = symbol.kind() + " " + symbol.getName().orElse("");
+        if (symbol instanceof FunctionSymbol) {
+            description += " " + ((FunctionSymbol) symbol).typeDescriptor().signature();
+        }
+        return description;
+    }
+
+    private static Map<String, byte[]> generateJars(Path projectPath, int parallelism) throws IOException {
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+        TestCompilationCacheFactory testCompCacheFactory = new TestCompilationCacheFactory(cacheDirPath);
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(testCompCacheFactory);
+        BuildOptions buildOptions = BuildOptions.builder().setSkipTests(false).setParallelism(parallelism).build();
+        BuildProject project = TestUtils.loadBuildProject(environmentBuilder, projectPath, buildOptions);
+
+        PackageCompilation pkgCompilation = project.currentPackage().getCompilation();
+        JBallerinaBackend.from(pkgCompilation, JvmTarget.JAVA_11);
+        return testCompCacheFactory.compilationCache().cachedJars;
+    }
+
+    private static void assertSameJarContent(byte[] actualJar, byte[] expectedJar, String jarName)
+            throws IOException {
+        // Entries are timestamped when written, hence the manifest and the entries are compared instead of the
+        // whole jar. The entries have to be written in the same order, with the same content.
+        try (JarInputStream actual = new JarInputStream(new ByteArrayInputStream(actualJar));
+             JarInputStream expected = new JarInputStream(new ByteArrayInputStream(expectedJar))) {
+            Assert.assertEquals(actual.getManifest(), expected.getManifest(), jarName);
+            JarEntry expectedEntry;
+            while ((expectedEntry = expected.getNextJarEntry()) != null) {
+                JarEntry actualEntry = actual.getNextJarEntry();
+                Assert.assertNotNull(actualEntry, jarName + " is missing " + expectedEntry.getName());
+                Assert.assertEquals(actualEntry.getName(), expectedEntry.getName(), jarName);
+                Assert.assertEquals(actual.readAllBytes(), expected.readAllBytes(),
+                        jarName + " differs in " + expectedEntry.getName());
+            }
+            Assert.assertNull(actual.getNextJarEntry(), jarName + " has extra entries");
+        }
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -130,7 +254,9 @@ public class TestBirAndJarCache {
      */
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
-        public int jarCachedCount;
+        // Jars may be cached concurrently by the jar writers of the backend
+        public final AtomicInteger jarCachedCount = new AtomicInteger();
+        public final Map<String, byte[]> cachedJars = new ConcurrentHashMap<>();
 
         public TestCompilationCache(Project project, Path cacheDirPath) {
             super(project, cacheDirPath.resolve(ProjectConstants.CACHES_DIR_NAME));
@@ -147,7 +273,8 @@ public class TestBirAndJarCache {
                                                  String libraryName,
                                                  ByteArrayOutputStream libraryContent) {
             super.cachePlatformSpecificLibrary(compilerBackend, libraryName, libraryContent);
-            jarCachedCount++;
+            cachedJars.put(libraryName, libraryContent.toByteArray());
+            jarCachedCount.incrementAndGet();
         }
     }
 }
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.EmitResult;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.internal.model.Target;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.ballerina.projects.util.ProjectConstants.BUILD_CACHE_DIR_NAME;
+
+/**
+ * Contains cases to test the build cache of modules.
+ *
+ * @since 2.0.0
+ */
+public class TestBuildCache {
+    private static final Path RESOURCE_DIRECTORY = Paths.get("src/test/resources/");
+    private Path projectPath;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        projectPath = Files.createTempDirectory("b7a-build-cache-test-" + System.nanoTime());
+        FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("build_cache_project").toFile(), projectPath.toFile());
+    }
+
+    @AfterMethod
+    public void tearDown() {
+        TestUtils.deleteDirectory(projectPath.toFile());
+    }
+
+    @Test(description = "tests loading unchanged modules from the build cache")
+    public void testUnchangedModulesLoadedFromBuildCache() throws IOException {
+        PackageCompilation firstCompilation = build();
+        Assert.assertEquals(firstCompilation.buildCacheHitCount(), 0);
+        Assert.assertEquals(firstCompilation.buildCacheMissCount(), 4);
+        Assert.assertTrue(Files.isDirectory(projectPath.resolve("target").resolve(BUILD_CACHE_DIR_NAME)));
+
+        PackageCompilation secondCompilation = build();
+        Assert.assertEquals(secondCompilation.buildCacheHitCount(), 4);
+        Assert.assertEquals(secondCompilation.buildCacheMissCount(), 0);
+    }
+
+    @Test(description = "tests compiling changed modules and the modules depending on them")
+    public void testChangedModulesCompiledFromSources() throws IOException {
+        build();
+
+        Path dbFilePath = projectPath.resolve("modules").resolve("storage").resolve("db.bal");
+        Files.writeString(dbFilePath, "public function initDatabase() {\n    int _ = 20;\n}\n");
+
+        // storage, services and the default module are compiled again, utils is loaded from the cache
+        PackageCompilation compilation = build();
+        Assert.assertEquals(compilation.buildCacheHitCount(), 1);
+        Assert.assertEquals(compilation.buildCacheMissCount(), 3);
+    }
+
+    @Test(description = "tests that the semantic model of a module loaded from the build cache is not available")
+    public void testSemanticModelOfCachedModule() throws IOException {
+        build();
+
+        BuildProject project = TestUtils.loadBuildProject(projectPath,
+                BuildOptions.builder().setBuildCache(true).build());
+        new Target(project.targetDir()).clean();
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.buildCacheHitCount(), 4);
+        try {
+            compilation.getSemanticModel(project.currentPackage().getDefaultModule().moduleId());
+            Assert.fail("expected the semantic model of a cached module to be unavailable");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage().contains("loaded from the build cache"), e.getMessage());
+        }
+    }
+
+    @Test(description = "tests that the build cache is not used unless it is enabled")
+    public void testBuildCacheDisabled() {
+        BuildProject project = TestUtils.loadBuildProject(projectPath);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+        Assert.assertEquals(compilation.buildCacheHitCount(), 0);
+        Assert.assertEquals(compilation.buildCacheMissCount(), 0);
+    }
+
+    // Builds the project in the way `bal build` does, which cleans the compilation cache in the target directory
+    private PackageCompilation build() throws IOException {
+        BuildProject project = TestUtils.loadBuildProject(projectPath,
+                BuildOptions.builder().setBuildCache(true).build());
+        new Target(project.targetDir()).clean();
+
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertFalse(compilation.diagnosticResult().hasErrors());
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+
+        Path executablePath = project.targetDir().resolve("bin").resolve("myproject.jar");
+        EmitResult emitResult = jBallerinaBackend.emit(JBallerinaBackend.OutputType.EXEC, executablePath);
+        Assert.assertTrue(emitResult.successful());
+        Assert.assertTrue(Files.exists(executablePath));
+        return compilation;
+    }
+}
@@ -17,11 +17,14 @@
  */
 package io.ballerina.projects.test.plugins;
 
+import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.CodeGeneratorResult;
 import io.ballerina.projects.CodeModifierResult;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
@@ -30,9 +33,11 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.Resource;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.internal.model.Target;
 import io.ballerina.projects.test.TestUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FileUtils;
 import org.ballerinalang.test.BAssertUtil;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.CompileResult;
@@ -98,6 +103,32 @@ public class CompilerPluginTests {
                 "Unexpected number of dependencies");
     }
 
+    @Test(description = "Test that the modules analyzed by compiler plugins are not loaded from the build cache")
+    public void testCompilerPluginWithBuildCache() throws IOException {
+        Path projectDirPath = Files.createTempDirectory("b7a-plugin-build-cache-test-" + System.nanoTime());
+        try {
+            FileUtils.copyDirectory(RESOURCE_DIRECTORY.resolve("package_plugin_user_1").toFile(),
+                    projectDirPath.toFile());
+            for (int i = 0; i < 2; i++) {
+                BuildProject project = BuildProject.load(projectDirPath,
+                        BuildOptions.builder().setOffline(true).setBuildCache(true).build());
+                new Target(project.targetDir()).clean();
+                PackageCompilation compilation = project.currentPackage().getCompilation();
+                Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0,
+                        "Unexpected compilation diagnostics");
+                Assert.assertEquals(compilation.buildCacheHitCount(), 0);
+
+                // The compilation analysis tasks of the plugin may retrieve the semantic model of any module
+                Assert.assertNotNull(
+                        compilation.getSemanticModel(project.currentPackage().getDefaultModule().moduleId()));
+                JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_11);
+                Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+            }
+        } finally {
+            FileUtils.deleteDirectory(projectDirPath.toFile());
+        }
+    }
+
     @Test
     public void testCompilerPluginWithOneJavaLibDependency() {
         assertDiagnostics(loadPackage("package_plugin_user_2"));
@@ -23,10 +23,30 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public class BddMemo {
-    Bdd bddNode;
-    MemoStatus isEmpty;
+    public final Bdd bdd;
+    private MemoStatus isEmpty;
 
-    enum MemoStatus {
+    public BddMemo(Bdd bdd) {
+        this.bdd = bdd;
+        this.isEmpty = MemoStatus.NOT_SET;
+    }
+
+    public static BddMemo from(Bdd bdd) {
+        return new BddMemo(bdd);
+    }
+
+    public MemoStatus isEmpty() {
+        return this.isEmpty;
+    }
+
+    public void setIsEmpty(boolean isEmpty) {
+        this.isEmpty = isEmpty ? MemoStatus.TRUE : MemoStatus.FALSE;
+    }
+
+    /**
+     * Memoized emptiness of a BDD. {@code NOT_SET} while the emptiness is being computed.
+     */
+    public enum MemoStatus {
         NOT_SET, TRUE, FALSE;
     }
 }
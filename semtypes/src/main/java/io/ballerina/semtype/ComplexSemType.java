@@ -18,6 +18,7 @@
 package io.ballerina.semtype;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
  * ComplexSemType node.
@@ -40,6 +41,24 @@ public class ComplexSemType implements SemType {
         this.subtypeDataList = subtypeDataList;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ComplexSemType)) {
+            return false;
+        }
+        ComplexSemType that = (ComplexSemType) o;
+        return this.all.equals(that.all) && this.some.equals(that.some)
+                && Arrays.equals(this.subtypeDataList, that.subtypeDataList);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * this.all.hashCode() + this.some.hashCode()) + Arrays.hashCode(this.subtypeDataList);
+    }
+
     public static ComplexSemType createComplexSemType(int allBitset, UniformSubtype... subtypeList) {
         int some = 0;
         ArrayList<SubtypeData> dataList = new ArrayList<>();
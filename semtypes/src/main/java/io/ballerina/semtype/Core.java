@@ -0,0 +1,244 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.AllOrNothingSubtype;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
+import io.ballerina.semtype.typeops.FunctionOps;
+import io.ballerina.semtype.typeops.ListTypeRWOps;
+import io.ballerina.semtype.typeops.ListTypeRoOps;
+import io.ballerina.semtype.typeops.MappingRWOps;
+import io.ballerina.semtype.typeops.MappingRoOps;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Core operations on semtypes.
+ * <p>
+ * The operations on the subtypes of a uniform type are delegated to the {@link UniformTypeOps} of the uniform type.
+ * Only the operations of the list, mapping and function uniform types are ported so far.
+ *
+ * @since 2.0.0
+ */
+public class Core {
+
+    private static final UniformTypeOps[] OPS;
+
+    static {
+        OPS = new UniformTypeOps[UniformTypeCode.UT_COUNT];
+        OPS[UniformTypeCode.UT_LIST_RO] = new ListTypeRoOps();
+        OPS[UniformTypeCode.UT_MAPPING_RO] = new MappingRoOps();
+        OPS[UniformTypeCode.UT_FUNCTION] = new FunctionOps();
+        OPS[UniformTypeCode.UT_LIST_RW] = new ListTypeRWOps();
+        OPS[UniformTypeCode.UT_MAPPING_RW] = new MappingRWOps();
+    }
+
+    public static SemType union(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet && t2 instanceof UniformTypeBitSet) {
+            return new UniformTypeBitSet(((UniformTypeBitSet) t1).bitset | ((UniformTypeBitSet) t2).bitset);
+        }
+        int all1 = allBits(t1);
+        int all2 = allBits(t2);
+        int all = all1 | all2;
+        int some = (someBits(t1) | someBits(t2)) & ~all;
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((some & (1 << code)) == 0) {
+                continue;
+            }
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                data = data2;
+            } else if (data2 == null) {
+                data = data1;
+            } else {
+                data = ops(code).union(data1, data2);
+            }
+            if (isAllSubtype(data)) {
+                all |= 1 << code;
+            } else if (!isNothingSubtype(data)) {
+                subtypes.add(new UniformSubtype(code, data));
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType intersect(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet && t2 instanceof UniformTypeBitSet) {
+            return new UniformTypeBitSet(((UniformTypeBitSet) t1).bitset & ((UniformTypeBitSet) t2).bitset);
+        }
+        int all1 = allBits(t1);
+        int all2 = allBits(t2);
+        int all = all1 & all2;
+        int some = (someBits(t1) | all1) & (someBits(t2) | all2) & ~all;
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((some & (1 << code)) == 0) {
+                continue;
+            }
+            // A missing subtype is the whole uniform type, as the uniform type is in one of the bitsets
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                data = data2;
+            } else if (data2 == null) {
+                data = data1;
+            } else {
+                data = ops(code).intersect(data1, data2);
+            }
+            if (!isNothingSubtype(data)) {
+                subtypes.add(new UniformSubtype(code, data));
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType diff(SemType t1, SemType t2) {
+        if (t1 instanceof UniformTypeBitSet && t2 instanceof UniformTypeBitSet) {
+            return new UniformTypeBitSet(((UniformTypeBitSet) t1).bitset & ~((UniformTypeBitSet) t2).bitset);
+        }
+        int all1 = allBits(t1);
+        int all2 = allBits(t2);
+        int some2 = someBits(t2);
+        int all = all1 & ~(all2 | some2);
+        int some = (all1 | someBits(t1)) & ~all2 & ~all;
+        List<UniformSubtype> subtypes = new ArrayList<>();
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((some & (1 << code)) == 0) {
+                continue;
+            }
+            SubtypeData data1 = subtypeData(t1, code);
+            SubtypeData data2 = subtypeData(t2, code);
+            SubtypeData data;
+            if (data1 == null) {
+                // t1 has the whole uniform type
+                data = ops(code).complement(data2);
+            } else if (data2 == null) {
+                // t2 has none of the uniform type
+                data = data1;
+            } else {
+                data = ops(code).diff(data1, data2);
+            }
+            if (isAllSubtype(data)) {
+                all |= 1 << code;
+            } else if (!isNothingSubtype(data)) {
+                subtypes.add(new UniformSubtype(code, data));
+            }
+        }
+        return createSemType(all, subtypes);
+    }
+
+    public static SemType complement(SemType t) {
+        return diff(PredefinedType.TOP, t);
+    }
+
+    public static boolean isNever(SemType t) {
+        return t instanceof UniformTypeBitSet && ((UniformTypeBitSet) t).bitset == 0;
+    }
+
+    public static boolean isEmpty(TypeCheckContext tc, SemType t) {
+        if (t instanceof UniformTypeBitSet) {
+            return ((UniformTypeBitSet) t).bitset == 0;
+        }
+        ComplexSemType ct = (ComplexSemType) t;
+        if (ct.all.bitset != 0) {
+            return false;
+        }
+        int index = 0;
+        for (int code = 0; code < UniformTypeCode.UT_COUNT; code++) {
+            if ((ct.some.bitset & (1 << code)) == 0) {
+                continue;
+            }
+            if (!ops(code).isEmpty(tc, ct.subtypeDataList[index++])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isSubtype(TypeCheckContext tc, SemType t1, SemType t2) {
+        return isEmpty(tc, diff(t1, t2));
+    }
+
+    private static int allBits(SemType t) {
+        if (t instanceof UniformTypeBitSet) {
+            return ((UniformTypeBitSet) t).bitset;
+        }
+        return ((ComplexSemType) t).all.bitset;
+    }
+
+    private static int someBits(SemType t) {
+        if (t instanceof UniformTypeBitSet) {
+            return 0;
+        }
+        return ((ComplexSemType) t).some.bitset;
+    }
+
+    /**
+     * Returns the subtype of the given uniform type in a semtype, or null if the semtype has either all or none of
+     * the uniform type.
+     *
+     * @param t    semtype
+     * @param code uniform type code
+     * @return subtype data of the uniform type
+     */
+    private static SubtypeData subtypeData(SemType t, int code) {
+        if (t instanceof UniformTypeBitSet) {
+            return null;
+        }
+        ComplexSemType ct = (ComplexSemType) t;
+        int bit = 1 << code;
+        if ((ct.some.bitset & bit) == 0) {
+            return null;
+        }
+        return ct.subtypeDataList[Integer.bitCount(ct.some.bitset & (bit - 1))];
+    }
+
+    private static SemType createSemType(int all, List<UniformSubtype> subtypes) {
+        if (subtypes.isEmpty()) {
+            return new UniformTypeBitSet(all);
+        }
+        return ComplexSemType.createComplexSemType(all, subtypes.toArray(new UniformSubtype[]{}));
+    }
+
+    private static boolean isAllSubtype(SubtypeData data) {
+        if (data instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) data).isAll();
+        }
+        return data instanceof AllOrNothingSubtype && ((AllOrNothingSubtype) data).isAllSubtype();
+    }
+
+    private static boolean isNothingSubtype(SubtypeData data) {
+        if (data instanceof BddAllOrNothing) {
+            return !((BddAllOrNothing) data).isAll();
+        }
+        return data instanceof AllOrNothingSubtype && ((AllOrNothingSubtype) data).isNothingSubtype();
+    }
+
+    private static UniformTypeOps ops(int code) {
+        UniformTypeOps ops = OPS[code];
+        if (ops == null) {
+            throw new IllegalStateException("operations of uniform type " + code + " are not supported yet");
+        }
+        return ops;
+    }
+}
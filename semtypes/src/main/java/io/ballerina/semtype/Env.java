@@ -18,21 +18,30 @@
 package io.ballerina.semtype;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Env node.
+ * <p>
+ * An env is meant to be shared between the type checks of a compilation, so the atom tables are thread-safe.
+ * Atomic types are hash-consed: structurally equal atomic types are always given the same {@code TypeAtom},
+ * which lets BDDs and the memo tables compare atoms by identity.
  *
  * @since 2.0.0
  */
 public class Env {
-    private final HashMap<AtomicType, TypeAtom> atomTable;
-    private final ArrayList<ListAtomicType> recListAtoms;
-    private final ArrayList<MappingAtomicType> recMappingAtoms;
-    private final ArrayList<FunctionAtomicType> recFunctionAtoms;
+    private final Map<AtomicType, TypeAtom> atomTable;
+    private final AtomicLong nextAtomIndex;
+    private final List<ListAtomicType> recListAtoms;
+    private final List<MappingAtomicType> recMappingAtoms;
+    private final List<FunctionAtomicType> recFunctionAtoms;
 
     public Env() {
-        this.atomTable = new HashMap<>();
+        this.atomTable = new ConcurrentHashMap<>();
+        this.nextAtomIndex = new AtomicLong();
         // Set up index 0 for use by bddFixReadOnly
         this.recListAtoms = new ArrayList<>();
         this.recListAtoms.add(ListAtomicType.LIST_SUBTYPE_RO);
@@ -42,5 +51,85 @@ public class Env {
         this.recFunctionAtoms = new ArrayList<>();
     }
 
+    public TypeAtom listAtom(ListAtomicType atomicType) {
+        return typeAtom(atomicType);
+    }
+
+    public TypeAtom mappingAtom(MappingAtomicType atomicType) {
+        return typeAtom(atomicType);
+    }
+
+    public TypeAtom functionAtom(FunctionAtomicType atomicType) {
+        return typeAtom(atomicType);
+    }
+
+    private TypeAtom typeAtom(AtomicType atomicType) {
+        TypeAtom typeAtom = this.atomTable.get(atomicType);
+        if (typeAtom != null) {
+            return typeAtom;
+        }
+        return this.atomTable.computeIfAbsent(atomicType,
+                type -> TypeAtom.createTypeAtom(this.nextAtomIndex.getAndIncrement(), type));
+    }
+
+    public int atomCount() {
+        return this.atomTable.size();
+    }
+
+    public RecAtom recListAtom() {
+        return createRecAtom(this.recListAtoms);
+    }
+
+    public RecAtom recMappingAtom() {
+        return createRecAtom(this.recMappingAtoms);
+    }
+
+    public RecAtom recFunctionAtom() {
+        return createRecAtom(this.recFunctionAtoms);
+    }
+
+    public void setRecListAtomType(RecAtom ra, ListAtomicType atomicType) {
+        setRecAtomType(this.recListAtoms, ra, atomicType);
+    }
+
+    public void setRecMappingAtomType(RecAtom ra, MappingAtomicType atomicType) {
+        setRecAtomType(this.recMappingAtoms, ra, atomicType);
+    }
+
+    public void setRecFunctionAtomType(RecAtom ra, FunctionAtomicType atomicType) {
+        setRecAtomType(this.recFunctionAtoms, ra, atomicType);
+    }
+
+    public ListAtomicType getRecListAtomType(RecAtom ra) {
+        return getRecAtomType(this.recListAtoms, ra);
+    }
+
+    public MappingAtomicType getRecMappingAtomType(RecAtom ra) {
+        return getRecAtomType(this.recMappingAtoms, ra);
+    }
+
+    public FunctionAtomicType getRecFunctionAtomType(RecAtom ra) {
+        return getRecAtomType(this.recFunctionAtoms, ra);
+    }
+
+    private static <T extends AtomicType> RecAtom createRecAtom(List<T> recAtoms) {
+        synchronized (recAtoms) {
+            int index = recAtoms.size();
+            // The atomic type is filled in once the definition is complete
+            recAtoms.add(null);
+            return RecAtom.createRecAtom(index);
+        }
+    }
+
+    private static <T extends AtomicType> void setRecAtomType(List<T> recAtoms, RecAtom ra, T atomicType) {
+        synchronized (recAtoms) {
+            recAtoms.set(ra.index, atomicType);
+        }
+    }
 
+    private static <T extends AtomicType> T getRecAtomType(List<T> recAtoms, RecAtom ra) {
+        synchronized (recAtoms) {
+            return recAtoms.get(ra.index);
+        }
+    }
 }
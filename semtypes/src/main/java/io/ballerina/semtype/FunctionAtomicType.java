@@ -17,12 +17,40 @@
  */
 package io.ballerina.semtype;
 
+import java.util.Objects;
+
 /**
  * FunctionAtomicType node.
  *
  * @since 2.0.0
  */
-public class FunctionAtomicType {
-    SemType paramType;
-    SemType retType;
+public class FunctionAtomicType implements AtomicType {
+    public final SemType paramType;
+    public final SemType retType;
+
+    public FunctionAtomicType(SemType paramType, SemType retType) {
+        this.paramType = paramType;
+        this.retType = retType;
+    }
+
+    public static FunctionAtomicType from(SemType paramType, SemType retType) {
+        return new FunctionAtomicType(paramType, retType);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FunctionAtomicType)) {
+            return false;
+        }
+        FunctionAtomicType that = (FunctionAtomicType) o;
+        return Objects.equals(this.paramType, that.paramType) && Objects.equals(this.retType, that.retType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.paramType, this.retType);
+    }
 }
@@ -18,6 +18,7 @@
 package io.ballerina.semtype;
 
 import java.util.ArrayList;
+import java.util.Objects;
 
 /**
  * ListAtomicType node.
@@ -25,8 +26,8 @@ import java.util.ArrayList;
  * @since 2.0.0
  */
 public class ListAtomicType implements AtomicType {
-    final ArrayList<SemType> members;
-    final SemType rest;
+    public final ArrayList<SemType> members;
+    public final SemType rest;
 
     public static final ListAtomicType LIST_SUBTYPE_RO = new ListAtomicType(new ArrayList<>(), PredefinedType.READONLY);
 
@@ -34,4 +35,21 @@ public class ListAtomicType implements AtomicType {
         this.members = members;
         this.rest = rest;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ListAtomicType)) {
+            return false;
+        }
+        ListAtomicType that = (ListAtomicType) o;
+        return this.members.equals(that.members) && Objects.equals(this.rest, that.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.members, this.rest);
+    }
 }
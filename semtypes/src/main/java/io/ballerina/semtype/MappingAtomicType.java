@@ -17,10 +17,45 @@
  */
 package io.ballerina.semtype;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 /**
  * MappingAtomicType node.
  *
  * @since 2.0.0
  */
 public class MappingAtomicType implements AtomicType {
+    // sorted
+    public final String[] names;
+    public final SemType[] types;
+    public final SemType rest;
+
+    public MappingAtomicType(String[] names, SemType[] types, SemType rest) {
+        this.names = Arrays.copyOf(names, names.length);
+        this.types = Arrays.copyOf(types, types.length);
+        this.rest = rest;
+    }
+
+    public static MappingAtomicType from(String[] names, SemType[] types, SemType rest) {
+        return new MappingAtomicType(names, types, rest);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MappingAtomicType)) {
+            return false;
+        }
+        MappingAtomicType that = (MappingAtomicType) o;
+        return Arrays.equals(this.names, that.names) && Arrays.equals(this.types, that.types)
+                && Objects.equals(this.rest, that.rest);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(this.names) + Arrays.hashCode(this.types)) + Objects.hashCode(this.rest);
+    }
 }
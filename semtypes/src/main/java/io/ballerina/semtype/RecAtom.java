@@ -23,7 +23,7 @@ package io.ballerina.semtype;
  * @since 2.0.0
  */
 public class RecAtom implements Atom {
-    int index;
+    public final int index;
 
     public RecAtom(int index) {
         this.index = index;
@@ -32,4 +32,20 @@ public class RecAtom implements Atom {
     public static RecAtom createRecAtom(int index) {
         return new RecAtom(index);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecAtom)) {
+            return false;
+        }
+        return this.index == ((RecAtom) o).index;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.index;
+    }
 }
@@ -17,42 +17,64 @@
  */
 package io.ballerina.semtype;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * TypeCheckContext node.
+ * <p>
+ * A context is used by a single type check at a time. It memoizes the emptiness of the BDDs seen so far,
+ * so that a BDD shared by many types (or reached again through a recursive type) is evaluated only once.
  *
  * @since 2.0.0
  */
 public class TypeCheckContext {
     private final Env env;
-    // todo: Normal hash tables should do here
-    //    BddMemoTable listMemo = table [];
-    //    BddMemoTable mappingMemo = table [];
-    //    BddMemoTable functionMemo = table [];
+    private final Map<Bdd, BddMemo> listMemo = new HashMap<>();
+    private final Map<Bdd, BddMemo> mappingMemo = new HashMap<>();
+    private final Map<Bdd, BddMemo> functionMemo = new HashMap<>();
 
     public TypeCheckContext(Env env) {
         this.env = env;
     }
 
+    public Env env() {
+        return this.env;
+    }
+
+    public Map<Bdd, BddMemo> listMemo() {
+        return this.listMemo;
+    }
 
-//    function listAtomType(Atom atom) returns ListAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecListAtomType(atom);
-//        }
-//        else {
-//            return <ListAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function mappingAtomType(Atom atom) returns MappingAtomicType {
-//        if atom is RecAtom {
-//            return self.env.getRecMappingAtomType(atom);
-//        }
-//        else {
-//            return <MappingAtomicType>atom.atomicType;
-//        }
-//    }
-//
-//    function functionAtomType(Atom atom) returns FunctionAtomicType {
-//        return self.env.getRecFunctionAtomType(<RecAtom>atom);
-//    }
+    public Map<Bdd, BddMemo> mappingMemo() {
+        return this.mappingMemo;
+    }
+
+    public Map<Bdd, BddMemo> functionMemo() {
+        return this.functionMemo;
+    }
+
+    public ListAtomicType listAtomType(Atom atom) {
+        if (atom instanceof RecAtom) {
+            return this.env.getRecListAtomType((RecAtom) atom);
+        } else {
+            return (ListAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
+
+    public MappingAtomicType mappingAtomType(Atom atom) {
+        if (atom instanceof RecAtom) {
+            return this.env.getRecMappingAtomType((RecAtom) atom);
+        } else {
+            return (MappingAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
+
+    public FunctionAtomicType functionAtomType(Atom atom) {
+        if (atom instanceof RecAtom) {
+            return this.env.getRecFunctionAtomType((RecAtom) atom);
+        } else {
+            return (FunctionAtomicType) ((TypeAtom) atom).atomicType;
+        }
+    }
 }
@@ -28,4 +28,20 @@ public class UniformTypeBitSet implements SemType {
     public UniformTypeBitSet(int bitset) {
         this.bitset = bitset;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UniformTypeBitSet)) {
+            return false;
+        }
+        return this.bitset == ((UniformTypeBitSet) o).bitset;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.bitset;
+    }
 }
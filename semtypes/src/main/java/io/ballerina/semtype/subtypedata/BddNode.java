@@ -26,8 +26,40 @@ import io.ballerina.semtype.Bdd;
  * @since 2.0.0
  */
 public class BddNode implements Bdd {
-    Atom atom;
-    BddNode left;
-    BddNode middle;
-    BddNode right;
+    public final Atom atom;
+    public final Bdd left;
+    public final Bdd middle;
+    public final Bdd right;
+    // BDDs are used as memo table keys, so the structural hash is computed once
+    private final int hash;
+
+    private BddNode(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        this.atom = atom;
+        this.left = left;
+        this.middle = middle;
+        this.right = right;
+        this.hash = 31 * (31 * (31 * atom.hashCode() + left.hashCode()) + middle.hashCode()) + right.hashCode();
+    }
+
+    public static BddNode create(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        return new BddNode(atom, left, middle, right);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BddNode)) {
+            return false;
+        }
+        BddNode that = (BddNode) o;
+        return this.hash == that.hash && this.atom.equals(that.atom) && this.left.equals(that.left)
+                && this.middle.equals(that.middle) && this.right.equals(that.right);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
 }
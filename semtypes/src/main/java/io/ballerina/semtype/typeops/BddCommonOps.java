@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype.typeops;
+
+import io.ballerina.semtype.Atom;
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.BddMemo;
+import io.ballerina.semtype.BddPredicate;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.RecAtom;
+import io.ballerina.semtype.TypeAtom;
+import io.ballerina.semtype.TypeCheckContext;
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
+import io.ballerina.semtype.subtypedata.BddNode;
+
+import java.util.Map;
+
+/**
+ * Operations on BDDs, shared by the uniform types represented as BDDs (lists, mappings and functions).
+ *
+ * @since 2.0.0
+ */
+public class BddCommonOps {
+
+    public static BddNode bddAtom(Atom atom) {
+        return BddNode.create(atom, BddAllOrNothing.bddAll(), BddAllOrNothing.bddNothing(),
+                BddAllOrNothing.bddNothing());
+    }
+
+    public static Bdd bddUnion(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? BddAllOrNothing.bddAll() : b2;
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? BddAllOrNothing.bddAll() : b1;
+        } else {
+            BddNode n1 = (BddNode) b1;
+            BddNode n2 = (BddNode) b2;
+            long cmp = atomCmp(n1.atom, n2.atom);
+            if (cmp < 0L) {
+                return bddCreate(n1.atom, n1.left, bddUnion(n1.middle, b2), n1.right);
+            } else if (cmp > 0L) {
+                return bddCreate(n2.atom, n2.left, bddUnion(b1, n2.middle), n2.right);
+            } else {
+                return bddCreate(n1.atom, bddUnion(n1.left, n2.left), bddUnion(n1.middle, n2.middle),
+                        bddUnion(n1.right, n2.right));
+            }
+        }
+    }
+
+    public static Bdd bddIntersect(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? b2 : BddAllOrNothing.bddNothing();
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? b1 : BddAllOrNothing.bddNothing();
+        } else {
+            BddNode n1 = (BddNode) b1;
+            BddNode n2 = (BddNode) b2;
+            long cmp = atomCmp(n1.atom, n2.atom);
+            if (cmp < 0L) {
+                return bddCreate(n1.atom, bddIntersect(n1.left, b2), bddIntersect(n1.middle, b2),
+                        bddIntersect(n1.right, b2));
+            } else if (cmp > 0L) {
+                return bddCreate(n2.atom, bddIntersect(b1, n2.left), bddIntersect(b1, n2.middle),
+                        bddIntersect(b1, n2.right));
+            } else {
+                return bddCreate(n1.atom,
+                        bddIntersect(bddUnion(n1.left, n1.middle), bddUnion(n2.left, n2.middle)),
+                        BddAllOrNothing.bddNothing(),
+                        bddIntersect(bddUnion(n1.right, n1.middle), bddUnion(n2.right, n2.middle)));
+            }
+        }
+    }
+
+    public static Bdd bddDiff(Bdd b1, Bdd b2) {
+        if (b1 == b2) {
+            return BddAllOrNothing.bddNothing();
+        } else if (b2 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b2).isAll() ? BddAllOrNothing.bddNothing() : b1;
+        } else if (b1 instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b1).isAll() ? bddComplement(b2) : BddAllOrNothing.bddNothing();
+        } else {
+            BddNode n1 = (BddNode) b1;
+            BddNode n2 = (BddNode) b2;
+            long cmp = atomCmp(n1.atom, n2.atom);
+            if (cmp < 0L) {
+                return bddCreate(n1.atom, bddDiff(bddUnion(n1.left, n1.middle), b2), BddAllOrNothing.bddNothing(),
+                        bddDiff(bddUnion(n1.right, n1.middle), b2));
+            } else if (cmp > 0L) {
+                return bddCreate(n2.atom, bddDiff(b1, bddUnion(n2.left, n2.middle)), BddAllOrNothing.bddNothing(),
+                        bddDiff(b1, bddUnion(n2.right, n2.middle)));
+            } else {
+                // The union needs to be materialized here, the formula in the Castagna paper
+                // does not work in a case like (a0|a1) - a0.
+                return bddCreate(n1.atom,
+                        bddDiff(bddUnion(n1.left, n1.middle), bddUnion(n2.left, n2.middle)),
+                        BddAllOrNothing.bddNothing(),
+                        bddDiff(bddUnion(n1.right, n1.middle), bddUnion(n2.right, n2.middle)));
+            }
+        }
+    }
+
+    public static Bdd bddComplement(Bdd b) {
+        if (b instanceof BddAllOrNothing) {
+            return ((BddAllOrNothing) b).complement();
+        }
+        return bddNodeComplement((BddNode) b);
+    }
+
+    private static Bdd bddNodeComplement(BddNode b) {
+        BddAllOrNothing bddNothing = BddAllOrNothing.bddNothing();
+        if (b.right == bddNothing) {
+            return bddCreate(b.atom, bddNothing, bddComplement(bddUnion(b.left, b.middle)),
+                    bddComplement(b.middle));
+        } else if (b.left == bddNothing) {
+            return bddCreate(b.atom, bddComplement(b.middle), bddComplement(bddUnion(b.right, b.middle)),
+                    bddNothing);
+        } else if (b.middle == bddNothing) {
+            return bddCreate(b.atom, bddComplement(b.left), bddComplement(bddUnion(b.left, b.right)),
+                    bddComplement(b.right));
+        } else {
+            // The Frisch PhD thesis has left and right swapped in this formula.
+            return bddCreate(b.atom, bddComplement(bddUnion(b.left, b.middle)), bddNothing,
+                    bddComplement(bddUnion(b.right, b.middle)));
+        }
+    }
+
+    private static Bdd bddCreate(Atom atom, Bdd left, Bdd middle, Bdd right) {
+        if (middle == BddAllOrNothing.bddAll()) {
+            return middle;
+        }
+        if (left == BddAllOrNothing.bddNothing() && right == BddAllOrNothing.bddNothing()) {
+            return middle;
+        }
+        return BddNode.create(atom, left, middle, right);
+    }
+
+    // order RecAtom < TypeAtom
+    private static long atomCmp(Atom a1, Atom a2) {
+        if (a1 instanceof RecAtom) {
+            if (a2 instanceof RecAtom) {
+                return (long) ((RecAtom) a1).index - ((RecAtom) a2).index;
+            } else {
+                return -1L;
+            }
+        } else if (a2 instanceof RecAtom) {
+            return 1L;
+        } else {
+            // Type atoms are hash-consed by the env, so equal atomic types have the same index
+            return ((TypeAtom) a1).index - ((TypeAtom) a2).index;
+        }
+    }
+
+    /**
+     * Checks whether the predicate holds for every path of the BDD that ends in the all leaf.
+     *
+     * @param tc        type check context
+     * @param b         BDD to check
+     * @param pos       positive atoms of the path so far
+     * @param neg       negative atoms of the path so far
+     * @param predicate predicate to check on each path
+     * @return true if the predicate holds for all the paths
+     */
+    public static boolean bddEvery(TypeCheckContext tc, Bdd b, Conjunction pos, Conjunction neg,
+                                   BddPredicate predicate) {
+        if (b instanceof BddAllOrNothing) {
+            return !((BddAllOrNothing) b).isAll() || predicate.apply(tc, pos, neg);
+        }
+        BddNode bn = (BddNode) b;
+        return bddEvery(tc, bn.left, Conjunction.and(bn.atom, pos), neg, predicate)
+                && bddEvery(tc, bn.middle, pos, neg, predicate)
+                && bddEvery(tc, bn.right, pos, Conjunction.and(bn.atom, neg), predicate);
+    }
+
+    /**
+     * Checks whether the subtype represented by the BDD is empty, remembering the result in the given memo table.
+     * A BDD which is reached again while its own emptiness is being computed belongs to a recursive type, and is
+     * assumed to be empty.
+     *
+     * @param memoTable      memo table of the uniform type, taken from the type check context
+     * @param tc             type check context
+     * @param b              BDD to check
+     * @param formulaIsEmpty checks whether the intersection of the atoms of a path is empty
+     * @return true if the subtype is empty
+     */
+    public static boolean memoSubtypeIsEmpty(Map<Bdd, BddMemo> memoTable, TypeCheckContext tc, Bdd b,
+                                             BddPredicate formulaIsEmpty) {
+        BddMemo memo = memoTable.get(b);
+        if (memo != null) {
+            switch (memo.isEmpty()) {
+                case TRUE:
+                    return true;
+                case FALSE:
+                    return false;
+                default:
+                    // we've got a loop
+                    return true;
+            }
+        }
+        memo = BddMemo.from(b);
+        memoTable.put(b, memo);
+        boolean isEmpty;
+        try {
+            isEmpty = bddEvery(tc, b, null, null, formulaIsEmpty);
+        } catch (RuntimeException | Error e) {
+            // Do not leave an unfinished memo behind, it would be taken as a loop by later checks
+            memoTable.remove(b);
+            throw e;
+        }
+        memo.setIsEmpty(isEmpty);
+        return isEmpty;
+    }
+}
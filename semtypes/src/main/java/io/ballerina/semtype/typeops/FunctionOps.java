@@ -17,6 +17,12 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.FunctionAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
@@ -29,6 +35,61 @@ import io.ballerina.semtype.UniformTypeOps;
 public class FunctionOps extends CommonOps implements UniformTypeOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc.functionMemo(), tc, (Bdd) t, FunctionOps::functionFormulaIsEmpty);
+    }
+
+    private static boolean functionFormulaIsEmpty(TypeCheckContext tc, Conjunction pos, Conjunction neg) {
+        return functionPathIsEmpty(tc, functionUnionParams(tc, pos), pos, neg);
+    }
+
+    /**
+     * Checks whether the intersection of the positive function types is a subtype of one of the negative function
+     * types. A function type {@code t0 -> t1} is a supertype of the intersection if it accepts no more parameters than
+     * the intersection, and its return type contains every return of the intersection for those parameters.
+     *
+     * @param tc     type check context
+     * @param params union of the parameter types of the positive function types
+     * @param pos    positive function types
+     * @param neg    negative function types
+     * @return true if the intersection is a subtype of a negative function type
+     */
+    private static boolean functionPathIsEmpty(TypeCheckContext tc, SemType params, Conjunction pos,
+                                               Conjunction neg) {
+        if (neg == null) {
+            return false;
+        }
+        FunctionAtomicType t = tc.functionAtomType(neg.atom);
+        return (Core.isSubtype(tc, t.paramType, params)
+                && functionPhi(tc, t.paramType, Core.complement(t.retType), pos))
+                || functionPathIsEmpty(tc, params, pos, neg.next);
+    }
+
+    /**
+     * This is formula Phi in section 7.3.2 of Alain Frisch's PhD thesis. It holds if for every parameter in
+     * {@code t0}, a function in the intersection of the positive function types cannot return a value in {@code t1}.
+     *
+     * @param tc  type check context
+     * @param t0  parameter type
+     * @param t1  return type
+     * @param pos positive function types
+     * @return true if the formula holds
+     */
+    private static boolean functionPhi(TypeCheckContext tc, SemType t0, SemType t1, Conjunction pos) {
+        if (pos == null) {
+            return Core.isEmpty(tc, t0) || Core.isEmpty(tc, t1);
+        }
+        FunctionAtomicType s = tc.functionAtomType(pos.atom);
+        return Core.isEmpty(tc, t0)
+                || Core.isEmpty(tc, t1)
+                || ((Core.isSubtype(tc, t0, s.paramType) || functionPhi(tc, Core.diff(t0, s.paramType), t1, pos.next))
+                && functionPhi(tc, t0, Core.intersect(t1, s.retType), pos.next));
+    }
+
+    private static SemType functionUnionParams(TypeCheckContext tc, Conjunction pos) {
+        SemType params = PredefinedType.NEVER;
+        for (Conjunction p = pos; p != null; p = p.next) {
+            params = Core.union(params, tc.functionAtomType(p.atom).paramType);
+        }
+        return params;
     }
 }
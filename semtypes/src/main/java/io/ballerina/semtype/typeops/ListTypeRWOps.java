@@ -17,10 +17,19 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.ListAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * List read/write specific methods operate on SubtypeData.
  *
@@ -29,6 +38,128 @@ import io.ballerina.semtype.UniformTypeOps;
 public class ListTypeRWOps extends CommonOps implements UniformTypeOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc.listMemo(), tc, (Bdd) t, ListTypeRWOps::listFormulaIsEmpty);
+    }
+
+    static boolean listFormulaIsEmpty(TypeCheckContext tc, Conjunction pos, Conjunction neg) {
+        List<SemType> members;
+        SemType rest;
+        if (pos == null) {
+            members = new ArrayList<>();
+            rest = PredefinedType.TOP;
+        } else {
+            // combine all the positive tuples using intersection
+            ListAtomicType lt = tc.listAtomType(pos.atom);
+            members = new ArrayList<>(lt.members);
+            rest = lt.rest;
+            for (Conjunction p = pos.next; p != null; p = p.next) {
+                lt = tc.listAtomType(p.atom);
+                int newLen = Math.max(members.size(), lt.members.size());
+                if (members.size() < newLen) {
+                    if (Core.isNever(rest)) {
+                        return true;
+                    }
+                    for (int i = members.size(); i < newLen; i++) {
+                        members.add(rest);
+                    }
+                }
+                for (int i = 0; i < lt.members.size(); i++) {
+                    members.set(i, Core.intersect(members.get(i), lt.members.get(i)));
+                }
+                if (lt.members.size() < newLen) {
+                    if (Core.isNever(lt.rest)) {
+                        return true;
+                    }
+                    for (int i = lt.members.size(); i < newLen; i++) {
+                        members.set(i, Core.intersect(members.get(i), lt.rest));
+                    }
+                }
+                rest = Core.intersect(rest, lt.rest);
+            }
+            for (SemType m : members) {
+                if (Core.isEmpty(tc, m)) {
+                    return true;
+                }
+            }
+        }
+        return !listInhabited(tc, members, rest, neg);
+    }
+
+    /**
+     * Checks whether there is a list shape which is in the list type described by the given members and rest, and is
+     * not in any of the negated list types. Each of the members must be non-empty.
+     * <p>
+     * This is formula Phi' in section 7.3.1 of Alain Frisch's PhD thesis, generalized to tuples of arbitrary length.
+     *
+     * @param tc      type check context
+     * @param members member types of the list type
+     * @param rest    rest type of the list type
+     * @param neg     negated list types
+     * @return true if there is such a list shape
+     */
+    private static boolean listInhabited(TypeCheckContext tc, List<SemType> members, SemType rest, Conjunction neg) {
+        if (neg == null) {
+            return true;
+        }
+        int len = members.size();
+        ListAtomicType nt = tc.listAtomType(neg.atom);
+        int negLen = nt.members.size();
+        if (len < negLen) {
+            if (Core.isNever(rest)) {
+                return listInhabited(tc, members, rest, neg.next);
+            }
+            // Lists which are shorter than the members of the negated list type are not in it
+            List<SemType> s = new ArrayList<>(members);
+            for (int i = len; i < negLen; i++) {
+                if (listInhabited(tc, s, PredefinedType.NEVER, neg.next)) {
+                    return true;
+                }
+                s.add(rest);
+            }
+            members = s;
+            len = negLen;
+        } else if (negLen < len && Core.isNever(nt.rest)) {
+            return listInhabited(tc, members, rest, neg.next);
+        }
+        // now we have negLen <= len
+
+        // For a list not to be in the negated list type, one of its members must not be in the corresponding member
+        // type of the negated list type, and the list must not be in the remaining negated list types either
+        for (int i = 0; i < len; i++) {
+            SemType ntm = i < negLen ? nt.members.get(i) : nt.rest;
+            SemType d = Core.diff(members.get(i), ntm);
+            if (!Core.isEmpty(tc, d)) {
+                List<SemType> s = new ArrayList<>(members);
+                s.set(i, d);
+                if (listInhabited(tc, s, rest, neg.next)) {
+                    return true;
+                }
+            }
+        }
+        // The member may also be one of the rest members. Beyond the members of all the remaining negated list types,
+        // each position is the same, so only the positions up to there need to be tried.
+        SemType d = Core.diff(rest, nt.rest);
+        if (Core.isEmpty(tc, d)) {
+            return false;
+        }
+        int maxLen = Math.max(len, maxMemberCount(tc, neg.next));
+        List<SemType> s = new ArrayList<>(members);
+        for (int i = len; i <= maxLen; i++) {
+            List<SemType> t = new ArrayList<>(s);
+            t.add(d);
+            if (listInhabited(tc, t, rest, neg.next)) {
+                return true;
+            }
+            s.add(rest);
+        }
+        return false;
+    }
+
+    private static int maxMemberCount(TypeCheckContext tc, Conjunction neg) {
+        int max = 0;
+        for (Conjunction n = neg; n != null; n = n.next) {
+            max = Math.max(max, tc.listAtomType(n.atom).members.size());
+        }
+        return max;
     }
 }
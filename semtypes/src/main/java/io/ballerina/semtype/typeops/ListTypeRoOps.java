@@ -17,18 +17,22 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 import io.ballerina.semtype.UniformTypeOps;
 
 /**
  * List readonly specific methods operate on SubtypeData.
+ * <p>
+ * The atoms of a read-only list subtype already describe read-only members, hence its emptiness is checked the same
+ * way as for a read/write list subtype, sharing the memo of the list subtypes.
  *
  * @since 2.0.0
  */
-public class ListTypeRoOps  extends CommonOps implements UniformTypeOps {
+public class ListTypeRoOps extends CommonOps implements UniformTypeOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc.listMemo(), tc, (Bdd) t, ListTypeRWOps::listFormulaIsEmpty);
     }
 }
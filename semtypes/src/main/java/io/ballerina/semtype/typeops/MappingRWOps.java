@@ -17,9 +17,20 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
+import io.ballerina.semtype.Conjunction;
+import io.ballerina.semtype.Core;
+import io.ballerina.semtype.MappingAtomicType;
+import io.ballerina.semtype.PredefinedType;
+import io.ballerina.semtype.SemType;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
 /**
  * Mapping read/write specific methods operate on SubtypeData.
  *
@@ -28,6 +39,121 @@ import io.ballerina.semtype.TypeCheckContext;
 public class MappingRWOps extends MappingCommonOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc.mappingMemo(), tc, (Bdd) t, MappingRWOps::mappingFormulaIsEmpty);
+    }
+
+    static boolean mappingFormulaIsEmpty(TypeCheckContext tc, Conjunction posList, Conjunction negList) {
+        MappingAtomicType combined;
+        if (posList == null) {
+            combined = MappingAtomicType.from(new String[]{}, new SemType[]{}, PredefinedType.TOP);
+        } else {
+            // combine all the positive atoms using intersection
+            combined = tc.mappingAtomType(posList.atom);
+            for (Conjunction p = posList.next; p != null; p = p.next) {
+                combined = intersectMapping(combined, tc.mappingAtomType(p.atom));
+                if (combined == null) {
+                    return true;
+                }
+            }
+            for (SemType t : combined.types) {
+                if (Core.isEmpty(tc, t)) {
+                    return true;
+                }
+            }
+        }
+        return !mappingInhabited(tc, combined, negList);
+    }
+
+    /**
+     * Checks whether there is a mapping shape which is in the given mapping type and is not in any of the negated
+     * mapping types. The field types of the mapping type must be non-empty.
+     *
+     * @param tc      type check context
+     * @param pos     mapping type
+     * @param negList negated mapping types
+     * @return true if there is such a mapping shape
+     */
+    private static boolean mappingInhabited(TypeCheckContext tc, MappingAtomicType pos, Conjunction negList) {
+        if (negList == null) {
+            return true;
+        }
+        MappingAtomicType neg = tc.mappingAtomType(negList.atom);
+        List<String> names = fieldNames(pos, neg);
+        if (!Arrays.equals(pos.names, neg.names)) {
+            // If this negative type has required fields that the positive one does not allow or vice-versa, then
+            // this negative type has no effect, so we can move on to the next one
+            if (Core.isNever(pos.rest) && Core.isNever(neg.rest)) {
+                return mappingInhabited(tc, pos, negList.next);
+            }
+            for (String name : names) {
+                if (Core.isNever(fieldType(pos, name)) || Core.isNever(fieldType(neg, name))) {
+                    return mappingInhabited(tc, pos, negList.next);
+                }
+            }
+        }
+
+        // A mapping with a field which is in neither of the types, and a value which is not in the rest type of the
+        // negative type is not in the negative type. This does not check the remaining negative types, so it may
+        // find a type to be non-empty when it is empty, but never the other way round.
+        if (!Core.isEmpty(tc, Core.diff(pos.rest, neg.rest))) {
+            return true;
+        }
+        for (String name : names) {
+            SemType d = Core.diff(fieldType(pos, name), fieldType(neg, name));
+            if (!Core.isEmpty(tc, d) && mappingInhabited(tc, withField(pos, name, d), negList.next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MappingAtomicType intersectMapping(MappingAtomicType m1, MappingAtomicType m2) {
+        List<String> names = fieldNames(m1, m2);
+        SemType[] types = new SemType[names.size()];
+        for (int i = 0; i < types.length; i++) {
+            SemType t = Core.intersect(fieldType(m1, names.get(i)), fieldType(m2, names.get(i)));
+            if (Core.isNever(t)) {
+                return null;
+            }
+            types[i] = t;
+        }
+        return MappingAtomicType.from(names.toArray(new String[]{}), types, Core.intersect(m1.rest, m2.rest));
+    }
+
+    private static List<String> fieldNames(MappingAtomicType m1, MappingAtomicType m2) {
+        TreeSet<String> names = new TreeSet<>(Arrays.asList(m1.names));
+        names.addAll(Arrays.asList(m2.names));
+        return new ArrayList<>(names);
+    }
+
+    private static SemType fieldType(MappingAtomicType m, String name) {
+        int i = Arrays.asList(m.names).indexOf(name);
+        return i < 0 ? m.rest : m.types[i];
+    }
+
+    /**
+     * Returns a mapping type with the given field type, which is either added as a required field, or replaces the
+     * type of an existing field. The field names are kept sorted.
+     *
+     * @param m    mapping type
+     * @param name name of the field
+     * @param type type of the field
+     * @return mapping type with the field
+     */
+    private static MappingAtomicType withField(MappingAtomicType m, String name, SemType type) {
+        List<String> names = new ArrayList<>(Arrays.asList(m.names));
+        List<SemType> types = new ArrayList<>(Arrays.asList(m.types));
+        int i = names.indexOf(name);
+        if (i < 0) {
+            i = 0;
+            while (i < names.size() && names.get(i).compareTo(name) < 0) {
+                i++;
+            }
+            names.add(i, name);
+            types.add(i, type);
+        } else {
+            types.set(i, type);
+        }
+        return MappingAtomicType.from(names.toArray(new String[]{}), types.toArray(new SemType[]{}), m.rest);
     }
 }
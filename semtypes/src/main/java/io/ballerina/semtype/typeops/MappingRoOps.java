@@ -17,17 +17,21 @@
  */
 package io.ballerina.semtype.typeops;
 
+import io.ballerina.semtype.Bdd;
 import io.ballerina.semtype.SubtypeData;
 import io.ballerina.semtype.TypeCheckContext;
 
 /**
  * Mapping readonly specific methods operate on SubtypeData.
+ * <p>
+ * The atoms of a read-only mapping subtype already describe read-only fields, hence its emptiness is checked the same
+ * way as for a read/write mapping subtype, sharing the memo of the mapping subtypes.
  *
  * @since 2.0.0
  */
 public class MappingRoOps extends MappingCommonOps {
     @Override
     public boolean isEmpty(TypeCheckContext tc, SubtypeData t) {
-        throw new AssertionError();
+        return BddCommonOps.memoSubtypeIsEmpty(tc.mappingMemo(), tc, (Bdd) t, MappingRWOps::mappingFormulaIsEmpty);
     }
 }
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.subtypedata.BddAllOrNothing;
+import io.ballerina.semtype.typeops.BddCommonOps;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests the atom table of {@link Env} and the memoized BDD operations.
+ *
+ */
+public class BddTest {
+
+    @Test
+    public void testAtomsAreHashConsed() {
+        Env env = new Env();
+        TypeAtom a1 = env.listAtom(listAtomicType(PredefinedType.INT, PredefinedType.STRING));
+        TypeAtom a2 = env.listAtom(listAtomicType(PredefinedType.INT, PredefinedType.STRING));
+        TypeAtom a3 = env.listAtom(listAtomicType(PredefinedType.STRING, PredefinedType.INT));
+        Assert.assertSame(a1, a2);
+        Assert.assertNotSame(a1, a3);
+        Assert.assertEquals(env.atomCount(), 2);
+
+        TypeAtom f1 = env.functionAtom(FunctionAtomicType.from(PredefinedType.INT, PredefinedType.NIL));
+        TypeAtom f2 = env.functionAtom(FunctionAtomicType.from(PredefinedType.INT, PredefinedType.NIL));
+        Assert.assertSame(f1, f2);
+    }
+
+    @Test
+    public void testConcurrentAtomization() throws InterruptedException, ExecutionException {
+        Env env = new Env();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<TypeAtom>>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    List<TypeAtom> atoms = new ArrayList<>();
+                    for (int i = 0; i < 1000; i++) {
+                        atoms.add(env.mappingAtom(MappingAtomicType.from(new String[]{"f" + i},
+                                new SemType[]{PredefinedType.INT}, PredefinedType.NEVER)));
+                    }
+                    return atoms;
+                }));
+            }
+            List<TypeAtom> first = results.get(0).get();
+            for (Future<List<TypeAtom>> result : results) {
+                List<TypeAtom> atoms = result.get();
+                for (int i = 0; i < atoms.size(); i++) {
+                    Assert.assertSame(atoms.get(i), first.get(i));
+                }
+            }
+            Assert.assertEquals(env.atomCount(), 1000);
+            Assert.assertEquals(first.stream().mapToLong(atom -> atom.index).distinct().count(), 1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testBddOperations() {
+        Env env = new Env();
+        Bdd a = BddCommonOps.bddAtom(env.listAtom(listAtomicType(PredefinedType.INT)));
+        Bdd b = BddCommonOps.bddAtom(env.listAtom(listAtomicType(PredefinedType.STRING)));
+
+        Assert.assertSame(BddCommonOps.bddDiff(a, a), BddAllOrNothing.bddNothing());
+        Assert.assertSame(BddCommonOps.bddIntersect(a, BddAllOrNothing.bddNothing()), BddAllOrNothing.bddNothing());
+        Assert.assertEquals(BddCommonOps.bddComplement(BddCommonOps.bddComplement(a)), a);
+        Assert.assertEquals(BddCommonOps.bddUnion(a, b), BddCommonOps.bddUnion(b, a));
+
+        // With atoms that are only empty when contradicted, a path is empty iff an atom is both positive and negative
+        TypeCheckContext tc = new TypeCheckContext(env);
+        Assert.assertTrue(isEmpty(tc, BddCommonOps.bddIntersect(a, BddCommonOps.bddComplement(a))));
+        Assert.assertTrue(isEmpty(tc, BddCommonOps.bddDiff(a, BddCommonOps.bddUnion(a, b))));
+        Assert.assertFalse(isEmpty(tc, BddCommonOps.bddDiff(BddCommonOps.bddUnion(a, b), a)));
+        Assert.assertFalse(isEmpty(tc, BddCommonOps.bddComplement(BddCommonOps.bddIntersect(a, b))));
+    }
+
+    @Test
+    public void testEmptinessIsMemoized() {
+        Env env = new Env();
+        Bdd a = BddCommonOps.bddAtom(env.listAtom(listAtomicType(PredefinedType.INT)));
+        Bdd b = BddCommonOps.bddAtom(env.listAtom(listAtomicType(PredefinedType.STRING)));
+        Bdd union = BddCommonOps.bddUnion(a, b);
+
+        TypeCheckContext tc = new TypeCheckContext(env);
+        AtomicInteger evaluations = new AtomicInteger();
+        BddPredicate nonEmpty = (context, pos, neg) -> {
+            evaluations.incrementAndGet();
+            return false;
+        };
+        Assert.assertFalse(BddCommonOps.memoSubtypeIsEmpty(tc.listMemo(), tc, union, nonEmpty));
+        int firstEvaluations = evaluations.get();
+        Assert.assertTrue(firstEvaluations > 0);
+        Assert.assertFalse(BddCommonOps.memoSubtypeIsEmpty(tc.listMemo(), tc, union, nonEmpty));
+        Assert.assertEquals(evaluations.get(), firstEvaluations);
+
+        // A BDD reached again while it is being checked is a loop, which is taken to be empty
+        BddPredicate recursive = (context, pos, neg) ->
+                BddCommonOps.memoSubtypeIsEmpty(context.mappingMemo(), context, a, (c, p, n) -> false);
+        Assert.assertTrue(BddCommonOps.memoSubtypeIsEmpty(tc.mappingMemo(), tc, a, recursive));
+        Assert.assertTrue(BddCommonOps.memoSubtypeIsEmpty(tc.mappingMemo(), tc, BddAllOrNothing.bddNothing(),
+                nonEmpty));
+    }
+
+    private static boolean isEmpty(TypeCheckContext tc, Bdd bdd) {
+        return BddCommonOps.bddEvery(tc, bdd, null, null, (context, pos, neg) -> {
+            for (Conjunction p = pos; p != null; p = p.next) {
+                for (Conjunction n = neg; n != null; n = n.next) {
+                    if (p.atom == n.atom) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+    }
+
+    private static ListAtomicType listAtomicType(SemType... members) {
+        return new ListAtomicType(new ArrayList<>(Arrays.asList(members)), PredefinedType.NEVER);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.semtype;
+
+import io.ballerina.semtype.typeops.BddCommonOps;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Tests the operations of {@link Core} on list, mapping and function types.
+ *
+ */
+public class CoreTest {
+
+    private static final SemType INT_OR_STRING = Core.union(PredefinedType.INT, PredefinedType.STRING);
+
+    @Test
+    public void testUniformTypeBitSetOperations() {
+        TypeCheckContext tc = new TypeCheckContext(new Env());
+        Assert.assertEquals(Core.diff(INT_OR_STRING, PredefinedType.INT), PredefinedType.STRING);
+        Assert.assertEquals(Core.intersect(INT_OR_STRING, PredefinedType.STRING), PredefinedType.STRING);
+        Assert.assertTrue(Core.isNever(Core.intersect(PredefinedType.INT, PredefinedType.STRING)));
+        Assert.assertTrue(Core.isSubtype(tc, PredefinedType.INT, INT_OR_STRING));
+        Assert.assertFalse(Core.isSubtype(tc, INT_OR_STRING, PredefinedType.INT));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(PredefinedType.LIST, Core.complement(PredefinedType.LIST))));
+    }
+
+    @Test
+    public void testListSubtypes() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        SemType intStringTuple = list(env, PredefinedType.NEVER, PredefinedType.INT, PredefinedType.STRING);
+        SemType wideTuple = list(env, PredefinedType.NEVER, INT_OR_STRING, PredefinedType.STRING);
+        Assert.assertFalse(Core.isEmpty(tc, intStringTuple));
+        Assert.assertTrue(Core.isSubtype(tc, intStringTuple, wideTuple));
+        Assert.assertFalse(Core.isSubtype(tc, wideTuple, intStringTuple));
+        Assert.assertTrue(Core.isSubtype(tc, intStringTuple, PredefinedType.LIST));
+
+        SemType intTuple = list(env, PredefinedType.NEVER, PredefinedType.INT);
+        SemType stringTuple = list(env, PredefinedType.NEVER, PredefinedType.STRING);
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intTuple, stringTuple)));
+        Assert.assertFalse(Core.isEmpty(tc, Core.union(intTuple, stringTuple)));
+
+        // A tuple of unions is the union of the tuples of each combination of the members
+        SemType unionTuple = list(env, PredefinedType.NEVER, INT_OR_STRING, INT_OR_STRING);
+        SemType intIntTuple = list(env, PredefinedType.NEVER, PredefinedType.INT, PredefinedType.INT);
+        SemType combinations = Core.union(
+                Core.union(intIntTuple,
+                        list(env, PredefinedType.NEVER, PredefinedType.INT, PredefinedType.STRING)),
+                Core.union(list(env, PredefinedType.NEVER, PredefinedType.STRING, PredefinedType.INT),
+                        list(env, PredefinedType.NEVER, PredefinedType.STRING, PredefinedType.STRING)));
+        Assert.assertTrue(Core.isSubtype(tc, unionTuple, combinations));
+        Assert.assertTrue(Core.isSubtype(tc, combinations, unionTuple));
+        Assert.assertFalse(Core.isSubtype(tc, unionTuple, Core.diff(combinations, intIntTuple)));
+    }
+
+    @Test
+    public void testListLengths() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        SemType intArray = list(env, PredefinedType.INT);
+        SemType nonEmptyIntArray = list(env, PredefinedType.INT, PredefinedType.INT);
+        Assert.assertTrue(Core.isSubtype(tc, nonEmptyIntArray, intArray));
+        // the empty list is not in the non-empty array
+        Assert.assertFalse(Core.isSubtype(tc, intArray, nonEmptyIntArray));
+        Assert.assertTrue(Core.isSubtype(tc, intArray, Core.union(nonEmptyIntArray, list(env, PredefinedType.NEVER))));
+
+        // [1, "a"] is in neither int[] nor [string, (int|string)...]
+        SemType intOrStringArray = list(env, INT_OR_STRING);
+        SemType stringFirst = list(env, INT_OR_STRING, PredefinedType.STRING);
+        Assert.assertFalse(Core.isSubtype(tc, intOrStringArray, Core.union(intArray, stringFirst)));
+        SemType intFirst = list(env, INT_OR_STRING, PredefinedType.INT);
+        SemType emptyList = list(env, PredefinedType.NEVER);
+        Assert.assertTrue(Core.isSubtype(tc, intOrStringArray,
+                Core.union(emptyList, Core.union(intFirst, stringFirst))));
+    }
+
+    @Test
+    public void testRecursiveListType() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        // type IntList [int, IntList?];
+        RecAtom ra = env.recListAtom();
+        SemType intList = PredefinedType.uniformSubtype(UniformTypeCode.UT_LIST_RW, BddCommonOps.bddAtom(ra));
+        env.setRecListAtomType(ra, new ListAtomicType(
+                new ArrayList<>(Arrays.asList(PredefinedType.INT, Core.union(PredefinedType.NIL, intList))),
+                PredefinedType.NEVER));
+        Assert.assertFalse(Core.isEmpty(tc, intList));
+        Assert.assertTrue(Core.isSubtype(tc, intList, list(env, PredefinedType.NEVER, PredefinedType.INT,
+                PredefinedType.TOP)));
+        Assert.assertFalse(Core.isSubtype(tc, intList, list(env, PredefinedType.NEVER, PredefinedType.INT,
+                PredefinedType.NIL)));
+    }
+
+    @Test
+    public void testMappingSubtypes() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        SemType intRecord = mapping(env, PredefinedType.NEVER, "a", PredefinedType.INT);
+        SemType stringRecord = mapping(env, PredefinedType.NEVER, "a", PredefinedType.STRING);
+        SemType wideRecord = mapping(env, PredefinedType.NEVER, "a", INT_OR_STRING);
+        Assert.assertFalse(Core.isEmpty(tc, intRecord));
+        Assert.assertTrue(Core.isSubtype(tc, intRecord, wideRecord));
+        Assert.assertFalse(Core.isSubtype(tc, wideRecord, intRecord));
+        Assert.assertTrue(Core.isSubtype(tc, wideRecord, Core.union(intRecord, stringRecord)));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intRecord, stringRecord)));
+        Assert.assertTrue(Core.isEmpty(tc,
+                Core.intersect(intRecord, mapping(env, PredefinedType.NEVER, "b", PredefinedType.INT))));
+
+        SemType intMap = mapping(env, PredefinedType.INT);
+        Assert.assertTrue(Core.isSubtype(tc, intRecord, intMap));
+        // the empty mapping is not in the record
+        Assert.assertFalse(Core.isSubtype(tc, intMap, intRecord));
+        Assert.assertFalse(Core.isSubtype(tc, intMap, mapping(env, PredefinedType.STRING)));
+    }
+
+    @Test
+    public void testReadOnlyListAndMappingSubtypes() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        SemType intStringTuple = readOnlyList(env, PredefinedType.NEVER, PredefinedType.INT, PredefinedType.STRING);
+        SemType wideTuple = readOnlyList(env, PredefinedType.NEVER, INT_OR_STRING, PredefinedType.STRING);
+        Assert.assertFalse(Core.isEmpty(tc, intStringTuple));
+        Assert.assertTrue(Core.isSubtype(tc, intStringTuple, wideTuple));
+        Assert.assertFalse(Core.isSubtype(tc, wideTuple, intStringTuple));
+        Assert.assertTrue(Core.isSubtype(tc, intStringTuple, PredefinedType.LIST));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intStringTuple,
+                readOnlyList(env, PredefinedType.NEVER, PredefinedType.STRING, PredefinedType.STRING))));
+
+        SemType intRecord = readOnlyMapping(env, PredefinedType.NEVER, "a", PredefinedType.INT);
+        SemType wideRecord = readOnlyMapping(env, PredefinedType.NEVER, "a", INT_OR_STRING);
+        Assert.assertFalse(Core.isEmpty(tc, intRecord));
+        Assert.assertTrue(Core.isSubtype(tc, intRecord, wideRecord));
+        Assert.assertFalse(Core.isSubtype(tc, wideRecord, intRecord));
+        Assert.assertTrue(Core.isSubtype(tc, intRecord, PredefinedType.MAPPING));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intRecord,
+                readOnlyMapping(env, PredefinedType.NEVER, "a", PredefinedType.STRING))));
+
+        // read-only and read/write subtypes of the same shape are disjoint
+        SemType rwTuple = list(env, PredefinedType.NEVER, PredefinedType.INT, PredefinedType.STRING);
+        SemType rwRecord = mapping(env, PredefinedType.NEVER, "a", PredefinedType.INT);
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intStringTuple, rwTuple)));
+        Assert.assertFalse(Core.isSubtype(tc, intStringTuple, rwTuple));
+        Assert.assertTrue(Core.isEmpty(tc, Core.intersect(intRecord, rwRecord)));
+        Assert.assertTrue(Core.isSubtype(tc, Core.union(intStringTuple, rwTuple), PredefinedType.LIST));
+    }
+
+    @Test
+    public void testFunctionSubtypes() {
+        Env env = new Env();
+        TypeCheckContext tc = new TypeCheckContext(env);
+        SemType intToString = function(env, PredefinedType.INT, PredefinedType.STRING);
+        Assert.assertFalse(Core.isEmpty(tc, intToString));
+        // return types are covariant
+        SemType intToIntOrString = function(env, PredefinedType.INT, INT_OR_STRING);
+        Assert.assertTrue(Core.isSubtype(tc, intToString, intToIntOrString));
+        Assert.assertFalse(Core.isSubtype(tc, intToIntOrString, intToString));
+        // parameter types are contravariant
+        SemType intOrStringToString = function(env, INT_OR_STRING, PredefinedType.STRING);
+        Assert.assertTrue(Core.isSubtype(tc, intOrStringToString, intToString));
+        Assert.assertFalse(Core.isSubtype(tc, intToString, intOrStringToString));
+
+        SemType intToInt = function(env, PredefinedType.INT, PredefinedType.INT);
+        SemType stringToString = function(env, PredefinedType.STRING, PredefinedType.STRING);
+        SemType overloaded = Core.intersect(intToInt, stringToString);
+        Assert.assertFalse(Core.isEmpty(tc, overloaded));
+        Assert.assertTrue(Core.isSubtype(tc, overloaded, intToInt));
+        Assert.assertTrue(Core.isSubtype(tc, overloaded, function(env, INT_OR_STRING, INT_OR_STRING)));
+        Assert.assertFalse(Core.isSubtype(tc, overloaded, intToString));
+    }
+
+    private static SemType list(Env env, SemType rest, SemType... members) {
+        ListAtomicType atomicType = new ListAtomicType(new ArrayList<>(Arrays.asList(members)), rest);
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_LIST_RW,
+                BddCommonOps.bddAtom(env.listAtom(atomicType)));
+    }
+
+    private static SemType readOnlyList(Env env, SemType rest, SemType... members) {
+        ListAtomicType atomicType = new ListAtomicType(new ArrayList<>(Arrays.asList(members)), rest);
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_LIST_RO,
+                BddCommonOps.bddAtom(env.listAtom(atomicType)));
+    }
+
+    private static SemType mapping(Env env, SemType rest) {
+        MappingAtomicType atomicType = MappingAtomicType.from(new String[]{}, new SemType[]{}, rest);
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_MAPPING_RW,
+                BddCommonOps.bddAtom(env.mappingAtom(atomicType)));
+    }
+
+    private static SemType mapping(Env env, SemType rest, String name, SemType type) {
+        MappingAtomicType atomicType = MappingAtomicType.from(new String[]{name}, new SemType[]{type}, rest);
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_MAPPING_RW,
+                BddCommonOps.bddAtom(env.mappingAtom(atomicType)));
+    }
+
+    private static SemType readOnlyMapping(Env env, SemType rest, String name, SemType type) {
+        MappingAtomicType atomicType = MappingAtomicType.from(new String[]{name}, new SemType[]{type}, rest);
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_MAPPING_RO,
+                BddCommonOps.bddAtom(env.mappingAtom(atomicType)));
+    }
+
+    private static SemType function(Env env, SemType paramType, SemType retType) {
+        return PredefinedType.uniformSubtype(UniformTypeCode.UT_FUNCTION,
+                BddCommonOps.bddAtom(env.functionAtom(FunctionAtomicType.from(paramType, retType))));
+    }
+}
@@ -75,7 +75,11 @@ public class BCompileUtil {
     }
 
     public static CompileResult compile(String sourceFilePath) {
-        Project project = loadProject(sourceFilePath);
+        return compile(sourceFilePath, BuildOptions.builder().build());
+    }
+
+    public static CompileResult compile(String sourceFilePath, BuildOptions buildOptions) {
+        Project project = loadProject(sourceFilePath, buildOptions);
 
         Package currentPackage = project.currentPackage();
         JBallerinaBackend jBallerinaBackend = jBallerinaBackend(currentPackage);
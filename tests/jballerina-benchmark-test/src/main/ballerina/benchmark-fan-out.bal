@@ -0,0 +1,62 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Fans out FAN_OUT strands from a single strand and waits for all of them, once per iteration. Run it with
+// BALLERINA_SCHEDULER_MODE set to `global` and to `work-stealing` to compare how the strands of a single parent are
+// distributed among the workers.
+
+const int FAN_OUT = 100;
+const int PRODUCTS_PER_STRAND = 100;
+
+function sumOfProducts(int value) returns int {
+    int sum = 0;
+    int i = 0;
+    while (i < PRODUCTS_PER_STRAND) {
+        sum += value * i;
+        i += 1;
+    }
+    return sum;
+}
+
+function fanOutFanIn() returns int {
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < FAN_OUT) {
+        futures.push(start sumOfProducts(i));
+        i += 1;
+    }
+    int sum = 0;
+    foreach future<int> f in futures {
+        sum += wait f;
+    }
+    return sum;
+}
+
+public function benchmarkFanOutFanIn(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = fanOutFanIn();
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = fanOutFanIn();
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
@@ -0,0 +1,88 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Calls to small functions, which are inlined when the package is built with `inlineFunctions` enabled.
+
+function getPersonId(Person person) returns int {
+    return person.id;
+}
+
+function scale(float value) returns float {
+    return value * 1.5 + 0.5;
+}
+
+function isGreater(float a, float b) returns boolean {
+    return a > b;
+}
+
+public function benchmarkFieldAccessFunctionCall(int warmupCount, int benchmarkCount) returns int {
+    Person p = {id: 1, fname: "FName", lname: "LName"};
+    int sum = 0;
+    int i = 0;
+    while (i < warmupCount) {
+        sum += getPersonId(p);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        sum += getPersonId(p);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkFloatArithmeticFunctionCall(int warmupCount, int benchmarkCount) returns int {
+    float value = 0.0;
+    int i = 0;
+    while (i < warmupCount) {
+        value = scale(value) / 2.0;
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        value = scale(value) / 2.0;
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkComparisonFunctionCall(int warmupCount, int benchmarkCount) returns int {
+    float max = 0.0;
+    float value = 0.0;
+    int i = 0;
+    while (i < warmupCount) {
+        value += 0.5;
+        if (isGreater(value, max)) {
+            max = value;
+        }
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        value += 0.5;
+        if (isGreater(value, max)) {
+            max = value;
+        }
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
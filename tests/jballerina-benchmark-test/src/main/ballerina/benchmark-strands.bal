@@ -0,0 +1,58 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Spawns a million strands per iteration, to measure the time and the GC pressure of scheduling them. The waiting
+// strand is blocked and unblocked by the scheduler whenever it waits for a strand which has not completed yet.
+
+const int STRAND_COUNT = 1000000;
+const int STRAND_BATCH_SIZE = 1000;
+
+function square(int value) returns int {
+    return value * value;
+}
+
+function spawnStrands(int count) returns int {
+    int sum = 0;
+    future<int>[] futures = [];
+    int i = 0;
+    while (i < count) {
+        futures.push(start square(i % 100));
+        i += 1;
+        if (futures.length() == STRAND_BATCH_SIZE || i == count) {
+            foreach future<int> f in futures {
+                sum += wait f;
+            }
+            futures = [];
+        }
+    }
+    return sum;
+}
+
+public function benchmarkStrandSpawn(int warmupCount, int benchmarkCount) returns int {
+    int i = 0;
+    while (i < warmupCount) {
+        _ = spawnStrands(STRAND_COUNT);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        _ = spawnStrands(STRAND_COUNT);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
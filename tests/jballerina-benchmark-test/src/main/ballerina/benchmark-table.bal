@@ -0,0 +1,215 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Measures the put, get, remove and iteration of tables keyed by a single int or string field, against tables of a
+// million rows. Each function runs `warmupCount` and then `benchmarkCount` operations, so that the reported latency
+// is the latency of a single operation on a table of at least TABLE_SIZE rows.
+
+const int TABLE_SIZE = 1000000;
+
+type IntKeyedRow record {|
+    readonly int id;
+    string name;
+|};
+
+type StringKeyedRow record {|
+    readonly string id;
+    int value;
+|};
+
+function getIntKeyedTable(int size) returns table<IntKeyedRow> key(id) {
+    table<IntKeyedRow> key(id) tbl = table [];
+    int i = 0;
+    while (i < size) {
+        tbl.put({id: i, name: "Name"});
+        i += 1;
+    }
+    return tbl;
+}
+
+function getStringKeys(int count) returns string[] {
+    string[] keys = [];
+    int i = 0;
+    while (i < count) {
+        keys.push("key" + i.toString());
+        i += 1;
+    }
+    return keys;
+}
+
+function getStringKeyedTable(string[] keys, int size) returns table<StringKeyedRow> key(id) {
+    table<StringKeyedRow> key(id) tbl = table [];
+    int i = 0;
+    while (i < size) {
+        tbl.put({id: keys[i], value: i});
+        i += 1;
+    }
+    return tbl;
+}
+
+public function benchmarkIntKeyedTablePut(int warmupCount, int benchmarkCount) returns int {
+    // New rows are put after the first TABLE_SIZE rows, so the index grows while the table is benchmarked
+    table<IntKeyedRow> key(id) tbl = getIntKeyedTable(TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        tbl.put({id: TABLE_SIZE + i, name: "Name"});
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    while (i < warmupCount + benchmarkCount) {
+        tbl.put({id: TABLE_SIZE + i, name: "Name"});
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkIntKeyedTableGet(int warmupCount, int benchmarkCount) returns int {
+    table<IntKeyedRow> key(id) tbl = getIntKeyedTable(TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        IntKeyedRow row = tbl.get(i % TABLE_SIZE);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        IntKeyedRow row = tbl.get(i % TABLE_SIZE);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkIntKeyedTableRemove(int warmupCount, int benchmarkCount) returns int {
+    // Every row is removed only once, so the table is filled with enough rows to keep TABLE_SIZE rows at the end
+    table<IntKeyedRow> key(id) tbl = getIntKeyedTable(TABLE_SIZE + warmupCount + benchmarkCount);
+    int i = 0;
+    while (i < warmupCount) {
+        IntKeyedRow row = tbl.remove(i);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    while (i < warmupCount + benchmarkCount) {
+        IntKeyedRow row = tbl.remove(i);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkIntKeyedTableIterate(int warmupCount, int benchmarkCount) returns int {
+    table<IntKeyedRow> key(id) tbl = getIntKeyedTable(TABLE_SIZE);
+    int sum = iterateIntKeyedTable(tbl, warmupCount);
+
+    int startTime = nanoTime();
+    sum += iterateIntKeyedTable(tbl, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+// Visits `count` rows of the table, starting over from the first row whenever the last row is visited.
+function iterateIntKeyedTable(table<IntKeyedRow> key(id) tbl, int count) returns int {
+    int sum = 0;
+    int visited = 0;
+    while (visited < count) {
+        foreach IntKeyedRow row in tbl {
+            if (visited == count) {
+                break;
+            }
+            sum += row.id;
+            visited += 1;
+        }
+    }
+    return sum;
+}
+
+public function benchmarkStringKeyedTablePut(int warmupCount, int benchmarkCount) returns int {
+    // Keys are created up front, so that creating them is not benchmarked
+    string[] keys = getStringKeys(TABLE_SIZE + warmupCount + benchmarkCount);
+    table<StringKeyedRow> key(id) tbl = getStringKeyedTable(keys, TABLE_SIZE);
+    int i = TABLE_SIZE;
+    while (i < TABLE_SIZE + warmupCount) {
+        tbl.put({id: keys[i], value: i});
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    while (i < TABLE_SIZE + warmupCount + benchmarkCount) {
+        tbl.put({id: keys[i], value: i});
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringKeyedTableGet(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = getStringKeys(TABLE_SIZE);
+    table<StringKeyedRow> key(id) tbl = getStringKeyedTable(keys, TABLE_SIZE);
+    int i = 0;
+    while (i < warmupCount) {
+        StringKeyedRow row = tbl.get(keys[i % TABLE_SIZE]);
+        i += 1;
+    }
+
+    i = 0;
+    int startTime = nanoTime();
+    while (i < benchmarkCount) {
+        StringKeyedRow row = tbl.get(keys[i % TABLE_SIZE]);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringKeyedTableRemove(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = getStringKeys(TABLE_SIZE + warmupCount + benchmarkCount);
+    table<StringKeyedRow> key(id) tbl = getStringKeyedTable(keys, TABLE_SIZE + warmupCount + benchmarkCount);
+    int i = 0;
+    while (i < warmupCount) {
+        StringKeyedRow row = tbl.remove(keys[i]);
+        i += 1;
+    }
+
+    int startTime = nanoTime();
+    while (i < warmupCount + benchmarkCount) {
+        StringKeyedRow row = tbl.remove(keys[i]);
+        i += 1;
+    }
+    return (nanoTime() - startTime);
+}
+
+public function benchmarkStringKeyedTableIterate(int warmupCount, int benchmarkCount) returns int {
+    string[] keys = getStringKeys(TABLE_SIZE);
+    table<StringKeyedRow> key(id) tbl = getStringKeyedTable(keys, TABLE_SIZE);
+    int sum = iterateStringKeyedTable(tbl, warmupCount);
+
+    int startTime = nanoTime();
+    sum += iterateStringKeyedTable(tbl, benchmarkCount);
+    return (nanoTime() - startTime);
+}
+
+function iterateStringKeyedTable(table<StringKeyedRow> key(id) tbl, int count) returns int {
+    int sum = 0;
+    int visited = 0;
+    while (visited < count) {
+        foreach StringKeyedRow row in tbl {
+            if (visited == count) {
+                break;
+            }
+            sum += row.value;
+            visited += 1;
+        }
+    }
+    return sum;
+}
@@ -0,0 +1,51 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+type BenchmarkJsonRecord record {|
+    int id;
+    string name;
+    decimal score;
+    boolean active;
+    string[] tags;
+|};
+
+type BenchmarkJsonRecords BenchmarkJsonRecord[];
+
+final json[] benchmarkJsonValues = createBenchmarkJsonValues(1000);
+final string benchmarkJsonValuesString = createBenchmarkJsonValues(100).toJsonString();
+
+public function benchmarkJsonArrayToJsonString() {
+    string result = benchmarkJsonValues.toJsonString();
+}
+
+public function benchmarkJsonMapToJsonString() {
+    map<json> value = {id: 1001, name: "John Doe", email: "john@example.com", active: true, score: 7.5,
+        address: {city: "Colombo", zip: "00300"}, tags: ["a", "b", "c"]};
+    string result = value.toJsonString();
+}
+
+public function benchmarkJsonStringToRecords() {
+    BenchmarkJsonRecords|error result = benchmarkJsonValuesString.fromJsonStringWithType(BenchmarkJsonRecords);
+}
+
+function createBenchmarkJsonValues(int count) returns json[] {
+    json[] values = [];
+    foreach int i in 0 ..< count {
+        values.push({id: i, name: "name-" + i.toString(), score: <float>i * 1.5, active: true, tags: ["a", "b"]});
+    }
+    return values;
+}
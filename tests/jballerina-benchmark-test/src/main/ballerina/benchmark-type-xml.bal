@@ -0,0 +1,32 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.'xml;
+
+final string benchmarkXmlDocumentString = createBenchmarkXmlDocumentString(1000);
+
+public function benchmarkXmlFromString() {
+    xml|error result = 'xml:fromString(benchmarkXmlDocumentString);
+}
+
+function createBenchmarkXmlDocumentString(int count) returns string {
+    string document = "<orders xmlns:x=\"http://x.org\">";
+    foreach int i in 0 ..< count {
+        document += "<order id=\"" + i.toString() + "\"><customer>Customer " + (i % 100).toString() +
+            "</customer><x:amount>" + i.toString() + ".50</x:amount><status>shipped</status><note/></order>";
+    }
+    return document + "</orders>";
+}
@@ -36,6 +36,21 @@ public function registerSingleExecFunctions() {
     addSingleExecFunction("benchmarkJoinWithQuery", benchmarkJoinWithQuery);
     addSingleExecFunction("benchmarkJoinWithForeach", benchmarkJoinWithForeach);
     addSingleExecFunction("benchmarkJoinWithWhile", benchmarkJoinWithWhile);
+    addSingleExecFunction("benchmarkFieldAccessFunctionCall", benchmarkFieldAccessFunctionCall);
+    addSingleExecFunction("benchmarkFloatArithmeticFunctionCall", benchmarkFloatArithmeticFunctionCall);
+    addSingleExecFunction("benchmarkComparisonFunctionCall", benchmarkComparisonFunctionCall);
+    addSingleExecFunction("benchmarkAsyncCallAfterLocks", benchmarkAsyncCallAfterLocks);
+    addSingleExecFunction("benchmarkAsyncCallInsideLockOfOtherModule", benchmarkAsyncCallInsideLockOfOtherModule);
+    addSingleExecFunction("benchmarkStrandSpawn", benchmarkStrandSpawn);
+    addSingleExecFunction("benchmarkFanOutFanIn", benchmarkFanOutFanIn);
+    addSingleExecFunction("benchmarkIntKeyedTablePut", benchmarkIntKeyedTablePut);
+    addSingleExecFunction("benchmarkIntKeyedTableGet", benchmarkIntKeyedTableGet);
+    addSingleExecFunction("benchmarkIntKeyedTableRemove", benchmarkIntKeyedTableRemove);
+    addSingleExecFunction("benchmarkIntKeyedTableIterate", benchmarkIntKeyedTableIterate);
+    addSingleExecFunction("benchmarkStringKeyedTablePut", benchmarkStringKeyedTablePut);
+    addSingleExecFunction("benchmarkStringKeyedTableGet", benchmarkStringKeyedTableGet);
+    addSingleExecFunction("benchmarkStringKeyedTableRemove", benchmarkStringKeyedTableRemove);
+    addSingleExecFunction("benchmarkStringKeyedTableIterate", benchmarkStringKeyedTableIterate);
 }
 
 public function registerMultiExecFunctions() {
@@ -55,6 +70,10 @@ public function registerMultiExecFunctions() {
     addMultiExecFunction("benchmarkStringIndexOf", benchmarkStringIndexOf);
     addMultiExecFunction("benchmarkStringEqualsIgnoreCase", benchmarkStringEqualsIgnoreCase);
     addMultiExecFunction("benchmarkStringConcat", benchmarkStringConcat);
+    addMultiExecFunction("benchmarkJsonArrayToJsonString", benchmarkJsonArrayToJsonString);
+    addMultiExecFunction("benchmarkJsonMapToJsonString", benchmarkJsonMapToJsonString);
+    addMultiExecFunction("benchmarkJsonStringToRecords", benchmarkJsonStringToRecords);
+    addMultiExecFunction("benchmarkXmlFromString", benchmarkXmlFromString);
     addMultiExecFunction("benchmarkFloatAddition", benchmarkFloatAddition);
     addMultiExecFunction("benchmarkFloatAdditionWithReturn", benchmarkFloatAdditionWithReturn);
     addMultiExecFunction("benchmarkFloatMultiplication", benchmarkFloatMultiplication);
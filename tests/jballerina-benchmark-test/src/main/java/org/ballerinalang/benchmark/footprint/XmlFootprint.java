@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://wso2.com) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.benchmark.footprint;
+
+import io.ballerina.runtime.api.types.XmlNodeType;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BXml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.lang.ref.Reference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Measures the heap retained by an XML document parsed with {@link XmlUtils#parse(InputStream)}, and the footprint
+ * of each node of it.
+ * <p>
+ * Usage: {@code XmlFootprint [<document_size_in_MB> [<document_path>]]}. Without a document path, a document of the
+ * given size (100 MB by default) is generated in a temporary file, with the same layout as the document of the
+ * {@code benchmarkXmlFromString} benchmark. Run it with a heap large enough to hold the parsed document.
+ *
+ * @since 2.0.0
+ */
+public class XmlFootprint {
+
+    private static final long MB = 1024 * 1024;
+    private static final int DEFAULT_DOCUMENT_SIZE_MB = 100;
+    private static final int MAX_GC_ATTEMPTS = 10;
+
+    private XmlFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        PrintStream out = System.out;
+        long documentSize = (args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_DOCUMENT_SIZE_MB) * MB;
+        boolean generated = args.length < 2;
+        Path document = generated ? generateDocument(documentSize) : Paths.get(args[1]);
+        try {
+            long heapBefore = usedHeapAfterGc();
+            long startTime = System.nanoTime();
+            BXml xml;
+            try (InputStream inputStream = Files.newInputStream(document)) {
+                xml = XmlUtils.parse(inputStream);
+            }
+            long parseTime = System.nanoTime() - startTime;
+            long retainedHeap = usedHeapAfterGc() - heapBefore;
+            long nodes = countNodes(xml);
+            // Keep the document reachable until the retained heap is measured
+            Reference.reachabilityFence(xml);
+
+            out.println("Document size (MB): " + Files.size(document) / MB);
+            out.println("Nodes: " + nodes);
+            out.println("Parse time (ms): " + parseTime / 1_000_000);
+            out.println("Retained heap (MB): " + retainedHeap / MB);
+            out.println("Retained heap per node (bytes): " + retainedHeap / nodes);
+        } finally {
+            if (generated) {
+                Files.deleteIfExists(document);
+            }
+        }
+    }
+
+    private static Path generateDocument(long size) throws IOException {
+        Path document = Files.createTempFile("xml-footprint", ".xml");
+        try (Writer writer = Files.newBufferedWriter(document, StandardCharsets.UTF_8)) {
+            writer.write("<orders xmlns:x=\"http://x.org\">");
+            long written = 0;
+            for (int i = 0; written < size; i++) {
+                String order = "<order id=\"" + i + "\"><customer>Customer " + (i % 100) + "</customer><x:amount>" +
+                        i + ".50</x:amount><status>shipped</status><note/></order>";
+                writer.write(order);
+                written += order.length();
+            }
+            writer.write("</orders>");
+        }
+        return document;
+    }
+
+    private static long countNodes(BXml xml) {
+        XmlNodeType nodeType = xml.getNodeType();
+        if (nodeType == XmlNodeType.SEQUENCE) {
+            long count = 0;
+            for (int i = 0; i < xml.size(); i++) {
+                count += countNodes(xml.getItem(i));
+            }
+            return count;
+        }
+        if (nodeType == XmlNodeType.ELEMENT) {
+            return 1 + countNodes(xml.children());
+        }
+        return 1;
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        // Collect until the used heap does not shrink any further, as a single request may not collect everything
+        for (int i = 0; i < MAX_GC_ATTEMPTS; i++) {
+            System.gc();
+            Thread.sleep(100);
+            long previousUsedHeap = usedHeap;
+            usedHeap = runtime.totalMemory() - runtime.freeMemory();
+            if (usedHeap >= previousUsedHeap) {
+                break;
+            }
+        }
+        return usedHeap;
+    }
+}
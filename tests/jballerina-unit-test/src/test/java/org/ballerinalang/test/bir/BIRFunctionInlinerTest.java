@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRFunctionInliner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test the calls inlined by the {@link BIRFunctionInliner}.
+ */
+public class BIRFunctionInlinerTest {
+
+    private CompileResult result;
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        BuildOptions buildOptions = BuildOptions.builder().setInlineFunctions(true).build();
+        result = BCompileUtil.compile("test-src/bir/function_inliner.bal", buildOptions);
+        Assert.assertEquals(result.getErrorCount(), 0);
+        birPackage = result.getPackageCompilation().defaultModuleBLangPackage().symbol.bir;
+    }
+
+    @Test
+    public void testMultipleReturns() {
+        Object returns = BRunUtil.invoke(result, "testMultipleReturns");
+        Assert.assertEquals(returns.toString(), "positive negative zero");
+        Assert.assertEquals(getCallees("testMultipleReturns"), List.of());
+    }
+
+    @Test
+    public void testPanicsAndTraps() {
+        Object returns = BRunUtil.invoke(result, "testPanicsAndTraps");
+        Assert.assertEquals(returns.toString(),
+                "{ballerina}DivisionByZero, inlining failure, {ballerina}DivisionByZero, 2.5");
+        // functions which may panic are not inlined, while a function which cannot panic is inlined into a trap
+        Assert.assertEquals(getCallees("testPanicsAndTraps"), List.of("divide", "fail", "trapInside"));
+        Assert.assertEquals(getCallees("trapInside"), List.of("divide"));
+    }
+
+    @Test
+    public void testDefaultParameters() {
+        Object returns = BRunUtil.invoke(result, "testDefaultParameters");
+        Assert.assertEquals(returns, 36.0);
+        // functions with default parameters are not inlined
+        Assert.assertEquals(Collections.frequency(getCallees("testDefaultParameters"), "scale"), 2);
+    }
+
+    @Test
+    public void testRecursion() {
+        Object returns = BRunUtil.invoke(result, "testRecursion");
+        Assert.assertEquals(returns.toString(), "120.0 true true");
+        Assert.assertEquals(getCallees("factorial"), List.of("factorial"));
+        Assert.assertEquals(getCallees("isEven"), List.of("isOdd"));
+    }
+
+    @Test
+    public void testLocalNameClashes() {
+        Object returns = BRunUtil.invoke(result, "testLocalNameClashes");
+        Assert.assertEquals(returns, 32.0);
+        Assert.assertEquals(getCallees("testLocalNameClashes"), List.of());
+    }
+
+    // Returns the functions of the module which are still called by the given function, in the order of the calls
+    private List<String> getCallees(String functionName) {
+        List<String> callees = new ArrayList<>();
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (!function.name.value.equals(functionName)) {
+                continue;
+            }
+            for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+                if (basicBlock.terminator instanceof BIRTerminator.Call) {
+                    BIRTerminator.Call call = (BIRTerminator.Call) basicBlock.terminator;
+                    if (birPackage.packageID.equals(call.calleePkg)) {
+                        callees.add(call.name.value);
+                    }
+                }
+            }
+            return callees;
+        }
+        throw new AssertionError("function not found: " + functionName);
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+        birPackage = null;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.bir;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.InstructionKind;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRLockOptimizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test the read-only locks found by the {@link BIRLockOptimizer}.
+ */
+public class BIRLockOptimizerTest {
+
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        BCompileUtil.BIRCompileResult result = BCompileUtil.generateBIR("test-src/bir/lock_optimizer.bal");
+        Assert.assertNotNull(result);
+        birPackage = result.getExpectedBIR();
+    }
+
+    @DataProvider
+    public Object[] readOnlyLockFunctions() {
+        return new Object[]{"readOnlyGlobalRead", "readOnlyMemberReads"};
+    }
+
+    @DataProvider
+    public Object[] mutatingLockFunctions() {
+        return new Object[]{"mutatingGlobalStore", "mutatingMapStore", "mutatingArrayStore", "mutatingObjectStore",
+                "mutatingVirtualCall", "mutatingFunctionPointerCall", "mutatingAsyncCall", "mutatingLangLibCall",
+                "mutatingFunctionCall", "mutatingTrappedStore"};
+    }
+
+    @Test(dataProvider = "readOnlyLockFunctions")
+    public void testReadOnlyLock(String functionName) {
+        List<BIRTerminator.Lock> locks = getLocks(getFunction(functionName));
+        Assert.assertEquals(locks.size(), 1);
+        Assert.assertTrue(locks.get(0).readOnly, functionName);
+    }
+
+    @Test(dataProvider = "mutatingLockFunctions")
+    public void testMutatingLock(String functionName) {
+        List<BIRTerminator.Lock> locks = getLocks(getFunction(functionName));
+        Assert.assertEquals(locks.size(), 1);
+        Assert.assertFalse(locks.get(0).readOnly, functionName);
+    }
+
+    @Test
+    public void testFillingReadInLock() {
+        BIRNode.BIRFunction function = getFunction("readOnlyMemberReads");
+        BIRNonTerminator.FieldAccess arrayLoad = null;
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            for (BIRNonTerminator instruction : basicBlock.instructions) {
+                if (instruction.kind == InstructionKind.ARRAY_LOAD) {
+                    arrayLoad = (BIRNonTerminator.FieldAccess) instruction;
+                }
+            }
+        }
+        Assert.assertNotNull(arrayLoad);
+
+        // a filling read adds the member when it is not present, hence the lock is no longer read-only
+        arrayLoad.fillingRead = true;
+        try {
+            new BIRLockOptimizer().optimizeNode(function);
+            Assert.assertFalse(getLocks(function).get(0).readOnly);
+        } finally {
+            arrayLoad.fillingRead = false;
+            new BIRLockOptimizer().optimizeNode(function);
+        }
+        Assert.assertTrue(getLocks(function).get(0).readOnly);
+    }
+
+    private BIRNode.BIRFunction getFunction(String name) {
+        for (BIRNode.BIRFunction function : birPackage.functions) {
+            if (function.name.value.equals(name)) {
+                return function;
+            }
+        }
+        throw new AssertionError("function not found: " + name);
+    }
+
+    private List<BIRTerminator.Lock> getLocks(BIRNode.BIRFunction function) {
+        List<BIRTerminator.Lock> locks = new ArrayList<>();
+        for (BIRNode.BIRBasicBlock basicBlock : function.basicBlocks) {
+            if (basicBlock.terminator.kind == InstructionKind.LOCK) {
+                locks.add((BIRTerminator.Lock) basicBlock.terminator);
+            }
+        }
+        return locks;
+    }
+}
@@ -71,6 +71,16 @@ public class FunctionTest {
         BRunUtil.invoke(result, "testRecursiveFunctionWhichYields");
     }
 
+    @Test
+    public void testTemporariesAcrossYield() {
+        BRunUtil.invoke(result, "testTemporariesAcrossYield");
+    }
+
+    @Test
+    public void testUnboxedTemporariesAcrossYield() {
+        BRunUtil.invoke(result, "testUnboxedTemporariesAcrossYield");
+    }
+
     @AfterClass
     public void tearDown() {
         result = null;
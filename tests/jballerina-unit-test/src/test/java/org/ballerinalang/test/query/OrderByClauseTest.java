@@ -231,6 +231,30 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with order by clause followed by a limit clause")
+    public void testQueryExprWithOrderByAndLimitClause() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClause");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by clause on NaN keys followed by a limit clause")
+    public void testQueryExprWithOrderByAndLimitClauseWithNaN() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClauseWithNaN");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
+    @Test(description = "Test query expr with order by clause followed by a limit clause which depends on the frame")
+    public void testQueryExprWithOrderByAndFrameDependentLimitClause() {
+        Object returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByAndFrameDependentLimitClause");
+        Assert.assertNotNull(returnValues);
+
+        Assert.assertTrue((Boolean) returnValues);
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
@@ -63,6 +63,50 @@ public class RecordAccessWithIndexTest {
         Assert.assertEquals(returns.get(2), 25L);
     }
 
+    @Test(description = "Test reading required fields of a record directly")
+    public void testDirectFieldAccessOfRequiredFields() {
+        BArray returns = (BArray) BRunUtil.invoke(compileResult, "testDirectFieldAccessOfRequiredFields");
+        Assert.assertEquals(returns.get(0).toString(), "Volvo");
+        Assert.assertEquals(returns.get(1), 2019L);
+        Assert.assertEquals(returns.get(2), 1200.5);
+        Assert.assertEquals(returns.get(3), false);
+        Assert.assertNull(returns.get(4));
+        Assert.assertEquals(returns.get(5), 1234L);
+        Assert.assertEquals(returns.get(6).toString(), "private");
+        Assert.assertEquals(returns.get(7).toString(), "CAB");
+    }
+
+    @Test(description = "Test reading optional fields of a record")
+    public void testDirectFieldAccessOfOptionalFields() {
+        BArray returns = (BArray) BRunUtil.invoke(compileResult, "testDirectFieldAccessOfOptionalFields");
+        Assert.assertNull(returns.get(0));
+        Assert.assertNull(returns.get(1));
+        Assert.assertEquals(returns.get(2), 4L);
+        Assert.assertEquals(returns.get(3), 4L);
+    }
+
+    @Test(description = "Test reading rest fields of a record")
+    public void testDirectFieldAccessOfRestFields() {
+        BArray returns = (BArray) BRunUtil.invoke(compileResult, "testDirectFieldAccessOfRestFields");
+        Assert.assertEquals(returns.get(0).toString(), "red");
+        Assert.assertNull(returns.get(1));
+        Assert.assertEquals(returns.get(2).toString(), "timber");
+        Assert.assertNull(returns.get(3));
+        Assert.assertEquals(returns.get(4), 18.5);
+    }
+
+    @Test(description = "Test reading fields of included records directly")
+    public void testDirectFieldAccessOfIncludedFields() {
+        BArray returns = (BArray) BRunUtil.invoke(compileResult, "testDirectFieldAccessOfIncludedFields");
+        Assert.assertEquals(returns.get(0).toString(), "Volvo");
+        Assert.assertEquals(returns.get(1), 2019L);
+        Assert.assertEquals(returns.get(2).toString(), "XC40");
+        Assert.assertEquals(returns.get(3).toString(), "Volvo");
+        Assert.assertEquals(returns.get(4), 2019L);
+        Assert.assertEquals(returns.get(5), 98000.0);
+        Assert.assertEquals(returns.get(6).toString(), "Bob");
+    }
+
     @Test(description = "Test using expressions as index for record arrays")
     public void testExpressionAsIndex() {
         Object returns = BRunUtil.invoke(compileResult, "testExpressionAsIndex");
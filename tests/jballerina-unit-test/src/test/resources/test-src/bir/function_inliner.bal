@@ -0,0 +1,103 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+function classify(float value) returns string {
+    if value > 0.0 {
+        return "positive";
+    }
+    if value < 0.0 {
+        return "negative";
+    }
+    return "zero";
+}
+
+function testMultipleReturns() returns string {
+    return classify(2.5) + " " + classify(-1.0) + " " + classify(0.0);
+}
+
+function divide(int a, int b) returns int {
+    return a / b;
+}
+
+function fail(string message) returns float {
+    panic error(message);
+}
+
+function trapInside(int a, int b) returns int|error {
+    return trap divide(a, b);
+}
+
+function half(float value) returns float {
+    return value / 2.0;
+}
+
+function testPanicsAndTraps() returns string {
+    int|error quotient = trap divide(1, 0);
+    float|error failure = trap fail("inlining failure");
+    int|error trapped = trapInside(6, 0);
+    // an inlined call inside a trapped expression
+    float|error halved = trap half(5.0);
+    return (quotient is error ? quotient.message() : "no error") + ", "
+        + (failure is error ? failure.message() : "no error") + ", "
+        + (trapped is error ? trapped.message() : "no error") + ", "
+        + (halved is float ? halved.toString() : "error");
+}
+
+function scale(float value, float factor = 2.0) returns float {
+    return value * factor;
+}
+
+function testDefaultParameters() returns float {
+    return scale(3.0) + scale(3.0, 10.0);
+}
+
+function factorial(float n) returns float {
+    if n <= 1.0 {
+        return 1.0;
+    }
+    return n * factorial(n - 1.0);
+}
+
+function isEven(int n) returns boolean {
+    if n == 0 {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if n == 0 {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function testRecursion() returns string {
+    return factorial(5.0).toString() + " " + isEven(10).toString() + " " + isOdd(7).toString();
+}
+
+function addHalf(float x) returns float {
+    float result = x / 2.0;
+    return x + result;
+}
+
+function testLocalNameClashes() returns float {
+    float x = 10.0;
+    float result = 1.0;
+    float first = addHalf(4.0);
+    float second = addHalf(x);
+    return x + result + first + second;
+}
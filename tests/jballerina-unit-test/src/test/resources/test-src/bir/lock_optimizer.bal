@@ -0,0 +1,115 @@
+// Copyright (c) 2021 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+class Counter {
+    int count = 0;
+
+    function getCount() returns int {
+        return self.count;
+    }
+}
+
+int count = 0;
+map<int> counts = {};
+int[] values = [];
+Counter counter = new;
+function () returns int countFunction = getCount;
+
+function readOnlyGlobalRead() returns int {
+    lock {
+        return count;
+    }
+}
+
+function readOnlyMemberReads() returns int {
+    lock {
+        int total = values[0] + counts.get("a") + counter.count;
+        if values.length() > 1 && counts.hasKey("b") {
+            total += values[1];
+        }
+        return total;
+    }
+}
+
+function mutatingGlobalStore() {
+    lock {
+        count = count + 1;
+    }
+}
+
+function mutatingMapStore() {
+    lock {
+        counts["a"] = 1;
+    }
+}
+
+function mutatingArrayStore() {
+    lock {
+        values[0] = 1;
+    }
+}
+
+function mutatingObjectStore() {
+    lock {
+        counter.count = 1;
+    }
+}
+
+function mutatingVirtualCall() returns int {
+    lock {
+        return counter.getCount();
+    }
+}
+
+function mutatingFunctionPointerCall() returns int {
+    lock {
+        return countFunction();
+    }
+}
+
+function mutatingAsyncCall() returns future<int> {
+    lock {
+        return start getCount();
+    }
+}
+
+function mutatingLangLibCall() {
+    lock {
+        values.push(count);
+    }
+}
+
+function mutatingFunctionCall() returns int {
+    lock {
+        return getCount();
+    }
+}
+
+function mutatingTrappedStore() returns error? {
+    lock {
+        int value = count;
+        error? result = trap store(value);
+        return result;
+    }
+}
+
+function store(int value) {
+    values[0] = value;
+}
+
+function getCount() returns int {
+    return count;
+}
@@ -95,3 +95,76 @@ function bar(int x, int lim) {
         bar(x + 1, lim);
     }
 }
+
+function testTemporariesAcrossYield() {
+    map<int> m = {};
+    int[] values = [];
+    foreach int i in 0 ..< 5 {
+        m["k" + i.toString()] = sum(i, getAfterYield(i * 2));
+        values.push(i + getAfterYield(i));
+    }
+    assertEquality(12, m["k4"]);
+    assertEquality(<int[]>[0, 2, 4, 6, 8], values);
+
+    int|error result = trap divideAfterYield(10, 0);
+    assertEquality(true, result is error);
+    result = trap divideAfterYield(10, 2);
+    assertEquality(5, result);
+}
+
+function testUnboxedTemporariesAcrossYield() {
+    int total = 0;
+    float fTotal = 0.0;
+    boolean allEven = true;
+    foreach int i in 0 ..< 5 {
+        // the union-typed temporaries only carry ints, floats and booleans in a function which yields
+        int value = <int><any>(i * 2);
+        float fValue = <float><anydata>(<float>i / 2.0);
+        boolean even = <boolean><int|boolean>(value % 2 == 0);
+        total += getAfterYield(value) + <int><int|string>getAfterYield(i);
+        fTotal += fValue;
+        allEven = allEven && even;
+    }
+    assertEquality(30, total);
+    assertEquality(5.0, fTotal);
+    assertEquality(true, allEven);
+
+    any|error result = trap <int><any>castAfterYield("value");
+    assertEquality(true, result is error);
+}
+
+function castAfterYield(any value) returns any {
+    runtime:sleep(0.001);
+    return value;
+}
+
+function sum(int a, int b) returns int {
+    return a + b;
+}
+
+function getAfterYield(int value) returns int {
+    runtime:sleep(0.001);
+    return value;
+}
+
+function divideAfterYield(int a, int b) returns int {
+    runtime:sleep(0.001);
+    return a / b;
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(any|error expected, any|error actual) {
+    if expected is anydata && actual is anydata && expected == actual {
+        return;
+    }
+
+    if expected === actual {
+        return;
+    }
+
+    string expectedValAsString = expected is error ? expected.toString() : expected.toString();
+    string actualValAsString = actual is error ? actual.toString() : actual.toString();
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expectedValAsString + "', found '" + actualValAsString + "'");
+}
@@ -498,6 +498,111 @@ function testQueryExprWithOrderByClauseAndInnerQueries2() returns CustomerProfil
     return customerProfileList;
 }
 
+function testQueryExprWithOrderByAndLimitClause() returns boolean {
+    boolean testPassed = true;
+
+    Student s1 = {id: 1, fname: "John", fee: 2000.56, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: (), fee: 4000.56, impact: 0.4, isUndergrad: false};
+    Student s3 = {id: 3, fname: "Roy", fee: 2000.56, impact: 0.1, isUndergrad: true};
+    Student s4 = {id: 4, fname: "Amy", fee: 3000.56, impact: 0.4, isUndergrad: false};
+    Student s5 = {id: 5, fname: "Roy", fee: 1000.56, impact: 0.2, isUndergrad: true};
+
+    Student[] studentList = [s1, s2, s3, s4, s5];
+
+    // equal keys keep their input order and nil keys are ordered last.
+    Student[] opStudentList = from var student in studentList
+        order by student.impact descending, student.fname
+        limit 3
+        select student;
+    testPassed = testPassed && opStudentList == [s4, s1, s2];
+
+    opStudentList = from var student in studentList
+        order by student.fname descending
+        limit 4
+        select student;
+    testPassed = testPassed && opStudentList == [s3, s5, s1, s4];
+
+    int lmt = 10;
+    opStudentList = from var student in studentList
+        order by student.fee
+        limit lmt
+        select student;
+    testPassed = testPassed && opStudentList == [s5, s1, s3, s4, s2];
+
+    opStudentList = from var student in studentList
+        where student.id > 5
+        order by student.fee
+        limit 2
+        select student;
+    testPassed = testPassed && opStudentList.length() == 0;
+
+    return testPassed;
+}
+
+function testQueryExprWithOrderByAndLimitClauseWithNaN() returns boolean {
+    boolean testPassed = true;
+
+    Student s1 = {id: 1, fname: "John", fee: 2000.56, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: "Jane", fee: float:NaN, impact: 0.4, isUndergrad: false};
+    Student s3 = {id: 3, fname: "Roy", fee: 1000.56, impact: 0.1, isUndergrad: true};
+    Student s4 = {id: 4, fname: "Amy", fee: float:NaN, impact: 0.4, isUndergrad: false};
+    Student s5 = {id: 5, fname: "Roy", fee: 3000.56, impact: 0.2, isUndergrad: true};
+
+    Student[] studentList = [s1, s2, s3, s4, s5];
+
+    // NaN keys are ordered after the other floats in both directions, as without the limit.
+    int[] ids = from var student in studentList
+        order by student.fee
+        limit 4
+        select student.id;
+    testPassed = testPassed && ids == [3, 1, 5, 2];
+
+    ids = from var student in studentList
+        order by student.fee descending
+        limit 3
+        select student.id;
+    testPassed = testPassed && ids == [5, 1, 3];
+
+    ids = from var student in studentList
+        order by student.fee descending
+        limit 5
+        select student.id;
+    int[] allIds = from var student in studentList
+        order by student.fee descending
+        select student.id;
+    testPassed = testPassed && ids == [5, 1, 3, 2, 4] && ids == allIds;
+
+    return testPassed;
+}
+
+function testQueryExprWithOrderByAndFrameDependentLimitClause() returns boolean {
+    boolean testPassed = true;
+
+    Student s1 = {id: 1, fname: "John", fee: 2000.56, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: (), fee: 4000.56, impact: 0.4, isUndergrad: false};
+    Student s3 = {id: 3, fname: "Roy", fee: 2000.56, impact: 0.1, isUndergrad: true};
+    Student s4 = {id: 4, fname: "Amy", fee: 3000.56, impact: 0.4, isUndergrad: false};
+    Student s5 = {id: 5, fname: "Roy", fee: 1000.56, impact: 0.2, isUndergrad: true};
+
+    Student[] studentList = [s1, s2, s3, s4, s5];
+
+    // the limit is evaluated for each ordered frame, not once for the first input frame.
+    Student[] opStudentList = from var student in studentList
+        order by student.fee descending
+        limit student.id
+        select student;
+    testPassed = testPassed && opStudentList == [s2, s4];
+
+    opStudentList = from var student in studentList
+        let int lmt = student.id + 1
+        order by student.fee
+        limit lmt
+        select student;
+    testPassed = testPassed && opStudentList == [s5, s1, s3, s4];
+
+    return testPassed;
+}
+
 function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
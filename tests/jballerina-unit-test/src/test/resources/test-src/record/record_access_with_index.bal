@@ -438,3 +438,57 @@ function testSetFieldOfNonInitStruct () {
     Department dpt = {};
     dpt.dptName = "HR";
 }
+
+type Vehicle record {
+    string make;
+    int year;
+    float mileage;
+    boolean electric = false;
+    string? owner;
+    int doors?;
+};
+
+type Car record {
+    *Vehicle;
+    string model;
+};
+
+type Truck record {|
+    *Vehicle;
+    float capacity;
+    string...;
+|};
+
+type Plate record {|
+    string 'type;
+    string first\-part;
+    int|string number;
+|};
+
+function testDirectFieldAccessOfRequiredFields() returns [string, int, float, boolean, string?, int|string, string,
+        string] {
+    Vehicle vehicle = {make: "Volvo", year: 2019, mileage: 1200.5, owner: ()};
+    Plate plate = {'type: "private", first\-part: "CAB", number: 1234};
+    return [vehicle.make, vehicle["year"], vehicle.mileage, vehicle.electric, vehicle.owner, plate.number,
+        plate.'type, plate.first\-part];
+}
+
+function testDirectFieldAccessOfOptionalFields() returns [int?, int?, int?, int?] {
+    Vehicle withoutDoors = {make: "Volvo", year: 2019, mileage: 1200.5, owner: "Anne"};
+    Vehicle withDoors = {make: "Volvo", year: 2019, mileage: 1200.5, owner: "Anne", doors: 4};
+    return [withoutDoors?.doors, withoutDoors["doors"], withDoors?.doors, withDoors["doors"]];
+}
+
+function testDirectFieldAccessOfRestFields() returns [anydata, anydata, string?, string?, float] {
+    Vehicle vehicle = {make: "Volvo", year: 2019, mileage: 1200.5, owner: (), "color": "red"};
+    Truck truck = {make: "MAN", year: 2015, mileage: 98000.0, owner: "Bob", capacity: 18.5, "cargo": "timber"};
+    return [vehicle["color"], vehicle["wheels"], truck["cargo"], truck["trailer"], truck.capacity];
+}
+
+function testDirectFieldAccessOfIncludedFields() returns [string, int, string, string, int, float, string?] {
+    Car car = {make: "Volvo", year: 2019, mileage: 1200.5, owner: (), model: "XC40"};
+    Truck truck = {make: "MAN", year: 2015, mileage: 98000.0, owner: "Bob", capacity: 18.5};
+    // a value of a subtype is read through the fallback path
+    Vehicle vehicle = car;
+    return [car.make, car.year, car.model, vehicle.make, vehicle.year, truck.mileage, truck.owner];
+}